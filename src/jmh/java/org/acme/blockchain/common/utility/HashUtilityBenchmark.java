@@ -0,0 +1,96 @@
+package org.acme.blockchain.common.utility;
+
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.acme.blockchain.wallet.utility.KeyPairUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hashes used for transaction and block IDs and wallet address derivation.
+ * <p>
+ * The SHA-256d input mirrors the size of the data hashed for a transfer with two inputs, and
+ * {@link #deriveAddress(PublicKeyState)} follows the same SHA-256 then BLAKE2b-256 chain used by the wallet
+ * service. Only the benchmarks hashing a public key take {@link PublicKeyState}, so only they run once per
+ * ML-DSA parameter set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashUtilityBenchmark {
+
+    private static final int TRANSFER_DATA_LENGTH = 512;
+
+    private String transferData;
+
+    private String sha256dHex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.transferData = "a".repeat(TRANSFER_DATA_LENGTH);
+        this.sha256dHex = HashUtility.calculateSHA256d(transferData);
+    }
+
+    @Benchmark
+    public String calculateSHA256d() {
+        return HashUtility.calculateSHA256d(transferData);
+    }
+
+    @Benchmark
+    public byte[] calculateSHA256(PublicKeyState state) {
+        return HashUtility.calculateSHA256(state.publicKeyEncoded);
+    }
+
+    @Benchmark
+    public byte[] calculateBLAKE2b256(PublicKeyState state) {
+        return HashUtility.calculateBLAKE2b256(state.sha256Hash);
+    }
+
+    @Benchmark
+    public Address deriveAddress(PublicKeyState state) {
+        byte[] sha256 = HashUtility.calculateSHA256(state.publicKeyEncoded);
+        byte[] blake2b256 = HashUtility.calculateBLAKE2b256(sha256);
+
+        return new Address(Address.PREFIX + HashUtility.bytesToHex(blake2b256));
+    }
+
+    @Benchmark
+    public byte[] hexToBytes() {
+        return HashUtility.hexToBytes(sha256dHex);
+    }
+
+    /**
+     * A real encoded public key of each ML-DSA parameter set, and its SHA-256 hash.
+     */
+    @State(Scope.Benchmark)
+    public static class PublicKeyState {
+
+        @Param({"ML-DSA-44", "ML-DSA-65", "ML-DSA-87"})
+        private String algorithm;
+
+        private byte[] publicKeyEncoded;
+
+        private byte[] sha256Hash;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.publicKeyEncoded = KeyPairUtility.generateKeyPair(SignatureAlgorithm.fromAlgorithm(algorithm)).getPublic().getEncoded();
+            this.sha256Hash = HashUtility.calculateSHA256(publicKeyEncoded);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.acme.blockchain.wallet.utility;
+
+import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ML-DSA key generation, signing, verification and public key decoding for every supported
+ * parameter set.
+ * <p>
+ * The {@code pooled} benchmarks go through {@link KeyPairUtility}, which reuses {@link Signature} and
+ * {@link KeyFactory} instances bound to the provider instance and a single shared {@link SecureRandom}. The
+ * {@code perCall} benchmarks reproduce the code before pooling: every operation looks the provider up by name
+ * and, when signing, seeds a new {@link SecureRandom}. The message is a SHA-256d transaction hash, as signed
+ * by wallets when submitting transfers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyPairUtilityBenchmark {
+
+    private static final String KEY_PAIR_ALGORITHM = "ML-DSA";
+
+    private static final String BC_PROVIDER = "BC";
+
+    @Param({"ML-DSA-44", "ML-DSA-65", "ML-DSA-87"})
+    private String algorithm;
+
+    private SignatureAlgorithm signatureAlgorithm;
+
+    private KeyPair keyPair;
+
+    private byte[] publicKeyEncoded;
+
+    private byte[] message;
+
+    private byte[] signature;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.signatureAlgorithm = SignatureAlgorithm.fromAlgorithm(algorithm);
+        this.keyPair = KeyPairUtility.generateKeyPair(signatureAlgorithm);
+        this.publicKeyEncoded = keyPair.getPublic().getEncoded();
+        this.message = HashUtility.calculateSHA256d("benchmark").getBytes(StandardCharsets.UTF_8);
+        this.signature = KeyPairUtility.sign(keyPair.getPrivate(), message);
+    }
+
+    @Benchmark
+    public KeyPair generateKeyPair() {
+        return KeyPairUtility.generateKeyPair(signatureAlgorithm);
+    }
+
+    @Benchmark
+    public byte[] signPooled() {
+        return KeyPairUtility.sign(keyPair.getPrivate(), message);
+    }
+
+    @Benchmark
+    public byte[] signPerCall() throws Exception {
+        Signature mlDsa = Signature.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+        mlDsa.initSign(keyPair.getPrivate(), new SecureRandom());
+        mlDsa.update(message);
+        return mlDsa.sign();
+    }
+
+    @Benchmark
+    public boolean verifyPooled() {
+        return KeyPairUtility.verifySignature(signatureAlgorithm, keyPair.getPublic(), message, signature);
+    }
+
+    @Benchmark
+    public boolean verifyPerCall() throws Exception {
+        Signature mlDsa = Signature.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+        mlDsa.initVerify(keyPair.getPublic());
+        mlDsa.update(message);
+        return mlDsa.verify(signature);
+    }
+
+    @Benchmark
+    public PublicKey loadPublicKeyPooled() {
+        return KeyPairUtility.loadPublicKey(publicKeyEncoded);
+    }
+
+    @Benchmark
+    public PublicKey loadPublicKeyPerCall() throws Exception {
+        KeyFactory keyFactory = KeyFactory.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+        return keyFactory.generatePublic(new X509EncodedKeySpec(publicKeyEncoded));
+    }
+}
@@ -0,0 +1,229 @@
+package org.acme.blockchain.block.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransactionModel;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Selects the transactions of a block template from the mempool, maximising fees within a size limit.
+ * <p>
+ * Transfers are chosen by the fee rate of their package: the transfer together with every unconfirmed ancestor
+ * not yet in the template, all of which must be included before it. A low fee parent is therefore mined on the
+ * strength of a high fee child, while a high fee child of an expensive parent is not overrated. When a package is
+ * selected, the packages of its descendants shrink and are re-queued, so the queue only ever holds current rates.
+ * <p>
+ * The encoded size of the selected transfers never exceeds {@code copo.block.max-bytes}, bounding the time to
+ * validate and propagate a block. A package which does not fit is skipped in favour of smaller ones.
+ */
+@Slf4j
+@ApplicationScoped
+public class BlockTemplateService {
+
+    private static final Comparator<PackageEntry> BY_PACKAGE_FEE_RATE_DESCENDING = Comparator
+            .comparingDouble(PackageEntry::feeRate).reversed()
+            .thenComparingInt(entry -> entry.candidate().index);
+
+    private final TransferCacheService transferCache;
+
+    private final long maxBytes;
+
+    @Inject
+    public BlockTemplateService(
+            TransferCacheService transferCache,
+            @ConfigProperty(name = "copo.block.max-bytes") long maxBytes) {
+        this.transferCache = transferCache;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Selects the transactions to mine, each preceded by any unconfirmed transfer whose output it spends.
+     *
+     * @return The selected transactions in the order they must appear in the block.
+     */
+    public List<TransactionModel> selectTransactions() {
+        List<TransactionModel> readyToMine = transferCache.getReadyToMine();
+        List<Candidate> candidates = getCandidates(readyToMine);
+
+        PriorityQueue<PackageEntry> queue = new PriorityQueue<>(BY_PACKAGE_FEE_RATE_DESCENDING);
+        candidates.forEach(candidate -> queue.add(candidate.toEntry()));
+
+        List<TransactionModel> selected = new ArrayList<>();
+        long selectedBytes = 0;
+
+        while (!queue.isEmpty() && selectedBytes < this.maxBytes) {
+            PackageEntry entry = queue.poll();
+            Candidate candidate = entry.candidate();
+
+            if (candidate.isSelected || entry.version() != candidate.version) {
+                continue;
+            }
+
+            if (selectedBytes + candidate.packageSize > this.maxBytes) {
+                continue;
+            }
+
+            for (Candidate member : getPackage(candidate)) {
+                member.isSelected = true;
+                selected.add(member.transaction);
+                selectedBytes += member.size;
+
+                for (Candidate descendant : getDescendants(member)) {
+                    descendant.packageFee -= member.fee;
+                    descendant.packageSize -= member.size;
+                    descendant.version++;
+                    queue.add(descendant.toEntry());
+                }
+            }
+        }
+
+        log.debug("Selected {} of {} transactions ({} bytes) for the block template.",
+                selected.size(), readyToMine.size(), selectedBytes);
+
+        return selected;
+    }
+
+    /**
+     * Links every transaction to its parents and children in the mempool and sizes its package.
+     *
+     * @param readyToMine The mempool, in which parents precede their children.
+     * @return The candidates in mempool order.
+     */
+    private static List<Candidate> getCandidates(List<TransactionModel> readyToMine) {
+        List<Candidate> candidates = new ArrayList<>(readyToMine.size());
+        Map<TransactionHash, Candidate> candidateByHashIdMap = new HashMap<>();
+
+        for (TransactionModel transaction : readyToMine) {
+            Candidate candidate = new Candidate(transaction, candidates.size());
+
+            for (UtxoModel input : transaction.getInputs() != null ? transaction.getInputs() : List.<UtxoModel>of()) {
+                Candidate parent = candidateByHashIdMap.get(input.getId().getTransactionHashId());
+                if (parent != null && !candidate.parents.contains(parent)) {
+                    candidate.parents.add(parent);
+                    parent.children.add(candidate);
+                }
+            }
+
+            candidates.add(candidate);
+            candidateByHashIdMap.put(transaction.getHashId(), candidate);
+        }
+
+        for (Candidate candidate : candidates) {
+            for (Candidate member : getPackage(candidate)) {
+                if (member != candidate) {
+                    candidate.packageFee += member.fee;
+                    candidate.packageSize += member.size;
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Collects a candidate and its unselected ancestors.
+     *
+     * @param candidate The candidate.
+     * @return The package, parents before children.
+     */
+    private static List<Candidate> getPackage(Candidate candidate) {
+        List<Candidate> members = new ArrayList<>();
+        Set<Candidate> visited = new HashSet<>();
+        Deque<Candidate> toVisit = new ArrayDeque<>();
+        toVisit.add(candidate);
+
+        while (!toVisit.isEmpty()) {
+            Candidate next = toVisit.poll();
+            if (next.isSelected || !visited.add(next)) {
+                continue;
+            }
+
+            members.add(next);
+            toVisit.addAll(next.parents);
+        }
+
+        members.sort(Comparator.comparingInt(member -> member.index));
+        return members;
+    }
+
+    /**
+     * Collects the unselected descendants of a candidate.
+     *
+     * @param candidate The candidate.
+     * @return The descendants.
+     */
+    private static Set<Candidate> getDescendants(Candidate candidate) {
+        Set<Candidate> descendants = new HashSet<>();
+        Deque<Candidate> toVisit = new ArrayDeque<>(candidate.children);
+
+        while (!toVisit.isEmpty()) {
+            Candidate next = toVisit.poll();
+            if (!next.isSelected && descendants.add(next)) {
+                toVisit.addAll(next.children);
+            }
+        }
+
+        return descendants;
+    }
+
+    private static final class Candidate {
+
+        private final TransactionModel transaction;
+
+        private final int index;
+
+        private final long fee;
+
+        private final int size;
+
+        private final List<Candidate> parents = new ArrayList<>();
+
+        private final List<Candidate> children = new ArrayList<>();
+
+        private long packageFee;
+
+        private long packageSize;
+
+        private int version;
+
+        private boolean isSelected;
+
+        private Candidate(TransactionModel transaction, int index) {
+            this.transaction = transaction;
+            this.index = index;
+            this.fee = transaction.getFee() != null ? transaction.getFee().toBaseUnits() : 0;
+            this.size = transaction.getEncodedSize();
+            this.packageFee = this.fee;
+            this.packageSize = this.size;
+        }
+
+        private PackageEntry toEntry() {
+            return new PackageEntry(this, (double) this.packageFee / Math.max(1, this.packageSize), this.version);
+        }
+    }
+
+    /**
+     * A queued package rate, superseded once the version of its candidate moves on.
+     *
+     * @param candidate The transaction heading the package.
+     * @param feeRate The fee per encoded byte of the package.
+     * @param version The version of the candidate when queued.
+     */
+    private record PackageEntry(Candidate candidate, double feeRate, int version) {
+    }
+}
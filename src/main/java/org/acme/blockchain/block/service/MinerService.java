@@ -10,7 +10,6 @@ import org.acme.blockchain.common.model.Address;
 import org.acme.blockchain.common.model.Coin;
 import org.acme.blockchain.common.service.DifficultyService;
 import org.acme.blockchain.common.service.RewardService;
-import org.acme.blockchain.common.service.TransferCacheService;
 import org.acme.blockchain.common.utility.HashUtility;
 import org.acme.blockchain.common.utility.TimestampUtility;
 import org.acme.blockchain.network.TempNetwork;
@@ -36,14 +35,14 @@ import java.util.Set;
  * **mining threads to stop immediately upon a successful solve, preventing wasted work.**
  * <p>
  * It relies heavily on injected services for data fetching ({@link MinerCacheService}
- * and {@link TransferCacheService}).
+ * and {@link BlockTemplateService}).
  */
 @Slf4j
 @ApplicationScoped
 public class MinerService {
 
     private final MinerCacheService minerCache;
-    private final TransferCacheService transactionCache;
+    private final BlockTemplateService blockTemplateService;
     private final DifficultyService difficultyService;
     private final RewardService rewardService;
     private final BlockService blockService;
@@ -56,7 +55,7 @@ public class MinerService {
      * Quarkus automatically handles the injection of these beans.
      *
      * @param minerCache Service to track active mining addresses and the global {@code isMined} status.
-     * @param transactionCache Service holding unconfirmed transactions ready for mining.
+     * @param blockTemplateService Service selecting the unconfirmed transactions to mine within the block size limit.
      * @param difficultyService Service to calculate the current target mining difficulty.
      * @param rewardService Service to determine the current block reward amount.
      * @param blockService Service for retrieving the current blockchain state (latest block).
@@ -66,7 +65,7 @@ public class MinerService {
     @Inject
     public MinerService(
             MinerCacheService minerCache,
-            TransferCacheService transactionCache,
+            BlockTemplateService blockTemplateService,
             DifficultyService difficultyService,
             RewardService rewardService,
             BlockService blockService,
@@ -74,7 +73,7 @@ public class MinerService {
             TempNetwork tempNetwork
     ) {
         this.minerCache = minerCache;
-        this.transactionCache = transactionCache;
+        this.blockTemplateService = blockTemplateService;
         this.difficultyService = difficultyService;
         this.rewardService = rewardService;
         this.blockService = blockService;
@@ -131,7 +130,7 @@ public class MinerService {
             log.info("No active miners. Sleeping for 10 seconds...");
         } else {
             BlockModel toMine = getToMine();
-            List<TransactionModel> transactionsToMine = transactionCache.getReadyToMine();
+            List<TransactionModel> transactionsToMine = blockTemplateService.selectTransactions();
 
             log.debug("Prepared block template. Difficulty: {}, Reward: {}, Transactions: {}",
                     toMine.getDifficulty(), toMine.getRewardAmount(), transactionsToMine.size());
@@ -0,0 +1,26 @@
+package org.acme.blockchain.common.api.contract;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Builder(toBuilder = true)
+@Schema(description = "Suggested fee rate for a transfer to be mined within a number of blocks.")
+public record FeeEstimateResponse(
+
+        @JsonProperty("target_blocks")
+        @Schema(description = "Number of blocks within which the transfer should be mined", examples = "3")
+        int targetBlocks,
+
+        @JsonProperty("fee_rate")
+        @Schema(description = "Suggested fee rate in base units per encoded byte", examples = "20")
+        double feeRate,
+
+        @JsonProperty("mempool_fee_rate")
+        @Schema(description = "Fee rate suggested by the transfers waiting in the mempool", examples = "20")
+        double mempoolFeeRate,
+
+        @JsonProperty("block_fee_rate")
+        @Schema(description = "Fee rate suggested by recently connected blocks", examples = "12.5")
+        double blockFeeRate
+) {}
@@ -0,0 +1,84 @@
+package org.acme.blockchain.common.api.contract;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder(toBuilder = true)
+@Schema(description = "Summary of the mempool of the node.")
+public record MempoolResponse(
+
+        @JsonProperty("transfer_count")
+        @Schema(description = "Number of transfers ready to mine", examples = "1250")
+        long transferCount,
+
+        @JsonProperty("total_bytes")
+        @Schema(description = "Encoded size in bytes of the transfers ready to mine", examples = "9375000")
+        long totalBytes,
+
+        @JsonProperty("off_heap_bytes")
+        @Schema(description = "Bytes of transfer payloads held outside the Java heap", examples = "8750000")
+        long offHeapBytes,
+
+        @JsonProperty("reserved_input_count")
+        @Schema(description = "Number of unspent outputs reserved by pending transfers", examples = "1310")
+        long reservedInputCount,
+
+        @JsonProperty("fee_rate_histogram")
+        @Schema(description = "Transfers ready to mine grouped by fee rate in base units per byte")
+        List<FeeRateBucketResponse> feeRateHistogram,
+
+        @JsonProperty("age_percentiles")
+        @Schema(description = "Seconds the transfers ready to mine have waited since admission")
+        AgePercentilesResponse agePercentiles,
+
+        @JsonProperty("status_counts")
+        @Schema(description = "Number of cached transfers in each status")
+        Map<String, Long> statusCounts
+) {
+
+    @Builder(toBuilder = true)
+    @Schema(description = "A fee rate bucket of the mempool.")
+    public record FeeRateBucketResponse(
+
+            @JsonProperty("min_fee_rate")
+            @Schema(description = "Inclusive lower bound in base units per byte", examples = "10")
+            double minFeeRate,
+
+            @JsonProperty("max_fee_rate")
+            @Schema(description = "Exclusive upper bound in base units per byte, absent for the last bucket", examples = "20")
+            Double maxFeeRate,
+
+            @JsonProperty("count")
+            @Schema(description = "Number of transfers in the bucket", examples = "420")
+            long count,
+
+            @JsonProperty("bytes")
+            @Schema(description = "Encoded size in bytes of the transfers in the bucket", examples = "3150000")
+            long bytes
+    ) {}
+
+    @Builder(toBuilder = true)
+    @Schema(description = "Age percentiles of the mempool in seconds.")
+    public record AgePercentilesResponse(
+
+            @JsonProperty("p50")
+            @Schema(description = "Median age", examples = "12")
+            long p50,
+
+            @JsonProperty("p90")
+            @Schema(description = "90th percentile age", examples = "48")
+            long p90,
+
+            @JsonProperty("p99")
+            @Schema(description = "99th percentile age", examples = "95")
+            long p99,
+
+            @JsonProperty("max")
+            @Schema(description = "Age of the oldest transfer", examples = "118")
+            long max
+    ) {}
+}
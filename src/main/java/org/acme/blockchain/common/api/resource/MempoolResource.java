@@ -0,0 +1,146 @@
+package org.acme.blockchain.common.api.resource;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.api.contract.ErrorResponse;
+import org.acme.blockchain.common.api.contract.FeeEstimateResponse;
+import org.acme.blockchain.common.api.contract.MempoolResponse;
+import org.acme.blockchain.common.mapper.MempoolMapper;
+import org.acme.blockchain.common.model.FeeEstimateModel;
+import org.acme.blockchain.common.service.FeeService;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * Resource that exposes the state of the mempool of the node to operators.
+ */
+@Slf4j
+@ApplicationScoped
+@Tag(name = "Mempool", description = "Operations related to the COPO mempool.")
+@Path("/v1/mempool")
+public class MempoolResource {
+
+    private final TransferCacheService transferCacheService;
+
+    private final FeeService feeService;
+
+    @Inject
+    public MempoolResource(TransferCacheService transferCacheService, FeeService feeService) {
+        this.transferCacheService = transferCacheService;
+        this.feeService = feeService;
+    }
+
+    /**
+     * Handles the HTTP GET request to summarise the mempool.
+     * <p>
+     * The summary is built from counters the cache maintains as transfers come and go, so it is cheap to poll
+     * however large the mempool grows.
+     *
+     * @return The HTTP response containing the {@link MempoolResponse} (200) or an error (500).
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Summarise the mempool", description = "Retrieves the number and size of the transfers " +
+            "ready to mine, a fee rate histogram, age percentiles, per-status counts and the number of reserved inputs.")
+    @APIResponses(value = {
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Mempool summarised successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = MempoolResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal Server Error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Response get() {
+        try {
+            MempoolResponse response = MempoolMapper.INSTANCE.modelToResponse(transferCacheService.getSummary());
+
+            return Response.ok().entity(response).build();
+        } catch (Exception e) {
+            log.error("Failed to summarise mempool due to an unexpected exception: {}\n", e.getMessage(), e);
+
+            ErrorResponse message = new ErrorResponse("Failed to summarise mempool. Please try again.");
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+        }
+    }
+
+    /**
+     * Handles the HTTP GET request to estimate the fee rate for a transfer to be mined within a number of blocks.
+     *
+     * @param targetBlocks The number of blocks, or the configured default if absent.
+     * @return The HTTP response containing the {@link FeeEstimateResponse} (200) or an error (400/500).
+     */
+    @GET
+    @Path("/fee")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Estimate a fee rate", description = "Suggests the fee rate, in base units per encoded " +
+            "byte, for a transfer to be mined within the target number of blocks, based on the transfers waiting in " +
+            "the mempool and the fee rates recent blocks required.")
+    @APIResponses(value = {
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Fee rate estimated successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = FeeEstimateResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal Server Error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Response estimateFee(@QueryParam("target_blocks") Integer targetBlocks) {
+        try {
+            FeeEstimateModel estimate = targetBlocks != null ? feeService.estimate(targetBlocks) : feeService.estimate();
+
+            return Response.ok().entity(MempoolMapper.INSTANCE.modelToResponse(estimate)).build();
+        } catch (IllegalArgumentException e) {
+            log.info("Failed to estimate fee rate due to invalid target blocks: {}", targetBlocks);
+
+            ErrorResponse message = new ErrorResponse(e.getMessage() + ".");
+
+            return Response.status(Response.Status.BAD_REQUEST).entity(message).build();
+        } catch (Exception e) {
+            log.error("Failed to estimate fee rate due to an unexpected exception: {}\n", e.getMessage(), e);
+
+            ErrorResponse message = new ErrorResponse("Failed to estimate fee rate. Please try again.");
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+        }
+    }
+}
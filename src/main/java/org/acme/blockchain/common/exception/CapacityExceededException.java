@@ -0,0 +1,8 @@
+package org.acme.blockchain.common.exception;
+
+public class CapacityExceededException extends RuntimeException {
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.acme.blockchain.common.exception;
+
+public class LookupFailedException extends RuntimeException {
+
+    public LookupFailedException(String message) {
+        super(message);
+    }
+
+    public LookupFailedException(String message, Exception e) {
+        super(message, e);
+    }
+}
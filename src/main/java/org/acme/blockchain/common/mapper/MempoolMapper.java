@@ -0,0 +1,22 @@
+package org.acme.blockchain.common.mapper;
+
+import org.acme.blockchain.common.api.contract.FeeEstimateResponse;
+import org.acme.blockchain.common.api.contract.MempoolResponse;
+import org.acme.blockchain.common.model.FeeEstimateModel;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface MempoolMapper {
+
+    MempoolMapper INSTANCE = Mappers.getMapper(MempoolMapper.class);
+
+    MempoolResponse modelToResponse(MempoolModel mempool);
+
+    MempoolResponse.FeeRateBucketResponse modelToResponse(MempoolModel.FeeRateBucket bucket);
+
+    MempoolResponse.AgePercentilesResponse modelToResponse(MempoolModel.AgePercentiles agePercentiles);
+
+    FeeEstimateResponse modelToResponse(FeeEstimateModel feeEstimate);
+}
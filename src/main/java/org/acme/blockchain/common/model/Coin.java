@@ -20,6 +20,10 @@ public record Coin(BigDecimal value) {
         value = value.setScale(SCALE, RoundingMode.DOWN);
     }
 
+    public static Coin fromBaseUnits(long baseUnits) {
+        return new Coin(BigDecimal.valueOf(baseUnits, SCALE));
+    }
+
     public Coin add(Coin other) {
         BigDecimal value = this.value.add(other.value);
         return new Coin(value);
@@ -30,6 +34,10 @@ public record Coin(BigDecimal value) {
         return new Coin(value);
     }
 
+    public long toBaseUnits() {
+        return this.value.movePointRight(SCALE).longValueExact();
+    }
+
     public boolean isEqualTo(Coin other) {
         return this.value.compareTo(other.value) == 0;
     }
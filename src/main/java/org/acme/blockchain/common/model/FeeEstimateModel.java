@@ -0,0 +1,23 @@
+package org.acme.blockchain.common.model;
+
+import lombok.Builder;
+
+/**
+ * A fee rate estimate, in base units per encoded byte.
+ *
+ * @param targetBlocks The number of blocks within which the transfer should be mined.
+ * @param feeRate The suggested fee rate.
+ * @param mempoolFeeRate The fee rate suggested by the transfers waiting in the mempool.
+ * @param blockFeeRate The fee rate suggested by recently connected blocks.
+ */
+@Builder(toBuilder = true)
+public record FeeEstimateModel(
+
+        int targetBlocks,
+
+        double feeRate,
+
+        double mempoolFeeRate,
+
+        double blockFeeRate
+) {}
@@ -0,0 +1,50 @@
+package org.acme.blockchain.common.model;
+
+import lombok.Builder;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A point in time summary of the mempool and of the transfers being processed by the node.
+ *
+ * @param transferCount The number of transfers ready to mine.
+ * @param totalBytes The encoded size of the transfers ready to mine.
+ * @param offHeapBytes The bytes of transfer payloads held off-heap.
+ * @param reservedInputCount The number of unspent outputs reserved by pending transfers.
+ * @param feeRateHistogram The transfers ready to mine grouped by fee rate.
+ * @param agePercentiles The time the transfers ready to mine have waited.
+ * @param statusCounts The number of cached transfers in each status.
+ */
+@Builder(toBuilder = true)
+public record MempoolModel(
+
+        long transferCount,
+
+        long totalBytes,
+
+        long offHeapBytes,
+
+        long reservedInputCount,
+
+        List<FeeRateBucket> feeRateHistogram,
+
+        AgePercentiles agePercentiles,
+
+        Map<TransactionStatus, Long> statusCounts
+) {
+
+    /**
+     * @param minFeeRate The inclusive lower bound in base units per encoded byte.
+     * @param maxFeeRate The exclusive upper bound, or {@code null} for the last bucket.
+     * @param count The number of transfers in the bucket.
+     * @param bytes The encoded size of the transfers in the bucket.
+     */
+    public record FeeRateBucket(double minFeeRate, Double maxFeeRate, long count, long bytes) {}
+
+    /**
+     * Ages in seconds since admission to the mempool.
+     */
+    public record AgePercentiles(long p50, long p90, long p99, long max) {}
+}
@@ -1,14 +1,172 @@
 package org.acme.blockchain.common.service;
 
-import org.acme.blockchain.common.model.Coin;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.model.FeeEstimateModel;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Estimates the fee rate, in base units per encoded byte, a transfer must pay to be mined within a target number
+ * of blocks.
+ * <p>
+ * Two signals are combined and the higher wins. The mempool signal finds the fee rate at which a transfer would
+ * sit within the first {@code targetBlocks} blocks' worth of the mempool, read from the incrementally maintained
+ * fee rate histogram of {@link TransferCacheService}. The block signal keeps, in a ring buffer of the last
+ * {@code copo.fee.history-blocks} connected blocks, the lowest fee rate each full block included, or zero for a
+ * block with room to spare, and picks the rate which would have made it into at least one of {@code targetBlocks}
+ * such blocks with 85% confidence. Neither falls below {@code copo.fee.min-rate}.
+ */
+@Slf4j
 @ApplicationScoped
 public class FeeService {
 
-    public Coin calculateFee() {
-        return new Coin(BigDecimal.valueOf(0.12345678));
+    private static final double CONFIDENCE = 0.85;
+
+    /**
+     * The share of the block size limit above which a block is treated as full.
+     */
+    private static final double FULL_BLOCK_RATIO = 0.95;
+
+    private final TransferCacheService cache;
+
+    private final long blockMaxBytes;
+
+    private final double minFeeRate;
+
+    private final int maxTargetBlocks;
+
+    private final int defaultTargetBlocks;
+
+    private final double[] requiredFeeRates;
+
+    private int nextBlock;
+
+    private int blockCount;
+
+    @Inject
+    public FeeService(
+            TransferCacheService cache,
+            @ConfigProperty(name = "copo.block.max-bytes") long blockMaxBytes,
+            @ConfigProperty(name = "copo.fee.min-rate") double minFeeRate,
+            @ConfigProperty(name = "copo.fee.history-blocks") int historyBlocks,
+            @ConfigProperty(name = "copo.fee.max-target-blocks") int maxTargetBlocks,
+            @ConfigProperty(name = "copo.fee.default-target-blocks") int defaultTargetBlocks) {
+        this.cache = cache;
+        this.blockMaxBytes = blockMaxBytes;
+        this.minFeeRate = minFeeRate;
+        this.maxTargetBlocks = maxTargetBlocks;
+        this.defaultTargetBlocks = defaultTargetBlocks;
+        this.requiredFeeRates = new double[historyBlocks];
+    }
+
+    /**
+     * Calculates the fee for a transfer of the given size to be mined within the default number of target blocks.
+     *
+     * @param encodedSize The encoded size of the signed transfer.
+     * @return The fee.
+     */
+    public Coin calculateFee(int encodedSize) {
+        return Coin.fromBaseUnits((long) Math.ceil(estimate().feeRate() * encodedSize));
+    }
+
+    /**
+     * Estimates the fee rate to be mined within {@code copo.fee.default-target-blocks}.
+     *
+     * @return The estimate.
+     */
+    public FeeEstimateModel estimate() {
+        return estimate(this.defaultTargetBlocks);
+    }
+
+    /**
+     * Estimates the fee rate to be mined within a number of blocks.
+     *
+     * @param targetBlocks The number of blocks, between 1 and {@code copo.fee.max-target-blocks}.
+     * @return The estimate.
+     * @throws IllegalArgumentException if the target is out of range.
+     */
+    public FeeEstimateModel estimate(int targetBlocks) {
+        if (targetBlocks < 1 || targetBlocks > this.maxTargetBlocks) {
+            throw new IllegalArgumentException("Target blocks must be between 1 and " + this.maxTargetBlocks + ": " + targetBlocks);
+        }
+
+        double mempoolFeeRate = getMempoolFeeRate(this.cache.getSummary().feeRateHistogram(), targetBlocks);
+        double blockFeeRate = getBlockFeeRate(targetBlocks);
+
+        return FeeEstimateModel.builder()
+                .targetBlocks(targetBlocks)
+                .feeRate(Math.max(this.minFeeRate, Math.max(mempoolFeeRate, blockFeeRate)))
+                .mempoolFeeRate(mempoolFeeRate)
+                .blockFeeRate(blockFeeRate)
+                .build();
+    }
+
+    /**
+     * Records the lowest fee rate a connected block had to include, or zero if the block was not full.
+     *
+     * @param transfers The transfers of the block.
+     */
+    public synchronized void recordBlock(List<TransferModel> transfers) {
+        long bytes = 0;
+        double lowestFeeRate = Double.MAX_VALUE;
+
+        for (TransferModel transfer : transfers) {
+            int size = transfer.getEncodedSize();
+            bytes += size;
+            lowestFeeRate = Math.min(lowestFeeRate, (double) transfer.getFee().toBaseUnits() / size);
+        }
+
+        double requiredFeeRate = bytes >= FULL_BLOCK_RATIO * this.blockMaxBytes ? lowestFeeRate : 0;
+
+        this.requiredFeeRates[this.nextBlock] = requiredFeeRate;
+        this.nextBlock = (this.nextBlock + 1) % this.requiredFeeRates.length;
+        this.blockCount = Math.min(this.blockCount + 1, this.requiredFeeRates.length);
+
+        log.debug("Recorded block of {} transfers ({} bytes). Required fee rate: {}", transfers.size(), bytes, requiredFeeRate);
+    }
+
+    /**
+     * Walks the histogram from the highest fee rate, and once the transfers passed would fill the target blocks
+     * returns the upper bound of the bucket, which outbids every transfer in it.
+     */
+    private double getMempoolFeeRate(List<MempoolModel.FeeRateBucket> histogram, int targetBlocks) {
+        long capacity = targetBlocks * this.blockMaxBytes;
+        long bytes = 0;
+
+        for (int i = histogram.size() - 1; i >= 0; i--) {
+            MempoolModel.FeeRateBucket bucket = histogram.get(i);
+            bytes += bucket.bytes();
+
+            if (bytes >= capacity) {
+                return bucket.maxFeeRate() != null ? bucket.maxFeeRate() : bucket.minFeeRate();
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * A transfer paying the {@code q}-quantile of the required fee rates gets into a block with probability
+     * {@code q}, so into at least one of {@code n} blocks with probability {@code 1 - (1 - q)^n}. Solving for
+     * {@link #CONFIDENCE} gives the quantile to pay.
+     */
+    private synchronized double getBlockFeeRate(int targetBlocks) {
+        if (this.blockCount == 0) {
+            return 0;
+        }
+
+        double[] sorted = Arrays.copyOf(this.requiredFeeRates, this.blockCount);
+        Arrays.sort(sorted);
+
+        double quantile = 1 - Math.pow(1 - CONFIDENCE, 1.0 / targetBlocks);
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
     }
 }
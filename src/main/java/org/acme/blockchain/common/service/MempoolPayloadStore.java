@@ -0,0 +1,156 @@
+package org.acme.blockchain.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.common.utility.OffHeapAllocator;
+import org.acme.blockchain.transaction.mapper.TransferCodec;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the public keys and signatures of mempool transfers off-heap, leaving only small handles on-heap.
+ * <p>
+ * A sender's public key is stored once however many of its transfers are in the mempool and freed with the
+ * last of them. A transfer whose payload does not fit keeps it on-heap. Guarded by the owning
+ * {@link TransferCacheService}.
+ */
+@Slf4j
+final class MempoolPayloadStore implements AutoCloseable {
+
+    private static final long CHUNK_BYTES = 16L * 1024 * 1024;
+
+    private final OffHeapAllocator allocator;
+
+    private final Map<TransactionHash, SignatureHandle> signatureByHashIdMap = new HashMap<>();
+
+    private final Map<Address, PublicKeyHandle> publicKeyBySenderMap = new HashMap<>();
+
+    MempoolPayloadStore(long capacityBytes) {
+        this.allocator = new OffHeapAllocator(Math.max(capacityBytes, CHUNK_BYTES), CHUNK_BYTES);
+    }
+
+    /**
+     * Moves the payload of a transfer off-heap and strips it from the transfer.
+     *
+     * @param transfer The transfer entering the mempool.
+     * @return {@code true} if the payload was stored; {@code false} if it stays on-heap.
+     */
+    boolean store(TransferModel transfer) {
+        if (transfer.getSignature() == null || transfer.getSenderPublicKeyEncoded() == null
+                || this.signatureByHashIdMap.containsKey(transfer.getHashId())) {
+            return false;
+        }
+
+        byte[] signature = TransferCodec.encodeSignature(transfer.getSignature());
+        long signatureOffset = this.allocator.allocate(signature.length);
+        if (signatureOffset < 0) {
+            log.debug("{} Off-heap mempool storage is full. Payload kept on-heap.", transfer);
+            return false;
+        }
+
+        PublicKeyHandle publicKey = retainPublicKey(transfer.getSenderAddress(), transfer.getSenderPublicKeyEncoded());
+        if (publicKey == null) {
+            this.allocator.free(signatureOffset, signature.length);
+            log.debug("{} Off-heap mempool storage is full. Payload kept on-heap.", transfer);
+            return false;
+        }
+
+        this.allocator.write(signatureOffset, signature);
+        this.signatureByHashIdMap.put(transfer.getHashId(), new SignatureHandle(signatureOffset, signature.length));
+
+        TransferCodec.strip(transfer);
+        return true;
+    }
+
+    /**
+     * Creates a copy of a transfer with its payload read back from off-heap storage.
+     *
+     * @param transfer The transfer in the mempool.
+     * @return The complete copy, or the transfer itself if its payload is on-heap.
+     */
+    TransferModel load(TransferModel transfer) {
+        SignatureHandle signature = this.signatureByHashIdMap.get(transfer.getHashId());
+        if (signature == null) {
+            return transfer;
+        }
+
+        PublicKeyHandle publicKey = this.publicKeyBySenderMap.get(transfer.getSenderAddress());
+
+        return TransferCodec.restore(
+                transfer,
+                this.allocator.read(publicKey.offset, publicKey.length),
+                this.allocator.read(signature.offset(), signature.length())
+        );
+    }
+
+    /**
+     * Frees the payload of a transfer leaving the mempool. The transfer stays stripped.
+     *
+     * @param transfer The transfer leaving the mempool.
+     */
+    void remove(TransferModel transfer) {
+        SignatureHandle signature = this.signatureByHashIdMap.remove(transfer.getHashId());
+        if (signature == null) {
+            return;
+        }
+
+        this.allocator.free(signature.offset(), signature.length());
+        releasePublicKey(transfer.getSenderAddress());
+    }
+
+    long getAllocatedBytes() {
+        return this.allocator.getAllocatedBytes();
+    }
+
+    @Override
+    public void close() {
+        this.allocator.close();
+    }
+
+    private PublicKeyHandle retainPublicKey(Address sender, byte[] encoded) {
+        PublicKeyHandle publicKey = this.publicKeyBySenderMap.get(sender);
+
+        if (publicKey == null) {
+            long offset = this.allocator.allocate(encoded.length);
+            if (offset < 0) {
+                return null;
+            }
+
+            this.allocator.write(offset, encoded);
+            publicKey = new PublicKeyHandle(offset, encoded.length);
+            this.publicKeyBySenderMap.put(sender, publicKey);
+        }
+
+        publicKey.references++;
+        return publicKey;
+    }
+
+    private void releasePublicKey(Address sender) {
+        PublicKeyHandle publicKey = this.publicKeyBySenderMap.get(sender);
+
+        if (publicKey != null && --publicKey.references == 0) {
+            this.publicKeyBySenderMap.remove(sender);
+            this.allocator.free(publicKey.offset, publicKey.length);
+        }
+    }
+
+    private record SignatureHandle(long offset, int length) {
+    }
+
+    private static final class PublicKeyHandle {
+
+        private final long offset;
+
+        private final int length;
+
+        private int references;
+
+        private PublicKeyHandle(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
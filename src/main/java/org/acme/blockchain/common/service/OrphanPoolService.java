@@ -0,0 +1,207 @@
+package org.acme.blockchain.common.service;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An application-scoped pool of peer transfers which spend outputs this node has not seen yet, typically
+ * because gossip of their parent is still in flight.
+ * <p>
+ * Orphans are indexed by each missing input, so the arrival of a parent finds the transfers waiting on its
+ * outputs without a scan. They are handed back to be validated again, and are otherwise dropped after
+ * {@code copo.mempool.orphan.ttl}. An orphan whose parent has arrived but which cannot be validated at once, as
+ * processing is full, stays held with no missing inputs, keeping its place and its expiry, and is handed back with
+ * the next parent to arrive. The encoded size of the pool is capped at {@code copo.mempool.orphan.max-bytes},
+ * evicting the oldest orphans first.
+ */
+@Slf4j
+@ApplicationScoped
+public class OrphanPoolService {
+
+    private final Map<TransactionHash, Orphan> orphanByHashIdMap = new LinkedHashMap<>();
+
+    private final Map<UtxoId, Set<TransactionHash>> orphanHashIdsByMissingInputIdMap = new HashMap<>();
+
+    private final Set<TransactionHash> readyHashIds = new LinkedHashSet<>();
+
+    private final long maxBytes;
+
+    private final long ttlMillis;
+
+    private long bytes;
+
+    @Inject
+    public OrphanPoolService(
+            @ConfigProperty(name = "copo.mempool.orphan.max-bytes") long maxBytes,
+            @ConfigProperty(name = "copo.mempool.orphan.ttl") Duration ttl) {
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Holds a transfer until the outputs it spends arrive.
+     *
+     * @param transfer The transfer.
+     * @param missingInputIds The IDs of the outputs it spends which are not known.
+     * @return {@code true} if the transfer was added; {@code false} if it is already held or too large.
+     */
+    public synchronized boolean add(TransferModel transfer, List<UtxoId> missingInputIds) {
+        int size = transfer.getEncodedSize();
+        if (this.orphanByHashIdMap.containsKey(transfer.getHashId()) || size > this.maxBytes) {
+            return false;
+        }
+
+        Iterator<Orphan> oldest = this.orphanByHashIdMap.values().iterator();
+        while (this.bytes + size > this.maxBytes) {
+            Orphan evicted = oldest.next();
+            oldest.remove();
+            unindex(evicted);
+            log.debug("{} Evicted from the full orphan pool.", evicted.transfer());
+        }
+
+        Orphan orphan = new Orphan(transfer, List.copyOf(missingInputIds), size, System.currentTimeMillis() + this.ttlMillis);
+        this.orphanByHashIdMap.put(transfer.getHashId(), orphan);
+        this.bytes += size;
+
+        for (UtxoId id : orphan.missingInputIds()) {
+            this.orphanHashIdsByMissingInputIdMap.computeIfAbsent(id, key -> new LinkedHashSet<>()).add(transfer.getHashId());
+        }
+
+        log.debug("{} Held as an orphan missing {} inputs. Orphans: {}, {} bytes.",
+                transfer, missingInputIds.size(), this.orphanByHashIdMap.size(), this.bytes);
+        return true;
+    }
+
+    /**
+     * Removes every orphan spending an output of a newly accepted or mined transfer, together with every orphan
+     * held with no missing inputs.
+     *
+     * @param parent The accepted or mined transfer.
+     * @return The orphans to be validated again, those held with no missing inputs first.
+     */
+    public List<TransferModel> release(TransferModel parent) {
+        return release(parent, orphan -> true);
+    }
+
+    /**
+     * Removes every orphan spending an output of a newly accepted or mined transfer, together with every orphan
+     * held with no missing inputs, if it can be validated again. An orphan which cannot stays held with no missing
+     * inputs.
+     *
+     * @param parent The accepted or mined transfer.
+     * @param canValidate Whether an orphan can be validated again now, taking its place in processing if so.
+     * @return The orphans to be validated again, those held with no missing inputs first.
+     */
+    public synchronized List<TransferModel> release(TransferModel parent, Predicate<TransferModel> canValidate) {
+        if (this.orphanHashIdsByMissingInputIdMap.isEmpty() && this.readyHashIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<TransactionHash> hashIds = new LinkedHashSet<>(this.readyHashIds);
+        if (parent.getOutputs() != null) {
+            for (UtxoModel output : parent.getOutputs()) {
+                Set<TransactionHash> waiting = this.orphanHashIdsByMissingInputIdMap.get(output.getId());
+                if (waiting != null) {
+                    hashIds.addAll(waiting);
+                }
+            }
+        }
+
+        List<TransferModel> released = new ArrayList<>(hashIds.size());
+        for (TransactionHash hashId : hashIds) {
+            Orphan orphan = this.orphanByHashIdMap.get(hashId);
+            unindex(orphan);
+
+            if (canValidate.test(orphan.transfer())) {
+                this.orphanByHashIdMap.remove(hashId);
+                released.add(orphan.transfer());
+            } else {
+                Orphan ready = new Orphan(orphan.transfer(), List.of(), orphan.size(), orphan.expiresAtMillis());
+                this.orphanByHashIdMap.put(hashId, ready);
+                this.bytes += ready.size();
+                this.readyHashIds.add(hashId);
+                log.debug("{} Parent has arrived but processing is full. Held until the next parent.", orphan.transfer());
+            }
+        }
+
+        return released;
+    }
+
+    public synchronized boolean contains(TransactionHash hashId) {
+        return this.orphanByHashIdMap.containsKey(hashId);
+    }
+
+    public synchronized int size() {
+        return this.orphanByHashIdMap.size();
+    }
+
+    /**
+     * Drops expired orphans every {@code copo.mempool.expiry.tick}.
+     */
+    @Scheduled(every = "${copo.mempool.expiry.tick}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    /**
+     * Drops every orphan whose TTL has elapsed. Orphans expire in the order they arrived, so the scan stops at
+     * the first one still live.
+     *
+     * @param nowMillis The current time in milliseconds.
+     */
+    synchronized void expire(long nowMillis) {
+        Iterator<Orphan> oldest = this.orphanByHashIdMap.values().iterator();
+        int expired = 0;
+
+        while (oldest.hasNext()) {
+            Orphan orphan = oldest.next();
+            if (orphan.expiresAtMillis() > nowMillis) {
+                break;
+            }
+
+            oldest.remove();
+            unindex(orphan);
+            expired++;
+        }
+
+        if (expired > 0) {
+            log.debug("Expired {} orphans before their parents arrived. Orphans: {}.", expired, this.orphanByHashIdMap.size());
+        }
+    }
+
+    private void unindex(Orphan orphan) {
+        this.bytes -= orphan.size();
+        this.readyHashIds.remove(orphan.transfer().getHashId());
+
+        for (UtxoId id : orphan.missingInputIds()) {
+            Set<TransactionHash> waiting = this.orphanHashIdsByMissingInputIdMap.get(id);
+            if (waiting != null) {
+                waiting.remove(orphan.transfer().getHashId());
+                if (waiting.isEmpty()) {
+                    this.orphanHashIdsByMissingInputIdMap.remove(id);
+                }
+            }
+        }
+    }
+
+    private record Orphan(TransferModel transfer, List<UtxoId> missingInputIds, int size, long expiresAtMillis) {
+    }
+}
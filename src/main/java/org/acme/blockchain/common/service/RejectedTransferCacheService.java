@@ -0,0 +1,55 @@
+package org.acme.blockchain.common.service;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.common.utility.RollingBloomFilter;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * A thread-safe, application-scoped record of transfers recently found by this node to be invalid for good, as
+ * their hash, address, fee, outputs or signature are bad or they spend an input already spent on chain. Transfers
+ * failed only by a condition which may change, such as an input reserved by a pending transfer, are not recorded.
+ * <p>
+ * A spammer resubmitting the same invalid transfer would otherwise cost a database lookup and ML-DSA
+ * verification per copy. The hashes are kept in a {@link RollingBloomFilter}, so a repeat is recognised in
+ * constant time and memory whatever the volume. Every {@code copo.cache.rejected-transfer.rotation-period}, or
+ * sooner once {@code copo.cache.rejected-transfer.capacity} hashes have been recorded, the filter forgets hashes
+ * older than the previous rotation. A new transfer is wrongly treated as rejected with probability
+ * {@code copo.cache.rejected-transfer.false-positive-rate}.
+ */
+@ApplicationScoped
+public class RejectedTransferCacheService {
+
+    private final RollingBloomFilter rejected;
+
+    @Inject
+    public RejectedTransferCacheService(
+            @ConfigProperty(name = "copo.cache.rejected-transfer.capacity") int capacity,
+            @ConfigProperty(name = "copo.cache.rejected-transfer.false-positive-rate") double falsePositiveRate) {
+        this.rejected = new RollingBloomFilter(capacity, falsePositiveRate);
+    }
+
+    public void markRejected(TransactionHash hashId) {
+        this.rejected.add(HashUtility.hexToBytes(hashId.value()));
+    }
+
+    /**
+     * @param hashId The hash of the transfer.
+     * @return {@code true} if the transfer was probably rejected recently; {@code false} if it definitely was not.
+     */
+    public boolean isRejected(TransactionHash hashId) {
+        return this.rejected.mightContain(HashUtility.hexToBytes(hashId.value()));
+    }
+
+    /**
+     * Forgets the hashes recorded before the previous rotation, every
+     * {@code copo.cache.rejected-transfer.rotation-period}.
+     */
+    @Scheduled(every = "${copo.cache.rejected-transfer.rotation-period}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void rotate() {
+        this.rejected.rotate();
+    }
+}
@@ -0,0 +1,56 @@
+package org.acme.blockchain.common.service;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.utility.RollingBloomFilter;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * A thread-safe, application-scoped record of the gossip messages recently received from peers, each identified
+ * by the hash of the transfer and the status it was gossiped with.
+ * <p>
+ * Every peer relays each transfer it accepts, so the same message arrives many times over. Recording them in a
+ * {@link RollingBloomFilter} lets exact repeats be dropped at ingress in constant time and memory, before they take
+ * a place in processing. The hex encoded hash is hashed in place with the status, so checking a message allocates
+ * nothing. Every {@code copo.cache.seen-transfer.rotation-period}, or sooner once
+ * {@code copo.cache.seen-transfer.capacity} messages have been recorded, the filter forgets messages older than
+ * the previous rotation, after which a repeat is processed again. A new message is wrongly dropped with
+ * probability {@code copo.cache.seen-transfer.false-positive-rate}, and arrives again from another peer.
+ */
+@ApplicationScoped
+public class SeenTransferCacheService {
+
+    private final RollingBloomFilter seen;
+
+    @Inject
+    public SeenTransferCacheService(
+            @ConfigProperty(name = "copo.cache.seen-transfer.capacity") int capacity,
+            @ConfigProperty(name = "copo.cache.seen-transfer.false-positive-rate") double falsePositiveRate) {
+        this.seen = new RollingBloomFilter(capacity, falsePositiveRate);
+    }
+
+    public void markSeen(TransactionHash hashId, TransactionStatus status) {
+        this.seen.add(hashId.value(), status.ordinal());
+    }
+
+    /**
+     * @param hashId The hash of the transfer.
+     * @param status The status the transfer was gossiped with.
+     * @return {@code true} if the message was probably received recently; {@code false} if it definitely was not.
+     */
+    public boolean isSeen(TransactionHash hashId, TransactionStatus status) {
+        return this.seen.mightContain(hashId.value(), status.ordinal());
+    }
+
+    /**
+     * Forgets the messages recorded before the previous rotation, every
+     * {@code copo.cache.seen-transfer.rotation-period}.
+     */
+    @Scheduled(every = "${copo.cache.seen-transfer.rotation-period}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void rotate() {
+        this.seen.rotate();
+    }
+}
@@ -1,69 +1,918 @@
 package org.acme.blockchain.common.service;
 
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.acme.blockchain.common.utility.TimestampUtility;
+import org.acme.blockchain.common.utility.TimingWheel;
 import org.acme.blockchain.transaction.model.TransactionHash;
 import org.acme.blockchain.transaction.model.TransactionModel;
-import org.acme.blockchain.transaction.model.TransferGossip;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferState;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
 import org.acme.blockchain.transaction.model.UtxoId;
 import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * An application-scoped cache of transfers being processed by this node, including the mempool of
+ * transfers which are ready to mine.
+ * <p>
+ * The mempool is ordered by fee per encoded byte, highest first, so block templates take the most
+ * valuable transfers first. Its total encoded size is capped at {@code copo.mempool.max-bytes}: when a
+ * transfer does not fit, the lowest fee rate transfers other than its own pending ancestors are evicted
+ * until it does, and a transfer which pays a lower fee rate than everything it would have to evict is
+ * rejected instead. Insertion and removal are {@code O(log n)}.
+ * <p>
+ * Every input spent by a pending transfer is reserved for that transfer, so that a block connecting to
+ * the chain can evict the transfers it mined and drop every pending transfer it conflicts with in time
+ * proportional to the size of the block rather than the size of the mempool.
+ * <p>
+ * The change outputs of pending transfers are indexed by sender and may be spent by further transfers
+ * before they are mined, with the unreserved pending balance of each sender tracked in {@code O(1)}.
+ * A transfer which will never be mined takes every pending transfer spending its outputs with it.
+ * <p>
+ * Every cached transfer expires together with its state after a TTL depending on its status: pending
+ * transfers after {@code copo.mempool.expiry.pending-ttl}, transfers in the mempool after
+ * {@code copo.mempool.expiry.confirmed-ttl} and transfers in a terminal state, which are only kept to recognise
+ * late gossip, after {@code copo.mempool.expiry.terminal-ttl}. Deadlines are tracked in a {@link TimingWheel}
+ * turned every {@code copo.mempool.expiry.tick}.
+ * <p>
+ * With {@code copo.mempool.off-heap.enabled}, the public keys and signatures of transfers in the mempool, which
+ * make up most of their size, are moved to a {@link MempoolPayloadStore} off-heap and restored when a block
+ * template is taken, so the heap only holds small handles.
+ * <p>
+ * The counters behind {@link #getSummary()} are maintained as transfers enter and leave the cache, so a
+ * summary costs time proportional to the number of histogram buckets and distinct admission seconds rather
+ * than the number of transfers. Each change of a cached transfer's status is also published to
+ * {@link TransferStatusEventService} for clients following the transfer.
+ */
+@Slf4j
 @ApplicationScoped
 public class TransferCacheService {
 
+    private static final Comparator<MempoolEntry> BY_FEE_RATE_DESCENDING = Comparator
+            .comparingDouble(MempoolEntry::feeRate).reversed()
+            .thenComparingLong(MempoolEntry::sequence);
+
+    /**
+     * Lower bounds of the fee rate histogram buckets, in base units per encoded byte.
+     */
+    private static final double[] FEE_RATE_BUCKET_BOUNDS = {0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private static final double[] AGE_PERCENTILES = {0.5, 0.9, 0.99};
+
     private final Map<TransactionHash, TransferModel> transferByHashIdMap = new ConcurrentHashMap<>();
 
-    private final Map<UtxoId, UtxoModel> inputByIdMap = new ConcurrentHashMap<>();
+    private final Map<UtxoId, TransactionHash> spenderHashIdByInputIdMap = new ConcurrentHashMap<>();
+
+    private final Map<TransactionHash, TransferState> transferStateByHashIdMap = new ConcurrentHashMap<>();
+
+    private final Map<Address, PendingChange> pendingChangeBySenderMap = new HashMap<>();
+
+    private final NavigableSet<MempoolEntry> readyToMine = new TreeSet<>(BY_FEE_RATE_DESCENDING);
+
+    private final Map<TransactionHash, MempoolEntry> readyToMineByHashIdMap = new HashMap<>();
+
+    private final long[] feeRateBucketCounts = new long[FEE_RATE_BUCKET_BOUNDS.length];
+
+    private final long[] feeRateBucketBytes = new long[FEE_RATE_BUCKET_BOUNDS.length];
+
+    private final NavigableMap<Long, Long> readyToMineCountByAdmittedSecondMap = new TreeMap<>();
+
+    private final Map<TransactionHash, TransferStatusModel> countedStatusByHashIdMap = new HashMap<>();
+
+    private final Map<TransactionStatus, Long> transferCountByStatusMap = new EnumMap<>(TransactionStatus.class);
+
+    private final TimingWheel<TransactionHash> expiryWheel;
+
+    private final MempoolPayloadStore payloadStore;
+
+    private final TransferStatusEventService statusEvents;
+
+    private final long maxBytes;
+
+    private final long pendingTtlMillis;
+
+    private final long confirmedTtlMillis;
+
+    private final long terminalTtlMillis;
 
-    private final Map<TransactionHash, TransferGossip> transferGossipByHashIdMap = new ConcurrentHashMap<>();
+    private long readyToMineBytes;
 
-    private final ConcurrentLinkedQueue<TransferModel> readyToMine = new ConcurrentLinkedQueue<>();
+    private long sequence;
 
-    public void addTransfer(TransactionHash hashId, TransferModel transfer) {
+    @Inject
+    public TransferCacheService(
+            TransferStatusEventService statusEvents,
+            @ConfigProperty(name = "copo.mempool.max-bytes") long maxBytes,
+            @ConfigProperty(name = "copo.mempool.expiry.tick") Duration tick,
+            @ConfigProperty(name = "copo.mempool.expiry.pending-ttl") Duration pendingTtl,
+            @ConfigProperty(name = "copo.mempool.expiry.confirmed-ttl") Duration confirmedTtl,
+            @ConfigProperty(name = "copo.mempool.expiry.terminal-ttl") Duration terminalTtl,
+            @ConfigProperty(name = "copo.mempool.off-heap.enabled") boolean offHeapEnabled) {
+        this.statusEvents = statusEvents;
+        this.maxBytes = maxBytes;
+        this.payloadStore = offHeapEnabled ? new MempoolPayloadStore(maxBytes) : null;
+        this.expiryWheel = new TimingWheel<>(tick.toMillis(), System.currentTimeMillis());
+        this.pendingTtlMillis = pendingTtl.toMillis();
+        this.confirmedTtlMillis = confirmedTtl.toMillis();
+        this.terminalTtlMillis = terminalTtl.toMillis();
+    }
+
+    public synchronized void addTransfer(TransactionHash hashId, TransferModel transfer) {
         this.transferByHashIdMap.put(hashId, transfer);
+        countStatus(transfer);
+        this.expiryWheel.schedule(hashId, transfer.isTerminal() ? this.terminalTtlMillis : this.pendingTtlMillis);
     }
 
+    /**
+     * Retrieves a cached transfer. A transfer whose payload is held off-heap is returned as a complete copy, as
+     * the cached transfer itself is stripped of its public key and signature.
+     *
+     * @param hashId The hash ID of the transfer.
+     * @return The transfer, or {@code null} if it is not cached.
+     */
     public TransferModel get(TransactionHash hashId) {
-        return this.transferByHashIdMap.get(hashId);
+        if (this.payloadStore == null) {
+            return this.transferByHashIdMap.get(hashId);
+        }
+
+        synchronized (this) {
+            TransferModel transfer = this.transferByHashIdMap.get(hashId);
+            return transfer != null ? this.payloadStore.load(transfer) : null;
+        }
     }
 
-    public void removeTransfer(TransferModel transfer) {
+    public synchronized void removeTransfer(TransferModel transfer) {
         this.transferByHashIdMap.remove(transfer.getHashId());
-        transfer.getInputs().forEach(input -> this.inputByIdMap.remove(input.getId()));
-        this.transferGossipByHashIdMap.remove(transfer.getHashId());
+        this.transferStateByHashIdMap.remove(transfer.getHashId());
+        uncountStatus(transfer.getHashId());
+        this.expiryWheel.cancel(transfer.getHashId());
+        release(transfer);
+    }
+
+    /**
+     * Releases the inputs, pending change and mempool entry of a transfer which will not be mined,
+     * while keeping the transfer and its state cached so that late gossip about it is recognised and ignored.
+     * <p>
+     * Pending transfers spending the outputs of the released transfer can never be mined either, so they are
+     * marked {@link TransactionStatus#FAILED} and released in turn. A released transfer which is still cached
+     * expires after the terminal TTL.
+     *
+     * @param transfer The transfer in a terminal state.
+     */
+    public synchronized void release(TransferModel transfer) {
+        TransferState state = this.transferStateByHashIdMap.get(transfer.getHashId());
+        if (state != null && transfer.isTerminal()) {
+            state.transitionTo(transfer.getStatus());
+        }
+
+        if (transfer.getInputs() != null) {
+            transfer.getInputs().forEach(input -> unreserve(input, transfer.getHashId()));
+        }
+        removeReadyToMine(transfer.getHashId());
+        unindexPendingChange(transfer);
+
+        if (this.transferByHashIdMap.containsKey(transfer.getHashId())) {
+            this.expiryWheel.schedule(transfer.getHashId(), this.terminalTtlMillis);
+        }
+
+        failDescendants(transfer);
     }
 
     public boolean containsTransfer(TransactionHash hashId) {
         return this.transferByHashIdMap.containsKey(hashId);
     }
 
-    public void addInput(UtxoModel input) {
-        this.inputByIdMap.put(input.getId(), input);
+    /**
+     * Reserves the inputs of a transfer so that no other pending transfer can spend them, and indexes its
+     * change output as spendable by the sender.
+     *
+     * @param transfer The transfer spending the inputs.
+     * @return {@code true} if every input is now reserved for the transfer; {@code false} if any input is already
+     * reserved for another transfer, in which case no input is reserved.
+     */
+    public synchronized boolean reserveInputs(TransferModel transfer) {
+        List<UtxoModel> reserved = new ArrayList<>();
+
+        for (UtxoModel input : transfer.getInputs()) {
+            TransactionHash spender = this.spenderHashIdByInputIdMap.putIfAbsent(input.getId(), transfer.getHashId());
+
+            if (spender == null) {
+                reserved.add(input);
+            } else if (!spender.equals(transfer.getHashId())) {
+                reserved.forEach(reservedInput -> this.spenderHashIdByInputIdMap.remove(reservedInput.getId(), transfer.getHashId()));
+                return false;
+            }
+        }
+
+        reserved.forEach(input -> adjustPendingChange(input, -input.getAmount().toBaseUnits()));
+        indexPendingChange(transfer);
+
+        return true;
     }
 
     public boolean containsInput(UtxoId id) {
-        return this.inputByIdMap.containsKey(id);
+        return this.spenderHashIdByInputIdMap.containsKey(id);
+    }
+
+    /**
+     * Retrieves the change outputs of the sender's pending transfers which no other pending transfer has reserved,
+     * oldest first.
+     *
+     * @param sender The address of the sender.
+     * @return The spendable pending outputs, which may be empty.
+     */
+    public synchronized List<UtxoModel> getSpendablePendingOutputs(Address sender) {
+        PendingChange pendingChange = this.pendingChangeBySenderMap.get(sender);
+        if (pendingChange == null) {
+            return List.of();
+        }
+
+        return pendingChange.outputs.values().stream()
+                .filter(output -> !this.spenderHashIdByInputIdMap.containsKey(output.getId()))
+                .toList();
+    }
+
+    /**
+     * Retrieves the total value of the spendable pending outputs of a sender.
+     *
+     * @param sender The address of the sender.
+     * @return The unreserved pending balance.
+     */
+    public synchronized Coin getPendingBalance(Address sender) {
+        PendingChange pendingChange = this.pendingChangeBySenderMap.get(sender);
+        return pendingChange != null ? Coin.fromBaseUnits(pendingChange.unreservedBaseUnits) : Coin.ZERO;
+    }
+
+    /**
+     * Returns the lifecycle state of a transfer, creating it from the status of the cached transfer on first use.
+     * The state is shared by every thread processing gossip about the transfer until the transfer is released.
+     *
+     * @param hashId The hash ID of the transfer.
+     * @return The state.
+     */
+    public TransferState getState(TransactionHash hashId) {
+        return this.transferStateByHashIdMap.computeIfAbsent(hashId, id -> {
+            TransferModel cached = this.transferByHashIdMap.get(id);
+            return new TransferState(cached != null ? cached.getStatus() : TransactionStatus.INITIALISED);
+        });
+    }
+
+    /**
+     * Checks whether a transfer has reached a terminal status, without creating its state.
+     *
+     * @param hashId The hash ID of the transfer.
+     * @return {@code true} if the transfer is cached and its state is terminal.
+     */
+    public boolean isTerminal(TransactionHash hashId) {
+        TransferState state = this.transferStateByHashIdMap.get(hashId);
+        return state != null && state.isTerminal();
+    }
+
+    /**
+     * Admits a confirmed transfer to the mempool, evicting lower fee rate transfers if the mempool is full.
+     * <p>
+     * Evicted transfers are marked {@link TransactionStatus#FAILED} and released. A transfer which is not
+     * admitted is left untouched for the caller to release.
+     * <p>
+     * The mempool holds the cached instance of the transfer, whose payload is moved off-heap, rather than the
+     * given instance, which may be a copy gossiped by a peer.
+     *
+     * @param transfer The confirmed transfer.
+     * @return {@code true} if the transfer was admitted; {@code false} if it spends an input reserved for another
+     * transfer or its fee rate is too low for it to fit.
+     */
+    public synchronized boolean readyToMine(TransferModel transfer) {
+        if (this.readyToMineByHashIdMap.containsKey(transfer.getHashId())) {
+            return true;
+        }
+
+        if (!reserveInputs(transfer)) {
+            return false;
+        }
+
+        TransferModel cached = this.transferByHashIdMap.get(transfer.getHashId());
+        TransferModel admitted = cached != null ? cached : transfer;
+        MempoolEntry entry = MempoolEntry.of(admitted, this.sequence++, System.currentTimeMillis() / 1000);
+
+        List<MempoolEntry> evicted = evictFor(entry, findAncestors(transfer));
+        if (evicted == null) {
+            return false;
+        }
+
+        this.readyToMine.add(entry);
+        this.readyToMineByHashIdMap.put(transfer.getHashId(), entry);
+        this.readyToMineBytes += entry.size();
+        countReadyToMine(entry, 1);
+        countStatus(transfer);
+
+        if (this.payloadStore != null) {
+            this.payloadStore.store(admitted);
+        }
+
+        if (cached != null) {
+            this.expiryWheel.schedule(transfer.getHashId(), this.confirmedTtlMillis);
+        }
+
+        for (MempoolEntry evictedEntry : evicted) {
+            evictedEntry.transfer().setStatus(TransactionStatus.FAILED);
+            countStatus(evictedEntry.transfer());
+            release(evictedEntry.transfer());
+            log.info("{} Evicted from the mempool by a higher fee rate transfer. Marked as {}.", evictedEntry.transfer(), evictedEntry.transfer().getStatus());
+        }
+
+        return true;
+    }
+
+    /**
+     * Reconciles the cache with a block which has been connected to the chain.
+     * <p>
+     * Each mined transfer is marked {@link TransactionStatus#MINED} and evicted together with its state,
+     * mempool entry and input reservations, while its change output moves from the pending index to the chain.
+     * Any other pending transfer which reserved an input spent by the block can never be mined, so it is marked
+     * {@link TransactionStatus#FAILED} and released.
+     *
+     * @param minedTransfers The transfers included in the connected block.
+     */
+    public synchronized void connectBlock(List<TransferModel> minedTransfers) {
+        for (TransferModel mined : minedTransfers) {
+            TransferModel cached = this.transferByHashIdMap.remove(mined.getHashId());
+            if (cached != null) {
+                cached.setStatus(TransactionStatus.MINED);
+                this.statusEvents.publish(toTransition(mined.getHashId(), TransactionStatus.MINED));
+            }
+            uncountStatus(mined.getHashId());
+            this.expiryWheel.cancel(mined.getHashId());
+
+            this.transferStateByHashIdMap.remove(mined.getHashId());
+            removeReadyToMine(mined.getHashId());
+            unindexPendingChange(mined);
+
+            for (UtxoModel input : mined.getInputs()) {
+                TransactionHash spender = this.spenderHashIdByInputIdMap.remove(input.getId());
+
+                if (spender != null && !spender.equals(mined.getHashId())) {
+                    dropConflicting(spender, mined);
+                }
+            }
+        }
+
+        log.debug("Connected block with {} transfers. Mempool: {} transfers, {} bytes.",
+                minedTransfers.size(), this.readyToMine.size(), this.readyToMineBytes);
+    }
+
+    /**
+     * Turns the expiry wheel every {@code copo.mempool.expiry.tick}.
+     */
+    @Scheduled(every = "${copo.mempool.expiry.tick}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    /**
+     * Evicts every transfer whose TTL has elapsed together with its state. A transfer which is not yet in a
+     * terminal state is marked {@link TransactionStatus#FAILED} and released.
+     *
+     * @param nowMillis The current time in milliseconds.
+     */
+    synchronized void expire(long nowMillis) {
+        List<TransactionHash> expired = this.expiryWheel.advance(nowMillis);
+
+        for (TransactionHash hashId : expired) {
+            TransferModel transfer = this.transferByHashIdMap.remove(hashId);
+            this.transferStateByHashIdMap.remove(hashId);
+            uncountStatus(hashId);
+
+            if (transfer != null) {
+                if (!transfer.isTerminal()) {
+                    transfer.setStatus(TransactionStatus.FAILED);
+                    this.statusEvents.publish(toTransition(hashId, TransactionStatus.FAILED));
+                    log.info("{} Expired before being mined. Marked as {}.", transfer, transfer.getStatus());
+                }
+                release(transfer);
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            log.debug("Expired {} transfers. Tracking {} transfers.", expired.size(), this.expiryWheel.size());
+        }
+    }
+
+    /**
+     * Retrieves the transfers in the mempool, ordered by fee per encoded byte, highest first, except that a
+     * transfer spending the output of another pending transfer always follows it. A transfer whose pending
+     * parent is not in the mempool is left out. Transfers whose payload is held off-heap are returned as
+     * complete copies.
+     *
+     * @return A snapshot of the mempool.
+     */
+    public synchronized List<TransactionModel> getReadyToMine() {
+        List<TransactionModel> transfers = new ArrayList<>(this.readyToMine.size());
+        Set<TransactionHash> included = new HashSet<>();
+        Map<TransactionHash, List<MempoolEntry>> waitingByParentHashIdMap = new HashMap<>();
+
+        for (MempoolEntry entry : this.readyToMine) {
+            Deque<MempoolEntry> toInclude = new ArrayDeque<>();
+            toInclude.add(entry);
+
+            while (!toInclude.isEmpty()) {
+                MempoolEntry next = toInclude.poll();
+                TransactionHash missingParent = findMissingParent(next.transfer(), included);
+
+                if (missingParent != null) {
+                    waitingByParentHashIdMap.computeIfAbsent(missingParent, hashId -> new ArrayList<>()).add(next);
+                    continue;
+                }
+
+                transfers.add(this.payloadStore != null ? this.payloadStore.load(next.transfer()) : next.transfer());
+                included.add(next.transfer().getHashId());
+
+                List<MempoolEntry> waiting = waitingByParentHashIdMap.remove(next.transfer().getHashId());
+                if (waiting != null) {
+                    toInclude.addAll(waiting);
+                }
+            }
+        }
+
+        return transfers;
+    }
+
+    /**
+     * Records a status transition of a cached transfer made outside the cache, applying it to the cached instance
+     * and keeping the per-status counts of {@link #getSummary()} up to date.
+     * <p>
+     * The cached instance takes the status of the transfer's state, if it has one, rather than that of the given
+     * transfer, so transitions recorded out of order by concurrent threads still leave it at the latest status.
+     *
+     * @param transfer The transfer whose status has changed, which may be a copy of the cached instance.
+     */
+    public synchronized void updateStatus(TransferModel transfer) {
+        TransferModel cached = this.transferByHashIdMap.get(transfer.getHashId());
+        if (cached == null) {
+            return;
+        }
+
+        TransferState state = this.transferStateByHashIdMap.get(transfer.getHashId());
+        cached.setStatus(state != null ? state.getStatus() : transfer.getStatus());
+        countStatus(cached);
+    }
+
+    /**
+     * @param hashId The hash ID of the transfer.
+     * @return The latest status of a transfer being processed and when it moved to it, or {@code null} if it is
+     * not cached, as once mined.
+     */
+    public synchronized TransferStatusModel findStatus(TransactionHash hashId) {
+        return this.countedStatusByHashIdMap.get(hashId);
+    }
+
+    /**
+     * Summarises the mempool and the transfers being processed from incrementally maintained counters.
+     *
+     * @return The summary.
+     */
+    public synchronized MempoolModel getSummary() {
+        List<MempoolModel.FeeRateBucket> feeRateHistogram = new ArrayList<>(FEE_RATE_BUCKET_BOUNDS.length);
+        for (int i = 0; i < FEE_RATE_BUCKET_BOUNDS.length; i++) {
+            feeRateHistogram.add(new MempoolModel.FeeRateBucket(
+                    FEE_RATE_BUCKET_BOUNDS[i],
+                    i + 1 < FEE_RATE_BUCKET_BOUNDS.length ? FEE_RATE_BUCKET_BOUNDS[i + 1] : null,
+                    this.feeRateBucketCounts[i],
+                    this.feeRateBucketBytes[i]
+            ));
+        }
+
+        return MempoolModel.builder()
+                .transferCount(this.readyToMine.size())
+                .totalBytes(this.readyToMineBytes)
+                .offHeapBytes(getOffHeapBytes())
+                .reservedInputCount(this.spenderHashIdByInputIdMap.size())
+                .feeRateHistogram(feeRateHistogram)
+                .agePercentiles(getAgePercentiles(System.currentTimeMillis() / 1000))
+                .statusCounts(new EnumMap<>(this.transferCountByStatusMap))
+                .build();
+    }
+
+    /**
+     * Retrieves every cached transfer which is not in a terminal state, oldest first so that parents precede
+     * their children. Transfers whose payload is held off-heap are returned as complete copies.
+     *
+     * @return A snapshot of the pending transfers.
+     */
+    public synchronized List<TransferModel> getPending() {
+        return this.transferByHashIdMap.values().stream()
+                .filter(transfer -> !transfer.isTerminal())
+                .sorted(Comparator.comparing(TransferModel::getCreatedAt))
+                .map(transfer -> this.payloadStore != null ? this.payloadStore.load(transfer) : transfer)
+                .toList();
     }
 
-    public void addGossip(TransactionHash hashId, TransferGossip gossip) {
-        this.transferGossipByHashIdMap.put(hashId, gossip);
+    /**
+     * Retrieves the total encoded size of the transfers in the mempool.
+     *
+     * @return The size in bytes.
+     */
+    public synchronized long getReadyToMineBytes() {
+        return this.readyToMineBytes;
     }
 
-    public TransferGossip getOrDefault(TransactionHash hashId) {
-        return this.transferGossipByHashIdMap.getOrDefault(hashId, new TransferGossip());
+    /**
+     * Retrieves the number of bytes of mempool payloads held off-heap.
+     *
+     * @return The size in bytes, or zero if off-heap storage is disabled.
+     */
+    public synchronized long getOffHeapBytes() {
+        return this.payloadStore != null ? this.payloadStore.getAllocatedBytes() : 0;
     }
 
-    public void readyToMine(TransferModel transfer) {
-        this.readyToMine.add(transfer);
-        this.transferGossipByHashIdMap.remove(transfer.getHashId());
+    @PreDestroy
+    synchronized void close() {
+        if (this.payloadStore != null) {
+            this.payloadStore.close();
+        }
     }
 
-    public List<TransactionModel> getReadyToMine() {
-        return readyToMine.stream().map(transfer -> (TransactionModel) transfer).toList();
+    /**
+     * Walks the mempool admission times from the newest, so each percentile is the age which that share of the
+     * mempool does not exceed.
+     *
+     * @param nowSeconds The current time in epoch seconds.
+     * @return The age percentiles in seconds.
+     */
+    private MempoolModel.AgePercentiles getAgePercentiles(long nowSeconds) {
+        int count = this.readyToMine.size();
+        if (count == 0) {
+            return new MempoolModel.AgePercentiles(0, 0, 0, 0);
+        }
+
+        long[] ages = new long[AGE_PERCENTILES.length];
+        int percentile = 0;
+        long seen = 0;
+
+        for (Map.Entry<Long, Long> admitted : this.readyToMineCountByAdmittedSecondMap.descendingMap().entrySet()) {
+            seen += admitted.getValue();
+            while (percentile < AGE_PERCENTILES.length && seen >= Math.ceil(AGE_PERCENTILES[percentile] * count)) {
+                ages[percentile++] = Math.max(0, nowSeconds - admitted.getKey());
+            }
+        }
+
+        long max = Math.max(0, nowSeconds - this.readyToMineCountByAdmittedSecondMap.firstKey());
+        return new MempoolModel.AgePercentiles(ages[0], ages[1], ages[2], max);
+    }
+
+    /**
+     * Adds an entry entering the mempool to, or removes an entry leaving it from, the histogram and age counters.
+     *
+     * @param entry The mempool entry.
+     * @param delta {@code 1} when the entry enters the mempool; {@code -1} when it leaves.
+     */
+    private void countReadyToMine(MempoolEntry entry, int delta) {
+        int bucket = getFeeRateBucket(entry.feeRate());
+        this.feeRateBucketCounts[bucket] += delta;
+        this.feeRateBucketBytes[bucket] += (long) delta * entry.size();
+
+        this.readyToMineCountByAdmittedSecondMap.merge(entry.admittedAt(), (long) delta, TransferCacheService::sumOrRemove);
+    }
+
+    private static int getFeeRateBucket(double feeRate) {
+        int index = Arrays.binarySearch(FEE_RATE_BUCKET_BOUNDS, feeRate);
+        return Math.max(0, index >= 0 ? index : -index - 2);
+    }
+
+    /**
+     * Moves a cached transfer to its current status in the per-status counts, publishing the transition.
+     *
+     * @param transfer The transfer, ignored unless cached.
+     */
+    private void countStatus(TransferModel transfer) {
+        if (transfer.getStatus() == null || !this.transferByHashIdMap.containsKey(transfer.getHashId())) {
+            return;
+        }
+
+        TransferStatusModel previous = this.countedStatusByHashIdMap.get(transfer.getHashId());
+        if (previous == null || previous.status() != transfer.getStatus()) {
+            if (previous != null) {
+                this.transferCountByStatusMap.merge(previous.status(), -1L, TransferCacheService::sumOrRemove);
+            }
+            this.transferCountByStatusMap.merge(transfer.getStatus(), 1L, Long::sum);
+
+            TransferStatusModel transition = toTransition(transfer.getHashId(), transfer.getStatus());
+            this.countedStatusByHashIdMap.put(transfer.getHashId(), transition);
+            this.statusEvents.publish(transition);
+        }
+    }
+
+    private static TransferStatusModel toTransition(TransactionHash hashId, TransactionStatus status) {
+        return TransferStatusModel.builder()
+                .hashId(hashId)
+                .status(status)
+                .updatedAt(TimestampUtility.getOffsetDateTimeNow())
+                .build();
+    }
+
+    private static Long sumOrRemove(Long count, Long change) {
+        return count + change == 0 ? null : count + change;
+    }
+
+    /**
+     * Removes a transfer leaving the cache from the per-status counts.
+     *
+     * @param hashId The hash ID of the transfer.
+     */
+    private void uncountStatus(TransactionHash hashId) {
+        TransferStatusModel previous = this.countedStatusByHashIdMap.remove(hashId);
+        if (previous != null) {
+            this.transferCountByStatusMap.merge(previous.status(), -1L, TransferCacheService::sumOrRemove);
+        }
+    }
+
+    /**
+     * Finds a pending transfer whose output is spent by the given transfer and which has not been included yet.
+     *
+     * @param transfer The transfer whose inputs to check.
+     * @param included The hash IDs of the transfers already included.
+     * @return The hash ID of a pending parent which has not been included, or {@code null} if there is none.
+     */
+    private TransactionHash findMissingParent(TransferModel transfer, Set<TransactionHash> included) {
+        for (UtxoModel input : transfer.getInputs()) {
+            TransactionHash parentHashId = input.getId().getTransactionHashId();
+
+            if (this.transferByHashIdMap.containsKey(parentHashId) && !included.contains(parentHashId)) {
+                return parentHashId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes a transfer from the mempool only, leaving the rest of the cache untouched.
+     *
+     * @param hashId The hash ID of the transfer.
+     */
+    private void removeReadyToMine(TransactionHash hashId) {
+        MempoolEntry entry = this.readyToMineByHashIdMap.get(hashId);
+        if (entry != null) {
+            discard(entry);
+        }
+    }
+
+    /**
+     * Removes an entry from the mempool and frees its off-heap payload.
+     *
+     * @param entry The entry to remove.
+     */
+    private void discard(MempoolEntry entry) {
+        this.readyToMine.remove(entry);
+        this.readyToMineByHashIdMap.remove(entry.transfer().getHashId());
+        this.readyToMineBytes -= entry.size();
+        countReadyToMine(entry, -1);
+
+        if (this.payloadStore != null) {
+            this.payloadStore.remove(entry.transfer());
+        }
+    }
+
+    /**
+     * Removes the reservation of an input held by the given transfer, making the input spendable again.
+     *
+     * @param input The reserved input.
+     * @param hashId The hash ID of the transfer holding the reservation.
+     */
+    private void unreserve(UtxoModel input, TransactionHash hashId) {
+        if (this.spenderHashIdByInputIdMap.remove(input.getId(), hashId)) {
+            adjustPendingChange(input, input.getAmount().toBaseUnits());
+        }
+    }
+
+    /**
+     * Indexes the change output of a pending transfer as spendable by its sender.
+     *
+     * @param transfer The pending transfer.
+     */
+    private void indexPendingChange(TransferModel transfer) {
+        UtxoModel change = getChange(transfer);
+        if (change == null) {
+            return;
+        }
+
+        PendingChange pendingChange = this.pendingChangeBySenderMap.computeIfAbsent(transfer.getSenderAddress(), sender -> new PendingChange());
+        if (pendingChange.outputs.putIfAbsent(change.getId(), change) == null
+                && !this.spenderHashIdByInputIdMap.containsKey(change.getId())) {
+            pendingChange.unreservedBaseUnits += change.getAmount().toBaseUnits();
+        }
+    }
+
+    /**
+     * Removes the change output of a transfer which is no longer pending from its sender's index.
+     *
+     * @param transfer The transfer which has been mined or will not be mined.
+     */
+    private void unindexPendingChange(TransferModel transfer) {
+        UtxoModel change = getChange(transfer);
+        PendingChange pendingChange = this.pendingChangeBySenderMap.get(transfer.getSenderAddress());
+        if (change == null || pendingChange == null) {
+            return;
+        }
+
+        if (pendingChange.outputs.remove(change.getId()) != null
+                && !this.spenderHashIdByInputIdMap.containsKey(change.getId())) {
+            pendingChange.unreservedBaseUnits -= change.getAmount().toBaseUnits();
+        }
+
+        if (pendingChange.outputs.isEmpty()) {
+            this.pendingChangeBySenderMap.remove(transfer.getSenderAddress());
+        }
+    }
+
+    /**
+     * Adjusts the unreserved pending balance of the owner of an input, if the input is a pending change output.
+     *
+     * @param input The input being reserved or unreserved.
+     * @param baseUnits The amount to add to the unreserved pending balance.
+     */
+    private void adjustPendingChange(UtxoModel input, long baseUnits) {
+        PendingChange pendingChange = this.pendingChangeBySenderMap.get(input.getRecipientAddress());
+        if (pendingChange != null && pendingChange.outputs.containsKey(input.getId())) {
+            pendingChange.unreservedBaseUnits += baseUnits;
+        }
+    }
+
+    /**
+     * Fails and releases every pending transfer spending an output of a transfer which will not be mined.
+     *
+     * @param transfer The transfer which will not be mined.
+     */
+    private void failDescendants(TransferModel transfer) {
+        if (transfer.getOutputs() == null) {
+            return;
+        }
+
+        for (UtxoModel output : transfer.getOutputs()) {
+            TransactionHash spender = this.spenderHashIdByInputIdMap.get(output.getId());
+            TransferModel descendant = spender != null ? this.transferByHashIdMap.get(spender) : null;
+
+            if (descendant != null) {
+                descendant.setStatus(TransactionStatus.FAILED);
+                countStatus(descendant);
+                release(descendant);
+                log.info("{} Spends an output of {} which will not be mined. Marked as {}.", descendant, transfer.getHashId(), descendant.getStatus());
+            }
+        }
+    }
+
+    /**
+     * Fails and releases a pending transfer which spends an input already spent by a mined transfer.
+     *
+     * @param hashId The hash ID of the conflicting transfer.
+     * @param mined The mined transfer it conflicts with.
+     */
+    private void dropConflicting(TransactionHash hashId, TransferModel mined) {
+        TransferModel conflicting = this.transferByHashIdMap.get(hashId);
+        if (conflicting == null) {
+            return;
+        }
+
+        conflicting.setStatus(TransactionStatus.FAILED);
+        countStatus(conflicting);
+        release(conflicting);
+        log.info("{} Conflicts with mined transfer {}. Marked as {}.", conflicting, mined.getHashId(), conflicting.getStatus());
+    }
+
+    /**
+     * Finds the pending transfers whose outputs a transfer spends, directly or through other pending transfers.
+     *
+     * @param transfer The transfer.
+     * @return The hash IDs of its cached ancestors, which may be empty.
+     */
+    private Set<TransactionHash> findAncestors(TransferModel transfer) {
+        Set<TransactionHash> ancestors = new HashSet<>();
+        Deque<TransferModel> toVisit = new ArrayDeque<>();
+        toVisit.add(transfer);
+
+        while (!toVisit.isEmpty()) {
+            for (UtxoModel input : toVisit.poll().getInputs()) {
+                TransactionHash parentHashId = input.getId().getTransactionHashId();
+                TransferModel parent = this.transferByHashIdMap.get(parentHashId);
+
+                if (parent != null && ancestors.add(parentHashId)) {
+                    toVisit.add(parent);
+                }
+            }
+        }
+
+        return ancestors;
+    }
+
+    /**
+     * Removes the lowest fee rate entries from the mempool until the candidate fits. The candidate's ancestors are
+     * never evicted, as releasing them would fail the candidate with them. Nothing is removed if the candidate would
+     * have to evict an entry paying an equal or higher fee rate, or can never fit.
+     *
+     * @param candidate The entry to make room for.
+     * @param ancestors The hash IDs of the candidate's pending ancestors.
+     * @return The evicted entries, or {@code null} if the candidate cannot be admitted.
+     */
+    private List<MempoolEntry> evictFor(MempoolEntry candidate, Set<TransactionHash> ancestors) {
+        long required = this.readyToMineBytes + candidate.size() - this.maxBytes;
+        if (required <= 0) {
+            return List.of();
+        }
+
+        List<MempoolEntry> toEvict = new ArrayList<>();
+        long freed = 0;
+        for (MempoolEntry lowest : this.readyToMine.descendingSet()) {
+            if (freed >= required) {
+                break;
+            }
+            if (lowest.feeRate() >= candidate.feeRate()) {
+                return null;
+            }
+            if (ancestors.contains(lowest.transfer().getHashId())) {
+                continue;
+            }
+            toEvict.add(lowest);
+            freed += lowest.size();
+        }
+
+        if (freed < required) {
+            return null;
+        }
+
+        toEvict.forEach(this::discard);
+
+        return toEvict;
+    }
+
+    /**
+     * Retrieves the change output a transfer pays back to its sender.
+     *
+     * @param transfer The transfer.
+     * @return The change output, or {@code null} if the transfer has no change.
+     */
+    private static UtxoModel getChange(TransferModel transfer) {
+        if (transfer.getOutputs() == null) {
+            return null;
+        }
+
+        return transfer.getOutputs().stream()
+                .filter(output -> OutputIndex.SENDER.equals(output.getId().getOutputIndex()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * A transfer in the mempool together with its ordering key.
+     *
+     * @param transfer The confirmed transfer.
+     * @param feeRate The fee in base units per encoded byte.
+     * @param size The encoded size in bytes.
+     * @param sequence The admission order, breaking ties between equal fee rates in favour of earlier transfers.
+     * @param admittedAt The time of admission in epoch seconds.
+     */
+    private record MempoolEntry(TransferModel transfer, double feeRate, int size, long sequence, long admittedAt) {
+
+        static MempoolEntry of(TransferModel transfer, long sequence, long admittedAt) {
+            int size = transfer.getEncodedSize();
+            return new MempoolEntry(transfer, (double) transfer.getFee().toBaseUnits() / size, size, sequence, admittedAt);
+        }
+    }
+
+    /**
+     * The change outputs of a sender's pending transfers, in the order they became pending, and the total value
+     * of those which no other pending transfer has reserved.
+     */
+    private static final class PendingChange {
+
+        private final Map<UtxoId, UtxoModel> outputs = new LinkedHashMap<>();
+
+        private long unreservedBaseUnits;
     }
 }
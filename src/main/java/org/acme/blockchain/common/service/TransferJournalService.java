@@ -0,0 +1,547 @@
+package org.acme.blockchain.common.service;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.common.utility.TimestampUtility;
+import org.acme.blockchain.transaction.mapper.TransferCodec;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only, memory-mapped journal of the transfers accepted by this node and their status transitions,
+ * replayed at startup to rebuild the mempool after a restart or crash.
+ * <p>
+ * Status transitions are taken from every transition the {@link TransferCacheService} publishes to
+ * {@link TransferStatusEventService}, including those it makes itself on eviction, expiry, conflict and mining.
+ * They are queued as they are published, as the cache holds its lock while publishing, and journaled with the next
+ * record or flush.
+ * <p>
+ * The journal file is mapped in full ({@code copo.mempool.journal.max-bytes}) so appending is a memory copy.
+ * Each record is framed by its length and a CRC32C checksum, with the length written last, so a record torn
+ * by a crash ends the replay instead of corrupting it. Writes reach the page cache immediately, surviving a
+ * process crash, and are forced to disk every {@code copo.mempool.journal.flush-interval}.
+ * <p>
+ * Every {@code copo.mempool.journal.compaction-interval}, or when the journal fills up, it is rewritten to
+ * hold only the transfers still pending in the {@link TransferCacheService}, and atomically replaces the old
+ * file only once the new one is complete on disk. Replay skips transfers which would already have expired,
+ * {@code copo.mempool.expiry.pending-ttl} after they were created or {@code copo.mempool.expiry.confirmed-ttl} for
+ * those in the mempool, and transfers spending outputs which have since been spent on chain. It seeds the
+ * {@link VerifiedSignatureCacheService}, as only transfers whose signature has been verified are journaled.
+ */
+@Slf4j
+@ApplicationScoped
+public class TransferJournalService {
+
+    private static final int MAGIC = 0x434F504A;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_LENGTH = 8;
+
+    private static final int FRAME_LENGTH = 8;
+
+    private static final int HASH_LENGTH = 32;
+
+    private static final byte ACCEPTED = 1;
+
+    private static final byte STATUS = 2;
+
+    private final TransferCacheService cache;
+
+    private final TransferStatusEventService statusEvents;
+
+    private final VerifiedSignatureCacheService verifiedSignatureCache;
+
+    private final UtxoRepository utxoRepository;
+
+    private final boolean enabled;
+
+    private final Path path;
+
+    private final long maxBytes;
+
+    private final Duration pendingTtl;
+
+    private final Duration confirmedTtl;
+
+    private final Set<TransactionHash> acceptedHashIds = new HashSet<>();
+
+    private final Queue<TransferStatusModel> transitions = new ConcurrentLinkedQueue<>();
+
+    private Cancellable subscription;
+
+    private FileChannel channel;
+
+    private Arena arena;
+
+    private MemorySegment journal;
+
+    private long position;
+
+    @Inject
+    public TransferJournalService(
+            TransferCacheService cache,
+            TransferStatusEventService statusEvents,
+            VerifiedSignatureCacheService verifiedSignatureCache,
+            UtxoRepository utxoRepository,
+            @ConfigProperty(name = "copo.mempool.journal.enabled") boolean enabled,
+            @ConfigProperty(name = "copo.mempool.journal.path") String path,
+            @ConfigProperty(name = "copo.mempool.journal.max-bytes") long maxBytes,
+            @ConfigProperty(name = "copo.mempool.expiry.pending-ttl") Duration pendingTtl,
+            @ConfigProperty(name = "copo.mempool.expiry.confirmed-ttl") Duration confirmedTtl) {
+        this.cache = cache;
+        this.statusEvents = statusEvents;
+        this.verifiedSignatureCache = verifiedSignatureCache;
+        this.utxoRepository = utxoRepository;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.maxBytes = maxBytes;
+        this.pendingTtl = pendingTtl;
+        this.confirmedTtl = confirmedTtl;
+    }
+
+    /**
+     * Maps the journal and replays it into the mempool once the application has started, if the journal is enabled.
+     *
+     * @param event The Quarkus startup event.
+     */
+    synchronized void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        use(open(this.path));
+        Collection<TransferModel> replayed = replay();
+        int restored = restore(replayed);
+
+        this.subscription = this.statusEvents.streamAll()
+                .subscribe().with(this.transitions::add);
+        compact();
+
+        log.info("Replayed mempool journal {}. Restored {} of {} journaled transfers.", this.path, restored, replayed.size());
+    }
+
+    /**
+     * Records a transfer which has passed validation, including its signature check.
+     *
+     * @param transfer The accepted transfer, with its public key and signature.
+     */
+    public synchronized void recordAccepted(TransferModel transfer) {
+        if (this.journal == null) {
+            return;
+        }
+
+        recordTransitions();
+        this.acceptedHashIds.add(transfer.getHashId());
+        append(encodeAccepted(transfer));
+    }
+
+    /**
+     * Journals the queued status transitions and forces journaled records to disk.
+     */
+    @Scheduled(every = "${copo.mempool.journal.flush-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public synchronized void flush() {
+        if (this.journal != null) {
+            recordTransitions();
+            this.journal.force();
+        }
+    }
+
+    /**
+     * Rewrites the journal to hold only the accepted transfers still pending, then atomically replaces the old
+     * journal. Transfers cached but not yet validated are left out, so replay never trusts an unchecked signature.
+     * <p>
+     * The compacted journal is written and forced to disk before it replaces the old one, and the old journal stays
+     * in use until the replacement is durable, so a failed compaction leaves journaling as it was.
+     */
+    @Scheduled(every = "${copo.mempool.journal.compaction-interval}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public synchronized void compact() {
+        if (this.journal == null) {
+            return;
+        }
+
+        long before = this.position;
+        Path compactedPath = this.path.resolveSibling(this.path.getFileName() + ".compact");
+
+        pollTransitions();
+        List<TransferModel> pending = this.cache.getPending().stream()
+                .filter(transfer -> this.acceptedHashIds.contains(transfer.getHashId()))
+                .toList();
+
+        MappedJournal compacted = null;
+        Set<TransactionHash> compactedHashIds = new HashSet<>();
+        long compactedPosition = HEADER_LENGTH;
+
+        try {
+            Files.deleteIfExists(compactedPath);
+            compacted = open(compactedPath);
+
+            for (TransferModel transfer : pending) {
+                byte[] body = encodeAccepted(transfer);
+                if (compactedPosition + FRAME_LENGTH + body.length > this.maxBytes) {
+                    log.warn("Compacted mempool journal {} is full. {} dropped.", this.path, transfer);
+                    continue;
+                }
+
+                compactedPosition = write(compacted.segment(), compactedPosition, body);
+                compactedHashIds.add(transfer.getHashId());
+            }
+            compacted.segment().force();
+
+            Files.move(compactedPath, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | UncheckedIOException e) {
+            if (compacted != null) {
+                compacted.close();
+            }
+            deleteQuietly(compactedPath);
+            log.error("Failed to compact mempool journal {}. Journaling continues uncompacted.", this.path, e);
+            return;
+        }
+
+        forceDirectory(this.path);
+
+        unmap();
+        use(compacted);
+        this.position = compactedPosition;
+        this.acceptedHashIds.clear();
+        this.acceptedHashIds.addAll(compactedHashIds);
+
+        log.debug("Compacted mempool journal from {} to {} bytes.", before, this.position);
+    }
+
+    /**
+     * Journals the queued status transitions, forces the journal to disk and unmaps it when the application shuts
+     * down.
+     */
+    @PreDestroy
+    synchronized void close() {
+        if (this.subscription != null) {
+            this.subscription.cancel();
+            this.subscription = null;
+        }
+
+        if (this.journal == null) {
+            return;
+        }
+
+        recordTransitions();
+        unmap();
+    }
+
+    /**
+     * Maps a journal file, writing a fresh header if it has none.
+     *
+     * @param file The journal file, created if it does not exist.
+     * @return The mapped journal.
+     */
+    private MappedJournal open(Path file) {
+        MappedJournal mapped;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Arena fileArena = Arena.ofShared();
+            try {
+                mapped = new MappedJournal(fileChannel, fileArena, fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, this.maxBytes, fileArena));
+            } catch (IOException e) {
+                fileArena.close();
+                fileChannel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        MemorySegment segment = mapped.segment();
+        if (segment.get(ValueLayout.JAVA_INT_UNALIGNED, 0) != MAGIC
+                || segment.get(ValueLayout.JAVA_INT_UNALIGNED, 4) != VERSION) {
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, 0, MAGIC);
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, 4, VERSION);
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, HEADER_LENGTH, 0);
+        }
+        return mapped;
+    }
+
+    /**
+     * Makes a mapped journal the one appended to, positioned after its header.
+     */
+    private void use(MappedJournal mapped) {
+        this.channel = mapped.channel();
+        this.arena = mapped.arena();
+        this.journal = mapped.segment();
+        this.position = HEADER_LENGTH;
+    }
+
+    /**
+     * Forces the journal in use to disk and unmaps it.
+     */
+    private void unmap() {
+        new MappedJournal(this.channel, this.arena, this.journal).close();
+        this.journal = null;
+    }
+
+    /**
+     * Forces the directory entry of a file to disk, so that a rename survives a crash.
+     */
+    private void forceDirectory(Path file) {
+        try (FileChannel directory = FileChannel.open(file.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            log.warn("Failed to force directory of mempool journal {}.", file, e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}.", file, e);
+        }
+    }
+
+    /**
+     * Journals the status transitions queued since the last record, for accepted transfers only.
+     */
+    private void recordTransitions() {
+        TransferStatusModel transition;
+        while ((transition = this.transitions.poll()) != null) {
+            if (!this.acceptedHashIds.contains(transition.hashId())) {
+                continue;
+            }
+
+            if (TransactionStatus.getTerminal().contains(transition.status())) {
+                this.acceptedHashIds.remove(transition.hashId());
+            }
+
+            append(ByteBuffer.allocate(2 + HASH_LENGTH)
+                    .put(STATUS)
+                    .put(HashUtility.hexToBytes(transition.hashId().value()))
+                    .put((byte) transition.status().ordinal())
+                    .array());
+        }
+    }
+
+    /**
+     * Drops the queued status transitions before a compaction, which journals the current status of each pending
+     * transfer instead, forgetting the transfers which have reached a terminal status.
+     */
+    private void pollTransitions() {
+        TransferStatusModel transition;
+        while ((transition = this.transitions.poll()) != null) {
+            if (TransactionStatus.getTerminal().contains(transition.status())) {
+                this.acceptedHashIds.remove(transition.hashId());
+            }
+        }
+    }
+
+    private static byte[] encodeAccepted(TransferModel transfer) {
+        byte[] encoded = TransferCodec.encode(transfer);
+        return ByteBuffer.allocate(1 + encoded.length)
+                .put(ACCEPTED)
+                .put(encoded)
+                .array();
+    }
+
+    /**
+     * Writes a record, compacting the journal first if it does not fit.
+     *
+     * @param body The record type followed by its payload.
+     */
+    private void append(byte[] body) {
+        if (this.position + FRAME_LENGTH + body.length > this.maxBytes) {
+            compact();
+        }
+
+        if (this.position + FRAME_LENGTH + body.length > this.maxBytes) {
+            log.warn("Mempool journal {} is full. Record of {} bytes dropped.", this.path, body.length);
+            return;
+        }
+
+        this.position = write(this.journal, this.position, body);
+    }
+
+    /**
+     * Frames a record at a position, writing its length last so that a torn record is never taken as complete.
+     *
+     * @return The position after the record.
+     */
+    private static long write(MemorySegment segment, long position, byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+
+        MemorySegment.copy(body, 0, segment, ValueLayout.JAVA_BYTE, position + FRAME_LENGTH, body.length);
+        segment.set(ValueLayout.JAVA_INT_UNALIGNED, position + 4, (int) crc.getValue());
+        segment.set(ValueLayout.JAVA_INT_UNALIGNED, position, body.length);
+
+        return position + FRAME_LENGTH + body.length;
+    }
+
+    /**
+     * Reads every intact record, stopping at the first empty or torn one, and leaves the journal positioned after
+     * the last intact record.
+     *
+     * @return The journaled transfers with their latest status, in the order they were accepted.
+     */
+    private Collection<TransferModel> replay() {
+        Map<TransactionHash, TransferModel> transferByHashIdMap = new LinkedHashMap<>();
+
+        while (this.position + FRAME_LENGTH <= this.maxBytes) {
+            int length = this.journal.get(ValueLayout.JAVA_INT_UNALIGNED, this.position);
+            if (length <= 0 || this.position + FRAME_LENGTH + length > this.maxBytes) {
+                break;
+            }
+
+            byte[] body = new byte[length];
+            MemorySegment.copy(this.journal, ValueLayout.JAVA_BYTE, this.position + FRAME_LENGTH, body, 0, length);
+
+            CRC32C crc = new CRC32C();
+            crc.update(body);
+            if ((int) crc.getValue() != this.journal.get(ValueLayout.JAVA_INT_UNALIGNED, this.position + 4)) {
+                log.warn("Mempool journal {} has a torn record at offset {}. Replay stopped.", this.path, this.position);
+                break;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(body);
+            if (record.get() == ACCEPTED) {
+                byte[] encoded = new byte[length - 1];
+                record.get(encoded);
+                TransferModel transfer = TransferCodec.decode(encoded);
+                transferByHashIdMap.put(transfer.getHashId(), transfer);
+            } else {
+                byte[] hashId = new byte[HASH_LENGTH];
+                record.get(hashId);
+                TransferModel transfer = transferByHashIdMap.get(new TransactionHash(HashUtility.bytesToHex(hashId)));
+                if (transfer != null) {
+                    transfer.setStatus(TransactionStatus.values()[record.get()]);
+                }
+            }
+
+            this.position += FRAME_LENGTH + length;
+        }
+
+        return transferByHashIdMap.values();
+    }
+
+    /**
+     * Returns replayed transfers which are still pending to the cache, the mempool if they were confirmed.
+     *
+     * @param replayed The replayed transfers in the order they were accepted, so parents precede their children.
+     * @return The number of transfers restored.
+     */
+    private int restore(Collection<TransferModel> replayed) {
+        Map<UtxoId, Boolean> isSpentByIdMap = findIsSpentByIds(replayed);
+        OffsetDateTime now = TimestampUtility.getOffsetDateTimeNow();
+        int restored = 0;
+
+        for (TransferModel transfer : replayed) {
+            if (transfer.isTerminal() || isExpired(transfer, now) || isAnyInputSpent(transfer, isSpentByIdMap)) {
+                continue;
+            }
+
+            this.verifiedSignatureCache.markVerified(transfer.getHashId(), transfer.getSenderPublicKeyEncoded(), transfer.getSignature());
+            this.cache.addTransfer(transfer.getHashId(), transfer);
+
+            boolean isRestored = TransactionStatus.CONFIRMED.equals(transfer.getStatus())
+                    ? this.cache.readyToMine(transfer)
+                    : this.cache.reserveInputs(transfer);
+
+            if (isRestored) {
+                this.acceptedHashIds.add(transfer.getHashId());
+                restored++;
+            } else {
+                transfer.setStatus(TransactionStatus.FAILED);
+                this.cache.release(transfer);
+                log.debug("{} Conflicts with another journaled transfer. Marked as {}.", transfer, transfer.getStatus());
+            }
+        }
+
+        return restored;
+    }
+
+    /**
+     * Looks up the inputs of every pending replayed transfer in a single query. Inputs which are pending outputs
+     * of other journaled transfers are not on chain, so they are absent from the result.
+     */
+    private Map<UtxoId, Boolean> findIsSpentByIds(Collection<TransferModel> replayed) {
+        List<UtxoId> inputIds = replayed.stream()
+                .filter(transfer -> !transfer.isTerminal())
+                .flatMap(transfer -> transfer.getInputs().stream())
+                .map(UtxoModel::getId)
+                .distinct()
+                .toList();
+
+        return this.utxoRepository.findIsSpentByIds(inputIds);
+    }
+
+    /**
+     * @return {@code true} if the transfer would already have expired from the cache had the node kept running.
+     */
+    private boolean isExpired(TransferModel transfer, OffsetDateTime now) {
+        Duration ttl = TransactionStatus.CONFIRMED.equals(transfer.getStatus()) ? this.confirmedTtl : this.pendingTtl;
+        return transfer.getCreatedAt() == null || transfer.getCreatedAt().plus(ttl).isBefore(now);
+    }
+
+    private boolean isAnyInputSpent(TransferModel transfer, Map<UtxoId, Boolean> isSpentByIdMap) {
+        for (UtxoModel input : transfer.getInputs()) {
+            if (Boolean.TRUE.equals(isSpentByIdMap.get(input.getId()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A journal file and its mapping.
+     */
+    private record MappedJournal(FileChannel channel, Arena arena, MemorySegment segment) {
+
+        /**
+         * Forces the mapping to disk, unmaps it and closes the file.
+         */
+        void close() {
+            this.segment.force();
+            this.arena.close();
+
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close mempool journal.", e);
+            }
+        }
+    }
+}
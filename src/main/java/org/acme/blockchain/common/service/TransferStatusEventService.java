@@ -0,0 +1,56 @@
+package org.acme.blockchain.common.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+
+/**
+ * An application-scoped broadcast of the status transitions of the transfers being processed, to be followed by
+ * clients instead of polling.
+ * <p>
+ * Transitions are published by {@link TransferCacheService} while it holds its lock, so they arrive in order and
+ * one at a time, as the processor requires. Each subscriber sees only the transitions published after it
+ * subscribed. A subscriber following one transfer has its transitions buffered rather than holding up the cache;
+ * as a status only ever moves forward, the buffer holds every transition of the transfer.
+ */
+@ApplicationScoped
+public class TransferStatusEventService {
+
+    /**
+     * Each status is reached at most once in a transfer's lifecycle, with room to spare for a transfer held as an
+     * orphan and processed again.
+     */
+    private static final int BUFFER_SIZE = 2 * TransactionStatus.values().length;
+
+    private final BroadcastProcessor<TransferStatusModel> transitions = BroadcastProcessor.create();
+
+    public void publish(TransferStatusModel transition) {
+        this.transitions.onNext(transition);
+    }
+
+    /**
+     * Follows every transition, without dropping any. Transitions are delivered on the publishing thread while
+     * {@link TransferCacheService} holds its lock, so a subscriber must neither block nor call back into the cache.
+     *
+     * @return The transitions of every transfer from now on.
+     */
+    public Multi<TransferStatusModel> streamAll() {
+        return this.transitions;
+    }
+
+    /**
+     * Follows the transitions of one transfer, buffered for the subscriber so none is dropped, its terminal
+     * transition included. The stream fails rather than drop a transition if the buffer ever fills.
+     *
+     * @param hashId The hash ID of the transfer.
+     * @return The transitions of the transfer from now on.
+     */
+    public Multi<TransferStatusModel> stream(TransactionHash hashId) {
+        return this.transitions
+                .filter(transition -> transition.hashId().equals(hashId))
+                .onOverflow().buffer(BUFFER_SIZE);
+    }
+}
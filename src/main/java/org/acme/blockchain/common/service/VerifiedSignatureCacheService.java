@@ -0,0 +1,72 @@
+package org.acme.blockchain.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransactionSignature;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A thread-safe, application-scoped cache of signatures which have already been
+ * successfully verified by this node.
+ * <p>
+ * The same transfer is gossiped several times (BROADCASTED, CONFIRMED, REJECTED) and is later
+ * included in a block, each time carrying an identical hash, public key and signature. Caching the
+ * positive outcome means each unique signature pays for ML-DSA verification once per node.
+ * <p>
+ * Entries are keyed on the transaction hash, a fingerprint of the public key and a digest of the
+ * signature, so a copy carrying any different key or signature bytes is never treated as verified.
+ * Only successful verifications are cached, and the cache is bounded in size.
+ */
+@ApplicationScoped
+public class VerifiedSignatureCacheService {
+
+    private final Cache<VerifiedSignatureKey, Boolean> verifiedSignatures;
+
+    @Inject
+    public VerifiedSignatureCacheService(
+            @ConfigProperty(name = "copo.cache.verified-signature.maximum-size") long maximumSize) {
+        this.verifiedSignatures = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Checks whether the given signature has previously been verified for the transaction hash and public key.
+     *
+     * @param hashId The hash of the signed transaction.
+     * @param publicKeyEncoded The encoded public key the signature was verified against.
+     * @param signature The signature to look up.
+     * @return {@code true} if this exact combination has already been verified; {@code false} otherwise.
+     */
+    public boolean isVerified(TransactionHash hashId, byte[] publicKeyEncoded, TransactionSignature signature) {
+        return this.verifiedSignatures.getIfPresent(toKey(hashId, publicKeyEncoded, signature)) != null;
+    }
+
+    /**
+     * Records that the given signature has been successfully verified for the transaction hash and public key.
+     *
+     * @param hashId The hash of the signed transaction.
+     * @param publicKeyEncoded The encoded public key the signature was verified against.
+     * @param signature The verified signature.
+     */
+    public void markVerified(TransactionHash hashId, byte[] publicKeyEncoded, TransactionSignature signature) {
+        this.verifiedSignatures.put(toKey(hashId, publicKeyEncoded, signature), Boolean.TRUE);
+    }
+
+    private VerifiedSignatureKey toKey(TransactionHash hashId, byte[] publicKeyEncoded, TransactionSignature signature) {
+        String publicKeyFingerprint = HashUtility.bytesToHex(HashUtility.calculateSHA256(publicKeyEncoded));
+        String signatureDigest = HashUtility.bytesToHex(
+                HashUtility.calculateSHA256(signature.value().getBytes(StandardCharsets.US_ASCII)));
+
+        return new VerifiedSignatureKey(hashId, publicKeyFingerprint, signatureDigest);
+    }
+
+    private record VerifiedSignatureKey(TransactionHash hashId, String publicKeyFingerprint, String signatureDigest) {
+    }
+}
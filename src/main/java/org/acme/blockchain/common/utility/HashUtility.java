@@ -6,6 +6,7 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
 import java.security.Security;
 import java.util.HexFormat;
 
@@ -17,6 +18,9 @@ import java.util.HexFormat;
  * This class is designed to be immutable and non-instantiable, focusing only on static
  * helper methods.
  * <p>
+ * Digest instances are pooled and reused across calls, so the provider lookup through the global
+ * {@code Security} list only happens when the pool is empty rather than on every hash.
+ * <p>
  * In a blockchain context, these methods are vital for:
  * <ul>
  * <li>Calculating block hashes (Proof-of-Work).</li>
@@ -32,10 +36,17 @@ public final class HashUtility {
 
     private static final String BC_PROVIDER = "BC";
 
+    private static final Provider BOUNCY_CASTLE;
+
     static {
         Security.addProvider(new BouncyCastleProvider());
+        BOUNCY_CASTLE = Security.getProvider(BC_PROVIDER);
     }
 
+    private static final PrimitivePool<MessageDigest> SHA_256_DIGESTS = new PrimitivePool<>(HashUtility::newSHA256Digest);
+
+    private static final PrimitivePool<MessageDigest> BLAKE2B_DIGESTS = new PrimitivePool<>(HashUtility::newBLAKE2b256Digest);
+
     /**
      * Calculates the **Double-SHA-256** hash (SHA-256d) of a string, used
      * for block and transaction hashing.
@@ -89,12 +100,7 @@ public final class HashUtility {
             throw new IllegalArgumentException("Input byte array cannot be null.");
         }
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance(SHA_256_HASH_ALGORITHM);
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException e) {
-            throw new CryptographicException(SHA_256_HASH_ALGORITHM + " algorithm unexpectedly unavailable at runtime.", e);
-        }
+        return digest(SHA_256_DIGESTS, input);
     }
 
     /**
@@ -114,12 +120,7 @@ public final class HashUtility {
             throw new IllegalArgumentException("Input byte array cannot be null.");
         }
 
-        try {
-            MessageDigest digest = MessageDigest.getInstance(BLAKE2B_HASH_ALGORITHM, BC_PROVIDER);
-            return digest.digest(input);
-        } catch (NoSuchAlgorithmException | java.security.NoSuchProviderException e) {
-            throw new CryptographicException(BLAKE2B_HASH_ALGORITHM + " algorithm unexpectedly unavailable at runtime.", e);
-        }
+        return digest(BLAKE2B_DIGESTS, input);
     }
 
     /**
@@ -151,4 +152,47 @@ public final class HashUtility {
         }
         return HexFormat.of().parseHex(hex);
     }
+
+    /**
+     * Hashes the input with a digest borrowed from the given pool, returning the digest to the pool afterwards.
+     * {@link MessageDigest#digest(byte[])} resets the digest, leaving it ready for reuse.
+     *
+     * @param digests The pool of digests for the required algorithm.
+     * @param input The byte array to be hashed.
+     * @return The resulting hash.
+     */
+    private static byte[] digest(PrimitivePool<MessageDigest> digests, byte[] input) {
+        MessageDigest digest = digests.borrow();
+        byte[] hash = digest.digest(input);
+        digests.release(digest);
+        return hash;
+    }
+
+    /**
+     * Creates a new SHA-256 digest for the pool.
+     *
+     * @return A new SHA-256 {@link MessageDigest}.
+     * @throws CryptographicException if the {@code SHA-256} algorithm is unexpectedly unavailable at runtime.
+     */
+    private static MessageDigest newSHA256Digest() {
+        try {
+            return MessageDigest.getInstance(SHA_256_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CryptographicException(SHA_256_HASH_ALGORITHM + " algorithm unexpectedly unavailable at runtime.", e);
+        }
+    }
+
+    /**
+     * Creates a new BLAKE2b-256 digest for the pool, bound directly to the Bouncy Castle provider instance.
+     *
+     * @return A new BLAKE2b-256 {@link MessageDigest}.
+     * @throws CryptographicException if the {@code BLAKE2b-256} algorithm is unexpectedly unavailable at runtime.
+     */
+    private static MessageDigest newBLAKE2b256Digest() {
+        try {
+            return MessageDigest.getInstance(BLAKE2B_HASH_ALGORITHM, BOUNCY_CASTLE);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CryptographicException(BLAKE2B_HASH_ALGORITHM + " algorithm unexpectedly unavailable at runtime.", e);
+        }
+    }
 }
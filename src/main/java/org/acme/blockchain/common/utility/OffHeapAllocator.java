@@ -0,0 +1,182 @@
+package org.acme.blockchain.common.utility;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A best-fit allocator of variable length blocks in native memory outside the Java heap, for storing large
+ * byte payloads without adding to garbage collection work.
+ * <p>
+ * Memory is reserved from a shared {@link Arena} in chunks of {@code chunkBytes}, lazily and up to
+ * {@code capacityBytes} in total, and is only returned to the operating system when the allocator is closed.
+ * Freed blocks are coalesced with free neighbours in the same chunk. A block is addressed by its offset across
+ * all chunks and never spans two chunks.
+ * <p>
+ * This class is not thread-safe: callers must synchronise allocation, access and freeing.
+ */
+public final class OffHeapAllocator implements AutoCloseable {
+
+    private static final int ALIGNMENT = Long.BYTES;
+
+    private static final Comparator<Block> BY_SIZE = Comparator
+            .comparingLong(Block::size)
+            .thenComparingLong(Block::offset);
+
+    private final Arena arena = Arena.ofShared();
+
+    private final List<MemorySegment> chunks = new ArrayList<>();
+
+    private final long chunkBytes;
+
+    private final int maxChunks;
+
+    private final NavigableSet<Block> freeBySize = new TreeSet<>(BY_SIZE);
+
+    private final TreeMap<Long, Block> freeByOffset = new TreeMap<>();
+
+    private long allocatedBytes;
+
+    /**
+     * Creates an allocator which has not reserved any memory yet.
+     *
+     * @param capacityBytes The maximum number of bytes reserved, rounded down to whole chunks.
+     * @param chunkBytes The number of bytes reserved at a time, which is also the largest allocatable block.
+     */
+    public OffHeapAllocator(long capacityBytes, long chunkBytes) {
+        if (chunkBytes <= 0 || chunkBytes % ALIGNMENT != 0) {
+            throw new IllegalArgumentException("Chunk size must be a positive multiple of " + ALIGNMENT + ": " + chunkBytes);
+        }
+
+        this.chunkBytes = chunkBytes;
+        this.maxChunks = (int) Math.min(Integer.MAX_VALUE, capacityBytes / chunkBytes);
+    }
+
+    /**
+     * Allocates a block of at least the given length.
+     *
+     * @param length The number of bytes required.
+     * @return The offset of the block, or {@code -1} if no free block is large enough and the capacity is reached.
+     */
+    public long allocate(int length) {
+        long size = align(length);
+        if (size <= 0 || size > this.chunkBytes) {
+            return -1;
+        }
+
+        Block block = this.freeBySize.ceiling(new Block(-1, size));
+        if (block == null) {
+            if (this.chunks.size() >= this.maxChunks) {
+                return -1;
+            }
+            block = reserveChunk();
+        }
+
+        removeFree(block);
+        if (block.size() > size) {
+            addFree(new Block(block.offset() + size, block.size() - size));
+        }
+
+        this.allocatedBytes += size;
+        return block.offset();
+    }
+
+    /**
+     * Frees a block, merging it with any adjacent free block in the same chunk.
+     *
+     * @param offset The offset returned when the block was allocated.
+     * @param length The length requested when the block was allocated.
+     */
+    public void free(long offset, int length) {
+        long size = align(length);
+        this.allocatedBytes -= size;
+
+        long start = offset;
+        long end = offset + size;
+
+        Map.Entry<Long, Block> lower = this.freeByOffset.lowerEntry(start);
+        if (lower != null && lower.getValue().end() == start && isSameChunk(lower.getKey(), start)) {
+            removeFree(lower.getValue());
+            start = lower.getKey();
+        }
+
+        Block higher = this.freeByOffset.get(end);
+        if (higher != null && isSameChunk(start, end)) {
+            removeFree(higher);
+            end = higher.end();
+        }
+
+        addFree(new Block(start, end - start));
+    }
+
+    public void write(long offset, byte[] bytes) {
+        MemorySegment.copy(bytes, 0, chunk(offset), ValueLayout.JAVA_BYTE, offset % this.chunkBytes, bytes.length);
+    }
+
+    public byte[] read(long offset, int length) {
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(chunk(offset), ValueLayout.JAVA_BYTE, offset % this.chunkBytes, bytes, 0, length);
+        return bytes;
+    }
+
+    public long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    public long getReservedBytes() {
+        return this.chunks.size() * this.chunkBytes;
+    }
+
+    /**
+     * Releases all reserved memory. Any further access fails.
+     */
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    private Block reserveChunk() {
+        long offset = this.chunks.size() * this.chunkBytes;
+        this.chunks.add(this.arena.allocate(this.chunkBytes, ALIGNMENT));
+
+        Block block = new Block(offset, this.chunkBytes);
+        addFree(block);
+        return block;
+    }
+
+    private MemorySegment chunk(long offset) {
+        return this.chunks.get((int) (offset / this.chunkBytes));
+    }
+
+    private boolean isSameChunk(long offset, long other) {
+        return offset / this.chunkBytes == other / this.chunkBytes;
+    }
+
+    private void addFree(Block block) {
+        this.freeBySize.add(block);
+        this.freeByOffset.put(block.offset(), block);
+    }
+
+    private void removeFree(Block block) {
+        this.freeBySize.remove(block);
+        this.freeByOffset.remove(block.offset());
+    }
+
+    private static long align(int length) {
+        return ((long) length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private record Block(long offset, long size) {
+
+        long end() {
+            return this.offset + this.size;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.acme.blockchain.common.utility;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A small, lock-free pool of reusable, non-thread-safe cryptographic primitives such as
+ * {@link java.security.MessageDigest}, {@link java.security.Signature} and {@link java.security.KeyFactory}.
+ * <p>
+ * Creating these primitives involves a provider lookup through the global {@code Security} list and,
+ * for some algorithms, non-trivial initialisation. Pooling amortises that cost across calls while
+ * remaining safe for virtual threads: unlike a {@code ThreadLocal}, the number of retained instances is
+ * bounded by the number of concurrent callers (capped at {@code maxIdle}), not by the number of threads
+ * ever created.
+ * <p>
+ * A borrowed instance must only be released once it is back in a reusable state. Instances involved in
+ * a failed operation should simply not be released and are left for the garbage collector.
+ *
+ * @param <T> The type of primitive being pooled.
+ */
+public final class PrimitivePool<T> {
+
+    private static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final Supplier<T> factory;
+
+    private final int maxIdle;
+
+    private final ConcurrentLinkedDeque<T> idle = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Creates a pool retaining at most twice the number of available processors idle instances.
+     *
+     * @param factory Creates a new instance whenever the pool is empty.
+     */
+    public PrimitivePool(Supplier<T> factory) {
+        this(factory, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Creates a pool retaining at most {@code maxIdle} idle instances.
+     *
+     * @param factory Creates a new instance whenever the pool is empty.
+     * @param maxIdle The maximum number of idle instances retained for reuse.
+     */
+    public PrimitivePool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Borrows an idle instance from the pool, creating a new one if none is available.
+     *
+     * @return An instance for the exclusive use of the caller until it is released.
+     */
+    public T borrow() {
+        T instance = idle.pollFirst();
+        if (instance != null) {
+            idleCount.decrementAndGet();
+            return instance;
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns an instance to the pool for reuse, discarding it if the pool already holds {@code maxIdle} idle instances.
+     *
+     * @param instance The instance to return, which must be in a reusable state.
+     */
+    public void release(T instance) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offerFirst(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return The number of idle instances currently held for reuse.
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
@@ -0,0 +1,199 @@
+package org.acme.blockchain.common.utility;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter which forgets old keys, remembering at least the last {@code capacity} keys added.
+ * <p>
+ * Keys are added to the newest of several generations and looked up in all of them. When the newest
+ * generation holds {@code capacity} keys, or {@link #rotate()} is called, the oldest generation is cleared and
+ * becomes the newest, so memory stays fixed however many keys pass through. Each generation is sized for
+ * {@code capacity} keys at an equal share of the requested false positive rate.
+ * <p>
+ * Bit positions are derived by double hashing from two cheap 64-bit hashes of the key, which is ample for keys
+ * that are cryptographic hashes already. This class is thread-safe: lookups and insertions are lock-free and
+ * rotation is serialised.
+ */
+public final class RollingBloomFilter {
+
+    private static final int GENERATIONS = 2;
+
+    private static final long SEED_1 = 0xCBF29CE484222325L;
+
+    private static final long SEED_2 = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray[] generations = new AtomicLongArray[GENERATIONS];
+
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    private final int capacity;
+
+    private volatile int newest;
+
+    /**
+     * @param capacity The number of most recent keys guaranteed to be remembered.
+     * @param falsePositiveRate The probability of reporting a key which was never added, between 0 and 1.
+     */
+    public RollingBloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+
+        double generationRate = falsePositiveRate / GENERATIONS;
+        long bits = (long) Math.ceil(-capacity * Math.log(generationRate) / (Math.log(2) * Math.log(2)));
+
+        this.capacity = capacity;
+        this.bitCount = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / capacity * Math.log(2)));
+
+        for (int i = 0; i < GENERATIONS; i++) {
+            this.generations[i] = new AtomicLongArray((int) (this.bitCount / Long.SIZE));
+        }
+    }
+
+    /**
+     * Adds a key to the newest generation, rotating first if it is full.
+     *
+     * @param key The key.
+     */
+    public void add(byte[] key) {
+        add(mix(key, SEED_1), mix(key, SEED_2) | 1);
+    }
+
+    /**
+     * Adds a key made of text followed by a tag, hashing the characters in place rather than building the key.
+     *
+     * @param key The text of the key, such as a hex encoded hash.
+     * @param tag The tag, such as a status ordinal.
+     */
+    public void add(CharSequence key, int tag) {
+        add(mix(key, tag, SEED_1), mix(key, tag, SEED_2) | 1);
+    }
+
+    /**
+     * @param key The key.
+     * @return {@code false} if the key has definitely not been added since its generation was cleared;
+     * {@code true} if it probably has.
+     */
+    public boolean mightContain(byte[] key) {
+        return mightContain(mix(key, SEED_1), mix(key, SEED_2) | 1);
+    }
+
+    /**
+     * @param key The text of the key.
+     * @param tag The tag.
+     * @return {@code false} if the key has definitely not been added since its generation was cleared;
+     * {@code true} if it probably has.
+     */
+    public boolean mightContain(CharSequence key, int tag) {
+        return mightContain(mix(key, tag, SEED_1), mix(key, tag, SEED_2) | 1);
+    }
+
+    private void add(long h1, long h2) {
+        if (this.insertions.incrementAndGet() > this.capacity) {
+            rotateIfFull();
+        }
+
+        AtomicLongArray bits = this.generations[this.newest];
+
+        for (int i = 0; i < this.hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, this.bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    private boolean mightContain(long h1, long h2) {
+        for (AtomicLongArray bits : this.generations) {
+            if (contains(bits, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears the oldest generation and makes it the newest, forgetting the keys added before the previous
+     * rotation.
+     */
+    public synchronized void rotate() {
+        int next = (this.newest + 1) % GENERATIONS;
+        AtomicLongArray bits = this.generations[next];
+
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0);
+        }
+
+        this.newest = next;
+        this.insertions.set(0);
+    }
+
+    public long getBitCount() {
+        return this.bitCount;
+    }
+
+    public int getHashCount() {
+        return this.hashCount;
+    }
+
+    private synchronized void rotateIfFull() {
+        if (this.insertions.get() > this.capacity) {
+            rotate();
+            this.insertions.incrementAndGet();
+        }
+    }
+
+    private boolean contains(AtomicLongArray bits, long h1, long h2) {
+        for (int i = 0; i < this.hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, this.bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds the key into 64 bits, finishing with the SplitMix64 mixer so short or structured keys still spread
+     * across the filter. Different seeds give independent hashes of the same key.
+     */
+    private static long mix(byte[] key, long seed) {
+        long hash = seed;
+
+        for (int i = 0; i < key.length; i++) {
+            hash = (hash ^ (key[i] & 0xFF)) * 0x100000001B3L;
+        }
+
+        return finish(hash ^ key.length);
+    }
+
+    private static long mix(CharSequence key, int tag, long seed) {
+        long hash = seed;
+
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        hash = (hash ^ tag) * 0x100000001B3L;
+
+        return finish(hash ^ key.length());
+    }
+
+    private static long finish(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,236 @@
+package org.acme.blockchain.common.utility;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hierarchical timing wheel tracking the expiry of keys with {@code O(1)} scheduling and cancellation.
+ * <p>
+ * Time is divided into ticks. The first level holds 64 slots of one tick each, and every further
+ * level holds 64 slots spanning a full rotation of the level below. A key is placed in the lowest
+ * level whose span covers its deadline and moves down a level each time the wheel turns past its slot, so each
+ * key is touched at most once per level however long its delay. Advancing the wheel costs one slot per elapsed
+ * tick plus the keys expiring or cascading.
+ * <p>
+ * Deadlines are rounded up to whole ticks and measured from the last time the wheel was advanced, so a key
+ * may expire up to one tick later than requested, never earlier. This class is not thread-safe: callers must
+ * synchronise scheduling, cancellation and advancing.
+ *
+ * @param <K> The type of key being expired, which must implement {@code equals} and {@code hashCode}.
+ */
+public final class TimingWheel<K> {
+
+    private static final int BITS_PER_LEVEL = 6;
+
+    private static final int SLOTS = 1 << BITS_PER_LEVEL;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private static final int LEVELS = 4;
+
+    private static final long MAX_DELAY_TICKS = (1L << (BITS_PER_LEVEL * LEVELS)) - 1;
+
+    private final long tickMillis;
+
+    private final Slot<K>[][] slots;
+
+    private final Map<K, Timer<K>> timerByKeyMap = new HashMap<>();
+
+    private long currentTick;
+
+    /**
+     * Creates an empty wheel starting at the given time.
+     *
+     * @param tickMillis The length of a tick in milliseconds, which is the resolution of every deadline.
+     * @param startMillis The current time in milliseconds.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.slots = new Slot[LEVELS][SLOTS];
+
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < SLOTS; index++) {
+                this.slots[level][index] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules a key to expire after the given delay, replacing any deadline it already has.
+     *
+     * @param key The key to expire.
+     * @param delayMillis The delay in milliseconds.
+     * @throws IllegalArgumentException If the delay exceeds the span of the wheel.
+     */
+    public void schedule(K key, long delayMillis) {
+        long delayTicks = Math.max(1, Math.ceilDiv(delayMillis, this.tickMillis));
+        if (delayTicks > MAX_DELAY_TICKS) {
+            throw new IllegalArgumentException("Delay exceeds the span of the timing wheel: " + delayMillis + "ms");
+        }
+
+        cancel(key);
+
+        Timer<K> timer = new Timer<>(key, this.currentTick + delayTicks);
+        this.timerByKeyMap.put(key, timer);
+        place(timer);
+    }
+
+    /**
+     * Cancels the deadline of a key.
+     *
+     * @param key The key to cancel.
+     * @return {@code true} if the key was scheduled; {@code false} otherwise.
+     */
+    public boolean cancel(K key) {
+        Timer<K> timer = this.timerByKeyMap.remove(key);
+        if (timer == null) {
+            return false;
+        }
+
+        timer.slot.unlink(timer);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return this.timerByKeyMap.containsKey(key);
+    }
+
+    public int size() {
+        return this.timerByKeyMap.size();
+    }
+
+    /**
+     * Turns the wheel up to the given time, removing every key whose deadline has passed.
+     *
+     * @param nowMillis The current time in milliseconds.
+     * @return The expired keys, earliest deadline first.
+     */
+    public List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / this.tickMillis;
+        List<K> expired = new ArrayList<>();
+
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+
+            for (int level = 1; level < LEVELS && isLevelBoundary(level); level++) {
+                cascade(this.slots[level][index(this.currentTick, level)]);
+            }
+
+            Slot<K> due = this.slots[0][index(this.currentTick, 0)];
+            for (Timer<K> timer = due.head; timer != null; timer = timer.next) {
+                this.timerByKeyMap.remove(timer.key);
+                expired.add(timer.key);
+            }
+            due.clear();
+        }
+
+        return expired;
+    }
+
+    /**
+     * Places a timer in the lowest level whose span covers its remaining delay.
+     *
+     * @param timer The timer to place.
+     */
+    private void place(Timer<K> timer) {
+        long remaining = Math.max(0, timer.deadlineTick - this.currentTick);
+
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (BITS_PER_LEVEL * (level + 1))) {
+            level++;
+        }
+
+        this.slots[level][index(timer.deadlineTick, level)].link(timer);
+    }
+
+    /**
+     * Moves every timer in a slot of a higher level down to the level now covering its remaining delay.
+     *
+     * @param slot The slot the wheel has turned to.
+     */
+    private void cascade(Slot<K> slot) {
+        Timer<K> timer = slot.head;
+        slot.clear();
+
+        while (timer != null) {
+            Timer<K> next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private boolean isLevelBoundary(int level) {
+        return (this.currentTick & ((1L << (BITS_PER_LEVEL * level)) - 1)) == 0;
+    }
+
+    private static int index(long tick, int level) {
+        return (int) ((tick >>> (BITS_PER_LEVEL * level)) & SLOT_MASK);
+    }
+
+    /**
+     * A scheduled key, linked into the slot holding it.
+     */
+    private static final class Timer<K> {
+
+        private final K key;
+
+        private final long deadlineTick;
+
+        private Slot<K> slot;
+
+        private Timer<K> prev;
+
+        private Timer<K> next;
+
+        private Timer(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+
+    /**
+     * A doubly linked list of timers, allowing a timer to be unlinked without searching the slot.
+     */
+    private static final class Slot<K> {
+
+        private Timer<K> head;
+
+        private void link(Timer<K> timer) {
+            timer.slot = this;
+            timer.prev = null;
+            timer.next = this.head;
+            if (this.head != null) {
+                this.head.prev = timer;
+            }
+            this.head = timer;
+        }
+
+        private void unlink(Timer<K> timer) {
+            if (timer.prev != null) {
+                timer.prev.next = timer.next;
+            } else {
+                this.head = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.prev = timer.prev;
+            }
+            timer.slot = null;
+            timer.prev = null;
+            timer.next = null;
+        }
+
+        private void clear() {
+            this.head = null;
+        }
+    }
+}
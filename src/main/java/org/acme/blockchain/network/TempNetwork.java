@@ -4,9 +4,15 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.acme.blockchain.block.model.BlockModel;
 import org.acme.blockchain.block.repository.BlockRepository;
+import org.acme.blockchain.common.service.FeeService;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.UtxoModel;
 import org.acme.blockchain.transaction.repository.TransactionRepository;
 import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.acme.blockchain.transaction.service.TransferCoordinatorService;
+
+import java.util.List;
 
 @ApplicationScoped
 public class TempNetwork {
@@ -17,24 +23,45 @@ public class TempNetwork {
 
     private final UtxoRepository utxoRepository;
 
+    private final TransferCoordinatorService transferCoordinator;
+
+    private final FeeService feeService;
+
     @Inject
     public TempNetwork(
             BlockRepository blockRepository,
             TransactionRepository transactionRepository,
-            UtxoRepository utxoRepository
+            UtxoRepository utxoRepository,
+            TransferCoordinatorService transferCoordinator,
+            FeeService feeService
     ) {
         this.blockRepository = blockRepository;
         this.transactionRepository = transactionRepository;
         this.utxoRepository = utxoRepository;
+        this.transferCoordinator = transferCoordinator;
+        this.feeService = feeService;
     }
 
     public void broadcast(BlockModel blockModel) {
         blockRepository.insert(blockModel);
 
-        transactionRepository.batchInsert(blockModel.getTransfers());
-        for (TransferModel transfer : blockModel.getTransfers()) {
-            //utxoRepository.updateUnspentUtxoToSpent(transfer.getInputs().stream().map(UtxoModel::getId).toList());
+        List<TransferModel> transfers = blockModel.getTransfers();
+
+        transactionRepository.batchInsert(transfers);
+        for (TransferModel transfer : transfers) {
             utxoRepository.batchInsert(transfer.getOutputs());
         }
+
+        // Outputs are inserted first so that transfers spending outputs created earlier in the same block are marked
+        List<UtxoId> spent = transfers.stream()
+                .flatMap(transfer -> transfer.getInputs().stream())
+                .map(UtxoModel::getId)
+                .toList();
+        if (!spent.isEmpty()) {
+            utxoRepository.updateUnspentUtxoToSpentById(spent);
+        }
+
+        transferCoordinator.connectBlock(transfers);
+        feeService.recordBlock(transfers);
     }
 }
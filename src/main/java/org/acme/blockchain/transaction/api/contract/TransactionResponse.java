@@ -58,6 +58,10 @@ public record TransactionResponse(
         @Schema(description = "Signature of sender to guarantee authenticity, encoded in hexadecimal", examples = "abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789...[9126 characters omitted]...0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef")
         String signature,
 
+        @JsonProperty("signature_algorithm")
+        @Schema(description = "ML-DSA parameter set used by the sender to sign the transaction", examples = "ML-DSA-87")
+        String signatureAlgorithm,
+
         @JsonProperty("status")
         @Schema(description = "Status of transaction")
         TransactionStatus status
@@ -0,0 +1,25 @@
+package org.acme.blockchain.transaction.api.contract;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+
+@Builder(toBuilder = true)
+@Schema(description = "Status of a transfer being processed.")
+public record TransferStatusResponse(
+
+        @JsonProperty("hash_id")
+        @Schema(description = "Unique hash ID of the transfer", examples = "abcdaf0123456789abcdef0123456789abcdef0123456789abcdef0123456789")
+        String hashId,
+
+        @JsonProperty("status")
+        @Schema(description = "Status of the transfer")
+        TransactionStatus status,
+
+        @JsonProperty("updated_at")
+        @Schema(description = "Timestamp at which the transfer moved to the status")
+        OffsetDateTime updatedAt
+) {}
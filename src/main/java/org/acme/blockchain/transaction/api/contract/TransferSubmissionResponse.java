@@ -0,0 +1,34 @@
+package org.acme.blockchain.transaction.api.contract;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import org.acme.blockchain.transaction.model.enumeration.SubmissionStatus;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Builder(toBuilder = true)
+@Schema(description = "Progress of a transfer submitted for asynchronous creation.")
+public record TransferSubmissionResponse(
+
+        @JsonProperty("id")
+        @Schema(description = "Tracking ID of the submission", examples = "3f2b8c1e-9d4a-4e7b-8a6f-1c2d3e4f5a6b")
+        UUID id,
+
+        @JsonProperty("status")
+        @Schema(description = "SUBMITTED until the transfer is created, then CREATED, or FAILED if it could not be")
+        SubmissionStatus status,
+
+        @JsonProperty("hash_id")
+        @Schema(description = "Unique hash ID of the created transfer", examples = "abcdaf0123456789abcdef0123456789abcdef0123456789abcdef0123456789")
+        String hashId,
+
+        @JsonProperty("failure")
+        @Schema(description = "Reason the transfer could not be created", examples = "Sender has insufficient balance.")
+        String failure,
+
+        @JsonProperty("submitted_at")
+        @Schema(description = "Timestamp at which the transfer was submitted")
+        OffsetDateTime submittedAt
+) {}
@@ -1,8 +1,10 @@
 package org.acme.blockchain.transaction.api.resource;
 
+import io.smallrye.mutiny.Multi;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.NotFoundException;
@@ -14,17 +16,25 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.acme.blockchain.common.api.contract.ErrorResponse;
+import org.acme.blockchain.common.exception.CapacityExceededException;
 import org.acme.blockchain.transaction.api.contract.TransactionResponse;
 import org.acme.blockchain.transaction.api.contract.TransferRequest;
+import org.acme.blockchain.transaction.api.contract.TransferStatusResponse;
+import org.acme.blockchain.transaction.api.contract.TransferSubmissionResponse;
 import org.acme.blockchain.transaction.mapper.TransactionMapper;
 import org.acme.blockchain.transaction.model.TransactionHash;
 import org.acme.blockchain.transaction.service.TransactionService;
+import org.acme.blockchain.transaction.service.TransferSubmissionService;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import java.net.URI;
+import java.util.UUID;
 
 /**
  * Resource that exposes endpoint functionality to clients enabling the initialisation and
@@ -36,11 +46,16 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Path("/v1/transaction")
 public class TransactionResource {
 
+    private static final int RETRY_AFTER_SECONDS = 1;
+
     private final TransactionService transactionService;
 
+    private final TransferSubmissionService transferSubmissionService;
+
     @Inject
-    public TransactionResource(TransactionService transactionService) {
+    public TransactionResource(TransactionService transactionService, TransferSubmissionService transferSubmissionService) {
         this.transactionService = transactionService;
+        this.transferSubmissionService = transferSubmissionService;
     }
 
     /**
@@ -93,6 +108,14 @@ public class TransactionResource {
                             mediaType = MediaType.APPLICATION_JSON,
                             schema = @Schema(implementation = ErrorResponse.class)
                     )
+            ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "Service Unavailable",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     public Response create(@Valid TransferRequest request) {
@@ -118,6 +141,15 @@ public class TransactionResource {
                     "correctly input and try again.");
 
             return Response.status(Response.Status.NOT_FOUND).entity(message).build();
+        } catch (CapacityExceededException e) {
+            log.warn("Failed to initialise transfer due to: {}", e.getMessage());
+
+            ErrorResponse message = new ErrorResponse("Transfer processing is at capacity. Please try again shortly.");
+
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", RETRY_AFTER_SECONDS)
+                    .entity(message)
+                    .build();
         } catch (Exception e) {
             log.error("Failed to initialise transfer due to an unexpected exception: {}\n", e.getMessage(), e);
 
@@ -205,4 +237,259 @@ public class TransactionResource {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
         }
     }
+
+    /**
+     * Handles the HTTP POST request to submit a new COPO fund transfer without waiting for it to be created.
+     * <p>
+     * A place in transfer processing is reserved and a tracking ID returned at once, while the public key is fetched,
+     * inputs selected and the transfer signed in the background. The outcome is retrieved with the tracking ID.
+     *
+     * @param request The validated {@link TransferRequest} containing the sender, recipient, and amount.
+     * @return The HTTP response containing the {@link TransferSubmissionResponse} (202) or an error (503/500).
+     */
+    @POST
+    @Path("/submission")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Submit a transfer", description = "Accepts a COPO fund transfer for creation in the background " +
+            "and returns a tracking ID immediately. The hash ID of the transfer, or the reason it could not be created, " +
+            "is retrieved with the tracking ID, after which the transfer is followed by its status.")
+    @APIResponses(value = {
+            @APIResponse(
+                    responseCode = "202",
+                    description = "Transfer submitted successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = TransferSubmissionResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal Server Error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "503",
+                    description = "Service Unavailable",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Response submit(@Valid TransferRequest request) {
+        try {
+            TransferSubmissionResponse response = TransactionMapper.INSTANCE.modelToResponse(
+                    transferSubmissionService.submit(TransactionMapper.INSTANCE.requestToModel(request)));
+
+            return Response.accepted()
+                    .location(URI.create("/v1/transaction/submission/" + response.id()))
+                    .entity(response)
+                    .build();
+        } catch (CapacityExceededException e) {
+            log.warn("Failed to submit transfer due to: {}", e.getMessage());
+
+            ErrorResponse message = new ErrorResponse("Transfer processing is at capacity. Please try again shortly.");
+
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", RETRY_AFTER_SECONDS)
+                    .entity(message)
+                    .build();
+        } catch (Exception e) {
+            log.error("Failed to submit transfer due to an unexpected exception: {}\n", e.getMessage(), e);
+
+            ErrorResponse message = new ErrorResponse("Failed to submit transfer. Please try again.");
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+        }
+    }
+
+    /**
+     * Handles the HTTP GET request to retrieve a transfer submission.
+     *
+     * @param id The tracking ID of the submission.
+     * @return The HTTP response containing the {@link TransferSubmissionResponse} (200) or an error (400/404/500).
+     */
+    @GET
+    @Path("/submission/{id}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Retrieve a transfer submission", description = "Retrieves the progress of a transfer submitted " +
+            "for creation in the background by its tracking ID, including the hash ID of the transfer once created.")
+    @APIResponses(value = {
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Submission retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = TransferSubmissionResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "Not Found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal Server Error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Response getSubmission(@PathParam("id") String id) {
+        try {
+            TransferSubmissionResponse response = TransactionMapper.INSTANCE.modelToResponse(
+                    transferSubmissionService.get(UUID.fromString(id)));
+
+            return Response.ok().entity(response).build();
+        } catch (IllegalArgumentException e) {
+            log.info("Failed to retrieve transfer submission due to invalid ID format: {}", id);
+
+            ErrorResponse message = new ErrorResponse("Invalid submission ID format. Please ensure submission ID is " +
+                    "correctly input and try again.");
+
+            return Response.status(Response.Status.BAD_REQUEST).entity(message).build();
+        } catch (NotFoundException e) {
+            log.info("Failed to retrieve transfer submission due to ID not found: {}", id);
+
+            ErrorResponse message = new ErrorResponse("Submission ID not found. Please ensure submission ID is " +
+                    "correctly input and try again.");
+
+            return Response.status(Response.Status.NOT_FOUND).entity(message).build();
+        } catch (Exception e) {
+            log.error("Failed to retrieve transfer submission due to an unexpected exception: {}\n", e.getMessage(), e);
+
+            ErrorResponse message = new ErrorResponse("Failed to retrieve transfer submission. Please try again.");
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+        }
+    }
+
+    /**
+     * Handles the HTTP GET request to retrieve the status of a transfer being processed.
+     *
+     * @param hashId The unique hash ID of the transfer.
+     * @return The HTTP response containing the {@link TransferStatusResponse} (200) or an error (400/404/500).
+     */
+    @GET
+    @Path("/{hash_id}/status")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Retrieve the status of a transfer", description = "Retrieves the latest status of a transfer " +
+            "being processed by this node. A transfer which has been mined is no longer being processed and is retrieved " +
+            "by its hash ID instead.")
+    @APIResponses(value = {
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Status retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = TransferStatusResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "404",
+                    description = "Not Found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal Server Error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Response getStatus(@PathParam("hash_id") String hashId) {
+        try {
+            TransactionHash transactionHash = new TransactionHash(hashId);
+
+            TransferStatusResponse response = TransactionMapper.INSTANCE.modelToResponse(transactionService.getStatus(transactionHash));
+
+            return Response.ok().entity(response).build();
+        } catch (IllegalArgumentException e) {
+            log.info("Failed to retrieve transfer status due to invalid hash ID format: {}", hashId);
+
+            ErrorResponse message = new ErrorResponse("Invalid hash ID format. Please ensure transaction hash ID is " +
+                    "correctly input and try again.");
+
+            return Response.status(Response.Status.BAD_REQUEST).entity(message).build();
+        } catch (NotFoundException e) {
+            log.info("Failed to retrieve transfer status due to hash ID not being processed: {}", hashId);
+
+            ErrorResponse message = new ErrorResponse("Hash ID not being processed. A mined transaction is retrieved " +
+                    "by its hash ID.");
+
+            return Response.status(Response.Status.NOT_FOUND).entity(message).build();
+        } catch (Exception e) {
+            log.error("Failed to retrieve transfer status due to an unexpected exception: {}\n", e.getMessage(), e);
+
+            ErrorResponse message = new ErrorResponse("Failed to retrieve transfer status. Please try again.");
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(message).build();
+        }
+    }
+
+    /**
+     * Handles the HTTP GET request to follow the status transitions of a transfer being processed as Server-Sent
+     * Events.
+     *
+     * @param hashId The unique hash ID of the transfer.
+     * @return The stream of {@link TransferStatusResponse} events, starting with the latest status and ending with
+     * a terminal status.
+     */
+    @GET
+    @Path("/{hash_id}/status/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Follow the status of a transfer", description = "Streams each status transition of a transfer " +
+            "being processed by this node as a Server-Sent Event, starting with its latest status. The stream ends once " +
+            "the transfer is mined or reaches another terminal status.")
+    public Multi<TransferStatusResponse> streamStatus(@PathParam("hash_id") String hashId) {
+        TransactionHash transactionHash;
+        try {
+            transactionHash = new TransactionHash(hashId);
+        } catch (IllegalArgumentException e) {
+            log.info("Failed to follow transfer status due to invalid hash ID format: {}", hashId);
+
+            throw new BadRequestException("Invalid hash ID format. Please ensure transaction hash ID is correctly " +
+                    "input and try again.");
+        }
+
+        try {
+            return transactionService.streamStatus(transactionHash)
+                    .map(TransactionMapper.INSTANCE::modelToResponse);
+        } catch (NotFoundException e) {
+            log.info("Failed to follow transfer status due to hash ID not being processed: {}", hashId);
+
+            throw new NotFoundException("Hash ID not being processed. A mined transaction is retrieved by its hash ID.");
+        }
+    }
 }
@@ -11,6 +11,6 @@ public interface TransactionHashMapper {
     }
 
     default String map(TransactionHash hash) {
-        return hash.value();
+        return hash != null ? hash.value() : null;
     }
 }
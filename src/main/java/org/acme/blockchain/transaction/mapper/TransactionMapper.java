@@ -5,9 +5,14 @@ import org.acme.blockchain.common.mapper.AddressMapper;
 import org.acme.blockchain.common.mapper.CoinMapper;
 import org.acme.blockchain.transaction.api.contract.TransactionResponse;
 import org.acme.blockchain.transaction.api.contract.TransferRequest;
+import org.acme.blockchain.transaction.api.contract.TransferStatusResponse;
+import org.acme.blockchain.transaction.api.contract.TransferSubmissionResponse;
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.TransferSubmissionModel;
+import org.acme.blockchain.wallet.mapper.SignatureAlgorithmMapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -18,6 +23,7 @@ import org.mapstruct.factory.Mappers;
         CoinMapper.class,
         UtxoMapper.class,
         TransactionSignatureMapper.class,
+        SignatureAlgorithmMapper.class,
         ByteMapper.class
 })
 public interface TransactionMapper {
@@ -33,6 +39,7 @@ public interface TransactionMapper {
     @Mapping(target = "inputIds", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "signature", ignore = true)
+    @Mapping(target = "signatureAlgorithm", ignore = true)
     @Mapping(target = "status", ignore = true)
     TransferModel requestToModel(TransferRequest transaction);
 
@@ -40,6 +47,10 @@ public interface TransactionMapper {
 
     TransactionResponse modelToResponse(RewardModel reward);
 
+    TransferSubmissionResponse modelToResponse(TransferSubmissionModel submission);
+
+    TransferStatusResponse modelToResponse(TransferStatusModel status);
+
     @Mapping(target = "id", ignore = true)
     TransactionRecord modelToRecord(TransactionModel transaction);
 
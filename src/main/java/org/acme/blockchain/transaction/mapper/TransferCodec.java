@@ -0,0 +1,217 @@
+package org.acme.blockchain.transaction.mapper;
+
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransactionSignature;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.model.enumeration.TransactionType;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts transfers to and from compact binary forms: the bulky payload of a transfer, its sender's encoded
+ * public key and its signature, kept off-heap while the transfer waits in the mempool, and the complete transfer
+ * written to the mempool journal.
+ * <p>
+ * The signature is held on-heap as a hex string of two characters per byte, so its binary form is half the
+ * size. Hashes and addresses are written as their 32 raw bytes, amounts as base units and enumerations by
+ * ordinal, so new constants must only ever be appended.
+ */
+public final class TransferCodec {
+
+    private static final int HASH_LENGTH = 32;
+
+    private static final byte NONE = -1;
+
+    public static byte[] encodeSignature(TransactionSignature signature) {
+        return signature.toBytes();
+    }
+
+    public static TransactionSignature decodeSignature(byte[] bytes) {
+        return new TransactionSignature(HashUtility.bytesToHex(bytes));
+    }
+
+    /**
+     * Removes the payload from a transfer once it has been stored elsewhere.
+     *
+     * @param transfer The transfer to strip.
+     */
+    public static void strip(TransferModel transfer) {
+        transfer.setSenderPublicKeyEncoded(null);
+        transfer.setSignature(null);
+    }
+
+    /**
+     * Creates a copy of a stripped transfer with its payload restored.
+     *
+     * @param transfer The stripped transfer.
+     * @param senderPublicKeyEncoded The encoded public key of the sender.
+     * @param signature The binary signature.
+     * @return The complete transfer.
+     */
+    public static TransferModel restore(TransferModel transfer, byte[] senderPublicKeyEncoded, byte[] signature) {
+        return transfer.toBuilder()
+                .senderPublicKeyEncoded(senderPublicKeyEncoded)
+                .signature(decodeSignature(signature))
+                .build();
+    }
+
+    /**
+     * Encodes a complete, signed transfer including its status.
+     *
+     * @param transfer The transfer to encode.
+     * @return The binary form.
+     */
+    public static byte[] encode(TransferModel transfer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(transfer.getEncodedSize());
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeHash(out, transfer.getHashId());
+            writeAddress(out, transfer.getSenderAddress());
+            writeAddress(out, transfer.getRecipientAddress());
+            out.writeLong(transfer.getAmount().toBaseUnits());
+            out.writeLong(transfer.getFee().toBaseUnits());
+            writeTimestamp(out, transfer.getCreatedAt());
+            out.writeByte(transfer.getSignatureAlgorithm() != null ? transfer.getSignatureAlgorithm().ordinal() : NONE);
+            out.writeByte(transfer.getStatus() != null ? transfer.getStatus().ordinal() : NONE);
+            writeBytes(out, transfer.getSenderPublicKeyEncoded());
+            writeBytes(out, encodeSignature(transfer.getSignature()));
+            writeUtxos(out, transfer.getInputs());
+            writeUtxos(out, transfer.getOutputs());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a transfer written by {@link #encode(TransferModel)}.
+     *
+     * @param bytes The binary form.
+     * @return The transfer.
+     */
+    public static TransferModel decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            TransactionHash hashId = readHash(in);
+            Address sender = readAddress(in);
+            Address recipient = readAddress(in);
+            Coin amount = Coin.fromBaseUnits(in.readLong());
+            Coin fee = Coin.fromBaseUnits(in.readLong());
+            OffsetDateTime createdAt = readTimestamp(in);
+            byte signatureAlgorithm = in.readByte();
+            byte status = in.readByte();
+            byte[] senderPublicKeyEncoded = readBytes(in);
+            TransactionSignature signature = decodeSignature(readBytes(in));
+            List<UtxoModel> inputs = readUtxos(in);
+            List<UtxoModel> outputs = readUtxos(in);
+
+            return TransferModel.builder()
+                    .hashId(hashId)
+                    .senderAddress(sender)
+                    .recipientAddress(recipient)
+                    .amount(amount)
+                    .fee(fee)
+                    .type(TransactionType.TRANSFER)
+                    .createdAt(createdAt)
+                    .signatureAlgorithm(signatureAlgorithm != NONE ? SignatureAlgorithm.values()[signatureAlgorithm] : null)
+                    .status(status != NONE ? TransactionStatus.values()[status] : null)
+                    .senderPublicKeyEncoded(senderPublicKeyEncoded)
+                    .signature(signature)
+                    .inputs(inputs)
+                    .outputs(outputs)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeUtxos(DataOutputStream out, List<UtxoModel> utxos) throws IOException {
+        if (utxos == null) {
+            out.writeShort(0);
+            return;
+        }
+
+        out.writeShort(utxos.size());
+        for (UtxoModel utxo : utxos) {
+            writeHash(out, utxo.getId().getTransactionHashId());
+            out.writeByte(utxo.getId().getOutputIndex().ordinal());
+            writeAddress(out, utxo.getRecipientAddress());
+            out.writeLong(utxo.getAmount().toBaseUnits());
+            writeTimestamp(out, utxo.getCreatedAt());
+            out.writeBoolean(utxo.isSpent());
+        }
+    }
+
+    private static List<UtxoModel> readUtxos(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<UtxoModel> utxos = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            TransactionHash transactionHashId = readHash(in);
+            OutputIndex outputIndex = OutputIndex.values()[in.readByte()];
+
+            utxos.add(UtxoModel.builder()
+                    .id(new UtxoId(transactionHashId, outputIndex))
+                    .recipientAddress(readAddress(in))
+                    .amount(Coin.fromBaseUnits(in.readLong()))
+                    .createdAt(readTimestamp(in))
+                    .isSpent(in.readBoolean())
+                    .build());
+        }
+
+        return utxos;
+    }
+
+    private static void writeHash(DataOutputStream out, TransactionHash hash) throws IOException {
+        out.write(HashUtility.hexToBytes(hash.value()));
+    }
+
+    private static TransactionHash readHash(DataInputStream in) throws IOException {
+        return new TransactionHash(HashUtility.bytesToHex(in.readNBytes(HASH_LENGTH)));
+    }
+
+    private static void writeAddress(DataOutputStream out, Address address) throws IOException {
+        out.write(HashUtility.hexToBytes(address.value().substring(Address.PREFIX.length())));
+    }
+
+    private static Address readAddress(DataInputStream in) throws IOException {
+        return new Address(Address.PREFIX + HashUtility.bytesToHex(in.readNBytes(HASH_LENGTH)));
+    }
+
+    private static void writeTimestamp(DataOutputStream out, OffsetDateTime timestamp) throws IOException {
+        Instant instant = timestamp.toInstant();
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static OffsetDateTime readTimestamp(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt()).atOffset(ZoneOffset.UTC);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        return in.readNBytes(in.readInt());
+    }
+}
@@ -10,6 +10,7 @@ import org.acme.blockchain.common.model.Coin;
 import org.acme.blockchain.common.utility.HashUtility;
 import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
 import org.acme.blockchain.transaction.model.enumeration.TransactionType;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 
 import java.time.OffsetDateTime;
 import java.util.Arrays;
@@ -21,6 +22,22 @@ import java.util.List;
 @NoArgsConstructor(force = true)
 public abstract class TransactionModel {
 
+    /**
+     * Hash ID, sender and recipient (32 bytes each), amount, fee and creation time (8 bytes each),
+     * type and signature algorithm (1 byte each).
+     */
+    private static final int ENCODED_FIXED_SIZE = 122;
+
+    /**
+     * Transaction hash ID (32 bytes) and output index (1 byte).
+     */
+    private static final int ENCODED_INPUT_SIZE = 33;
+
+    /**
+     * Recipient (32 bytes), amount (8 bytes) and output index (1 byte).
+     */
+    private static final int ENCODED_OUTPUT_SIZE = 41;
+
     protected TransactionHash hashId;
 
     protected Address senderAddress;
@@ -49,6 +66,9 @@ public abstract class TransactionModel {
     @Setter
     protected TransactionSignature signature;
 
+    @Setter
+    protected SignatureAlgorithm signatureAlgorithm;
+
     @Setter
     protected TransactionStatus status;
 
@@ -67,7 +87,34 @@ public abstract class TransactionModel {
                 this.fee.value() +
                 this.type +
                 this.createdAt +
-                Arrays.toString(this.getInputIds());
+                Arrays.toString(this.getInputIds()) +
+                (this.signatureAlgorithm != null ? this.signatureAlgorithm.getAlgorithm() : "");
+    }
+
+    /**
+     * Calculates the size of the transaction in its compact binary encoding, used to rank transactions
+     * by fee per byte and to bound the memory and block space they consume.
+     *
+     * @return The encoded size in bytes.
+     */
+    public int getEncodedSize() {
+        return ENCODED_FIXED_SIZE
+                + (this.senderPublicKeyEncoded != null ? this.senderPublicKeyEncoded.length : 0)
+                + (this.inputs != null ? this.inputs.size() : 0) * ENCODED_INPUT_SIZE
+                + (this.outputs != null ? this.outputs.size() : 0) * ENCODED_OUTPUT_SIZE
+                + (this.signature != null ? this.signature.value().length() / 2 : 0);
+    }
+
+    /**
+     * Calculates the encoded size the transaction will have once signed and its outputs generated, assuming
+     * both a recipient and a change output, so that a fee can be set from it before hashing.
+     *
+     * @return The expected encoded size in bytes.
+     */
+    public int getSignedEncodedSize() {
+        return getEncodedSize()
+                + (this.outputs == null ? 2 * ENCODED_OUTPUT_SIZE : 0)
+                + (this.signature == null && this.signatureAlgorithm != null ? this.signatureAlgorithm.getSignatureLength() : 0);
     }
 
     public boolean isTransfer() {
@@ -1,6 +1,9 @@
 package org.acme.blockchain.transaction.model;
 
 import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+
+import java.util.regex.Pattern;
 
 public record TransactionSignature(String value) {
 
@@ -8,6 +11,8 @@ public record TransactionSignature(String value) {
 
     public static final TransactionSignature REWARD_SIGNATURE = new TransactionSignature(REWARD);
 
+    private static final Pattern HEX = Pattern.compile("^[a-f0-9]+$");
+
     public TransactionSignature {
         if (!isValid(value)) {
             throw new IllegalArgumentException("Invalid signature: " + value);
@@ -18,9 +23,13 @@ public record TransactionSignature(String value) {
         return HashUtility.hexToBytes(this.value);
     }
 
+    public boolean isSignedWith(SignatureAlgorithm signatureAlgorithm) {
+        return signatureAlgorithm != null && this.value.length() == signatureAlgorithm.getSignatureHexLength();
+    }
+
     private boolean isValid(String value) {
         return value != null
                 && (value.equals(REWARD)
-                || value.matches("^[a-f0-9]{9254}$"));
+                || (SignatureAlgorithm.isSupportedSignatureHexLength(value.length()) && HEX.matcher(value).matches()));
     }
 }
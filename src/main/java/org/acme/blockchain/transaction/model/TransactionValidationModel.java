@@ -1,25 +1,93 @@
 package org.acme.blockchain.transaction.model;
 
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
+
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 public class TransactionValidationModel {
 
+    private static final Set<ValidationFailureCode> DEFINITIVE_FAILURE_CODES = EnumSet.of(
+            ValidationFailureCode.HASH,
+            ValidationFailureCode.ADDRESS,
+            ValidationFailureCode.FEE,
+            ValidationFailureCode.OUTPUTS,
+            ValidationFailureCode.SIGNATURE
+    );
+
     private final List<String> failures = new ArrayList<>();
 
+    private final List<UtxoId> missingInputIds = new ArrayList<>();
+
+    private final Set<ValidationFailureCode> failureCodes = EnumSet.noneOf(ValidationFailureCode.class);
+
+    private boolean isInputSpent;
+
     public void addFailure(String failureMessage) {
         this.failures.add(failureMessage);
     }
 
+    /**
+     * Records a failure caused by an input spending an output this node has not seen, which may yet arrive.
+     *
+     * @param id The ID of the missing output.
+     * @param failureMessage The failure message.
+     */
+    public void addMissingInput(UtxoId id, String failureMessage) {
+        this.missingInputIds.add(id);
+        this.failures.add(failureMessage);
+    }
+
+    /**
+     * Records a failure caused by an input already spent on chain.
+     *
+     * @param failureMessage The failure message.
+     */
+    public void addSpentInput(String failureMessage) {
+        this.isInputSpent = true;
+        this.failures.add(failureMessage);
+    }
+
+    public void addFailureCode(ValidationFailureCode failureCode) {
+        this.failureCodes.add(failureCode);
+    }
+
     public boolean isSuccessful() {
         return failures.isEmpty();
     }
 
+    /**
+     * @return {@code true} if the only failures are missing inputs, so the transaction may become valid once its
+     * parents arrive.
+     */
+    public boolean isOrphan() {
+        return !missingInputIds.isEmpty() && missingInputIds.size() == failures.size();
+    }
+
+    /**
+     * @return {@code true} if the transaction can never become valid: its hash, address, fee, outputs or signature
+     * are bad, or it spends an input already spent on chain. A transaction failed only by its timestamp, missing
+     * inputs or inputs reserved by a pending transaction is not.
+     */
+    public boolean isDefinitive() {
+        return isInputSpent || failureCodes.stream().anyMatch(DEFINITIVE_FAILURE_CODES::contains);
+    }
+
     public List<String> getFailures() {
         return Collections.unmodifiableList(failures);
     }
 
+    public Set<ValidationFailureCode> getFailureCodes() {
+        return Collections.unmodifiableSet(failureCodes);
+    }
+
+    public List<UtxoId> getMissingInputIds() {
+        return Collections.unmodifiableList(missingInputIds);
+    }
+
     @Override
     public String toString() {
         return isSuccessful() ? "Success" : String.join("\n", failures);
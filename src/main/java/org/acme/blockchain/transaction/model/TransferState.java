@@ -0,0 +1,136 @@
+package org.acme.blockchain.transaction.model;
+
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The lifecycle state of a transfer being processed: its status and the confirmations and rejections gossiped
+ * by peers, packed into a single word so that every update is one compare-and-set.
+ * <p>
+ * The lowest byte holds the ordinal of the status, and the confirmations and rejections 28 bits each above it.
+ * Concurrent gossip about the same transfer therefore never loses a count, and exactly one thread wins each
+ * status transition, without locking.
+ * <p>
+ * A status only moves forward through the lifecycle: a transfer is validated or invalidated, then broadcast,
+ * confirmed or rejected, and finally mined. It may fail from any status which is not terminal. Any other
+ * transition, backwards included, is refused.
+ */
+public final class TransferState {
+
+    private static final int STATUS_BITS = 8;
+
+    private static final int COUNT_BITS = 28;
+
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final int CONFIRMATIONS_SHIFT = STATUS_BITS;
+
+    private static final int REJECTIONS_SHIFT = STATUS_BITS + COUNT_BITS;
+
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private static final Map<TransactionStatus, Set<TransactionStatus>> NEXT_STATUSES_BY_STATUS = new EnumMap<>(Map.of(
+            TransactionStatus.INITIALISED, EnumSet.of(TransactionStatus.VALIDATED, TransactionStatus.INVALIDATED,
+                    TransactionStatus.MINED, TransactionStatus.FAILED),
+            TransactionStatus.VALIDATED, EnumSet.of(TransactionStatus.BROADCASTED, TransactionStatus.CONFIRMED,
+                    TransactionStatus.REJECTED, TransactionStatus.MINED, TransactionStatus.FAILED),
+            TransactionStatus.BROADCASTED, EnumSet.of(TransactionStatus.CONFIRMED, TransactionStatus.REJECTED,
+                    TransactionStatus.MINED, TransactionStatus.FAILED),
+            TransactionStatus.CONFIRMED, EnumSet.of(TransactionStatus.MINED, TransactionStatus.FAILED)
+    ));
+
+    private final AtomicLong state;
+
+    public TransferState(TransactionStatus status) {
+        this.state = new AtomicLong(status.ordinal());
+    }
+
+    /**
+     * Counts a confirmation.
+     *
+     * @return The number of confirmations before this one.
+     */
+    public int confirm() {
+        return count(CONFIRMATIONS_SHIFT);
+    }
+
+    /**
+     * Counts a rejection.
+     *
+     * @return The number of rejections before this one.
+     */
+    public int reject() {
+        return count(REJECTIONS_SHIFT);
+    }
+
+    /**
+     * Moves to a status if the transition is allowed from the current status.
+     *
+     * @param status The next status.
+     * @return {@code true} if this call made the transition; {@code false} if it was made already or is not
+     * allowed.
+     */
+    public boolean transitionTo(TransactionStatus status) {
+        long current;
+        do {
+            current = this.state.get();
+            TransactionStatus currentStatus = getStatus(current);
+
+            if (!NEXT_STATUSES_BY_STATUS.getOrDefault(currentStatus, Set.of()).contains(status)) {
+                return false;
+            }
+        } while (!this.state.compareAndSet(current, (current & ~STATUS_MASK) | status.ordinal()));
+
+        return true;
+    }
+
+    public TransactionStatus getStatus() {
+        return getStatus(this.state.get());
+    }
+
+    public boolean isTerminal() {
+        return TransactionStatus.getTerminal().contains(getStatus());
+    }
+
+    public int getConfirmations() {
+        return (int) (this.state.get() >>> CONFIRMATIONS_SHIFT & COUNT_MASK);
+    }
+
+    public int getRejections() {
+        return (int) (this.state.get() >>> REJECTIONS_SHIFT & COUNT_MASK);
+    }
+
+    /**
+     * Increments a count, saturating rather than overflowing into the neighbouring field.
+     */
+    private int count(int shift) {
+        long current;
+        int count;
+        do {
+            current = this.state.get();
+            count = (int) (current >>> shift & COUNT_MASK);
+
+            if (count == COUNT_MASK) {
+                return count;
+            }
+        } while (!this.state.compareAndSet(current, current + (1L << shift)));
+
+        return count;
+    }
+
+    private static TransactionStatus getStatus(long state) {
+        return STATUSES[(int) (state & STATUS_MASK)];
+    }
+
+    @Override
+    public String toString() {
+        return getStatus() + " Confirmations: " + getConfirmations() + " Rejections: " + getRejections();
+    }
+}
@@ -0,0 +1,23 @@
+package org.acme.blockchain.transaction.model;
+
+import lombok.Builder;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * The status of a transfer being processed, as of a transition.
+ *
+ * @param hashId The hash ID of the transfer.
+ * @param status The status.
+ * @param updatedAt When the transfer moved to the status.
+ */
+@Builder(toBuilder = true)
+public record TransferStatusModel(
+
+        TransactionHash hashId,
+
+        TransactionStatus status,
+
+        OffsetDateTime updatedAt
+) {}
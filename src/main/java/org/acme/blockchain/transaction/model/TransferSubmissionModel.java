@@ -0,0 +1,31 @@
+package org.acme.blockchain.transaction.model;
+
+import lombok.Builder;
+import org.acme.blockchain.transaction.model.enumeration.SubmissionStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A transfer accepted for asynchronous creation.
+ *
+ * @param id The tracking ID returned to the client.
+ * @param status {@link SubmissionStatus#SUBMITTED} until the transfer is created, then
+ * {@link SubmissionStatus#CREATED}, or {@link SubmissionStatus#FAILED} if it could not be.
+ * @param hashId The hash ID of the created transfer, once known.
+ * @param failure The reason the transfer could not be created, if it failed.
+ * @param submittedAt When the transfer was submitted.
+ */
+@Builder(toBuilder = true)
+public record TransferSubmissionModel(
+
+        UUID id,
+
+        SubmissionStatus status,
+
+        TransactionHash hashId,
+
+        String failure,
+
+        OffsetDateTime submittedAt
+) {}
@@ -0,0 +1,23 @@
+package org.acme.blockchain.transaction.model.enumeration;
+
+/**
+ * The progress of a transfer submitted for asynchronous creation. Once created, the transfer itself is followed
+ * by its {@link TransactionStatus}.
+ */
+public enum SubmissionStatus {
+
+    /**
+     * Accepted and waiting to be created.
+     */
+    SUBMITTED,
+
+    /**
+     * Created and sent for processing, with a hash ID.
+     */
+    CREATED,
+
+    /**
+     * Could not be created.
+     */
+    FAILED
+}
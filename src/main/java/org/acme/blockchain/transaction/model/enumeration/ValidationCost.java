@@ -0,0 +1,27 @@
+package org.acme.blockchain.transaction.model.enumeration;
+
+/**
+ * The cost class of a validator, in the order validators are run, cheapest first.
+ */
+public enum ValidationCost {
+
+    /**
+     * Checks the fields of the transaction alone.
+     */
+    STATELESS,
+
+    /**
+     * Looks up in-memory caches.
+     */
+    CACHE,
+
+    /**
+     * Queries the database.
+     */
+    DATABASE,
+
+    /**
+     * Verifies a signature.
+     */
+    SIGNATURE
+}
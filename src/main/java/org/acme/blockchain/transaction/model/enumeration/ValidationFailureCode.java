@@ -0,0 +1,23 @@
+package org.acme.blockchain.transaction.model.enumeration;
+
+/**
+ * Identifies the validator which failed a transaction.
+ */
+public enum ValidationFailureCode {
+
+    HASH,
+
+    CREATED_AT,
+
+    ADDRESS,
+
+    FEE,
+
+    INPUTS,
+
+    PENDING_INPUTS,
+
+    OUTPUTS,
+
+    SIGNATURE
+}
@@ -7,15 +7,20 @@ import jakarta.ws.rs.NotFoundException;
 import jooq.tables.Utxo;
 import jooq.tables.records.UtxoRecord;
 import org.acme.blockchain.transaction.mapper.UtxoMapper;
+import org.acme.blockchain.transaction.model.TransactionHash;
 import org.acme.blockchain.transaction.model.UtxoId;
 import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
 import org.jooq.DSLContext;
 import org.jooq.Row2;
 import org.jooq.SQLDialect;
 import org.jooq.exception.NoDataFoundException;
 import org.jooq.impl.DSL;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.jooq.impl.DSL.row;
@@ -79,6 +84,32 @@ public class UtxoRepository {
                         .and(Utxo.UTXO.IS_SPENT.isTrue()));
     }
 
+    /**
+     * Looks up whether each of a set of unspent transaction outputs has been spent, in a single query.
+     *
+     * @param ids The IDs of the outputs.
+     * @return Whether each known output is spent, keyed by ID. Outputs not known to this node are absent.
+     */
+    public Map<UtxoId, Boolean> findIsSpentByIds(Collection<UtxoId> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Row2<String, String>> rows = ids.stream()
+                .map(id -> row(id.getTransactionHashId().value(), id.getOutputIndex().getIndex()))
+                .toList();
+
+        return dslContext
+                .select(Utxo.UTXO.TRANSACTION_HASH_ID, Utxo.UTXO.OUTPUT_INDEX, Utxo.UTXO.IS_SPENT)
+                .from(Utxo.UTXO)
+                .where(row(Utxo.UTXO.TRANSACTION_HASH_ID, Utxo.UTXO.OUTPUT_INDEX).in(rows))
+                .fetchMap(
+                        record -> new UtxoId(
+                                new TransactionHash(record.get(Utxo.UTXO.TRANSACTION_HASH_ID)),
+                                OutputIndex.fromIndex(record.get(Utxo.UTXO.OUTPUT_INDEX))),
+                        record -> record.get(Utxo.UTXO.IS_SPENT));
+    }
+
     public List<UtxoModel> retrieveUnspentUtxosByRecipientAddress(String recipientAddress) {
         List<UtxoRecord> utxoRecords = dslContext
                 .selectFrom(Utxo.UTXO)
@@ -90,6 +121,19 @@ public class UtxoRepository {
         return utxoRecords.stream().map(UtxoMapper.INSTANCE::recordToModel).toList();
     }
 
+    public void updateUnspentUtxoToSpentById(List<UtxoId> ids) {
+        List<Row2<String, String>> rows = ids.stream()
+                .map(id -> row(id.getTransactionHashId().value(), id.getOutputIndex().getIndex()))
+                .toList();
+
+        dslContext
+                .update(Utxo.UTXO)
+                .set(Utxo.UTXO.IS_SPENT, true)
+                .where(row(Utxo.UTXO.TRANSACTION_HASH_ID, Utxo.UTXO.OUTPUT_INDEX).in(rows))
+                .and(Utxo.UTXO.IS_SPENT.isFalse())
+                .execute();
+    }
+
     public void updateUnspentUtxoToSpent(List<Long> utxoIds) {
         dslContext
                 .update(Utxo.UTXO)
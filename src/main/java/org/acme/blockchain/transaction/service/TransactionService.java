@@ -1,44 +1,64 @@
 package org.acme.blockchain.transaction.service;
 
+import io.smallrye.mutiny.Multi;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.exception.CapacityExceededException;
 import org.acme.blockchain.common.model.Coin;
 import org.acme.blockchain.common.service.FeeService;
 import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.common.service.TransferStatusEventService;
 import org.acme.blockchain.common.utility.TimestampUtility;
 import org.acme.blockchain.transaction.model.TransactionHash;
 import org.acme.blockchain.transaction.model.TransactionModel;
 import org.acme.blockchain.transaction.model.TransactionSignature;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
 import org.acme.blockchain.transaction.model.UtxoId;
 import org.acme.blockchain.transaction.model.UtxoModel;
 import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
 import org.acme.blockchain.transaction.repository.TransactionRepository;
 import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.service.WalletService;
-import org.eclipse.microprofile.reactive.messaging.Channel;
-import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jooq.exception.NoDataFoundException;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Service layer component responsible for managing the lifecycle of {@link TransferModel} transactions.
  * <p>
  * This includes validation, preparing transaction data (inputs/outputs, fees, public keys),
- * calculating the transaction hash, signing, and initiating the asynchronous process of
- * broadcasting the transaction to the network via the reactive messaging channel.
+ * calculating the transaction hash, signing, and handing the transaction to the
+ * {@link TransferCoordinatorService} for asynchronous verification and broadcasting to the network.
  */
 @Slf4j
 @ApplicationScoped
 public class TransactionService {
 
+    /**
+     * Each extra input adds to the fee, which may in turn need another input, so the fee and inputs are settled
+     * together over a bounded number of rounds.
+     */
+    private static final int MAX_FEE_ATTEMPTS = 3;
+
+    /**
+     * Marks the end of a status stream after a terminal status, so that the terminal status itself is emitted.
+     */
+    private static final TransferStatusModel END_OF_STATUS = TransferStatusModel.builder().build();
+
     private final TransferCacheService cache;
 
     private final WalletService walletService;
@@ -49,7 +69,13 @@ public class TransactionService {
 
     private final UtxoRepository utxoRepository;
 
-    private final Emitter<TransferModel> transferEmitter;
+    private final TransferCoordinatorService coordinator;
+
+    private final TransferStatusEventService statusEvents;
+
+    private final Duration statusStreamIdleTimeout;
+
+    private final ExecutorService submissionExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Inject
     public TransactionService(
@@ -58,14 +84,18 @@ public class TransactionService {
             FeeService feeService,
             TransactionRepository transactionRepository,
             UtxoRepository utxoRepository,
-            @Channel("transfer-process") Emitter<TransferModel> transferEmitter
+            TransferCoordinatorService coordinator,
+            TransferStatusEventService statusEvents,
+            @ConfigProperty(name = "copo.transfer.status-stream.idle-timeout") Duration statusStreamIdleTimeout
     ) {
         this.cache = cache;
         this.walletService = walletService;
         this.feeService = feeService;
         this.transactionRepository = transactionRepository;
         this.utxoRepository = utxoRepository;
-        this.transferEmitter = transferEmitter;
+        this.coordinator = coordinator;
+        this.statusEvents = statusEvents;
+        this.statusStreamIdleTimeout = statusStreamIdleTimeout;
     }
 
     /**
@@ -79,16 +109,94 @@ public class TransactionService {
      * @return The finalised {@link TransferModel} object, including its unique hash ID and signature.
      * @throws IllegalStateException If the sender has insufficient UTXOs (funds) to cover the
      * amount and the transaction fee.
+     * @throws CapacityExceededException If transfer processing is full.
      */
     public TransferModel create(TransferModel transfer) {
-        preHash(transfer);
+        coordinator.reserve();
+        return initialise(transfer);
+    }
 
-        transfer.calculateHashId();
-        log.debug("{} Hash ID calculated: {}", transfer, transfer.getHashId());
+    /**
+     * Initiates a new fund transfer transaction without waiting for it to be created.
+     * <p>
+     * A place in transfer processing is reserved before returning, so the caller learns at once whether the
+     * transfer can be accepted, while fetching the public key, selecting inputs and signing run in the background.
+     *
+     * @param transfer The initial {@link TransferModel} containing sender, recipient, and amount.
+     * @return A stage completed with the finalised transfer, or exceptionally if it could not be created.
+     * @throws CapacityExceededException If transfer processing is full.
+     */
+    public CompletableFuture<TransferModel> submit(TransferModel transfer) {
+        coordinator.reserve();
+        return CompletableFuture.supplyAsync(() -> initialise(transfer), submissionExecutor);
+    }
 
-        postHash(transfer);
+    /**
+     * Retrieves the latest status of a transfer being processed.
+     *
+     * @param hashId The unique {@link TransactionHash} identifier of the transfer.
+     * @return The status and when the transfer moved to it.
+     * @throws NotFoundException If the transfer is not being processed, including once it has been mined.
+     */
+    public TransferStatusModel getStatus(TransactionHash hashId) {
+        TransferStatusModel status = cache.findStatus(hashId);
+        if (status == null) {
+            throw new NotFoundException();
+        }
+        return status;
+    }
 
-        transferEmitter.send(transfer);
+    /**
+     * Follows the status of a transfer being processed, starting with its latest status and completing once the
+     * transfer reaches a terminal status, including {@link TransactionStatus#MINED}, or once no transition has
+     * arrived for {@code copo.transfer.status-stream.idle-timeout}, after which the caller may follow it again.
+     * <p>
+     * Transitions are subscribed to before the latest status is read, so none is missed in between, and a status
+     * seen both ways is emitted once. A transfer which leaves the cache before its transitions are subscribed to
+     * fails the stream with {@link NotFoundException}, rather than leave it waiting for a transition which has
+     * already happened.
+     *
+     * @param hashId The unique {@link TransactionHash} identifier of the transfer.
+     * @return The latest status followed by each transition.
+     * @throws NotFoundException If the transfer is not being processed, including once it has been mined.
+     */
+    public Multi<TransferStatusModel> streamStatus(TransactionHash hashId) {
+        getStatus(hashId);
+
+        return Multi.createBy().merging().streams(
+                        statusEvents.stream(hashId),
+                        Multi.createFrom().item(() -> getStatus(hashId))
+                )
+                .skip().repetitions()
+                .onItem().transformToMultiAndConcatenate(status -> TransactionStatus.getTerminal().contains(status.status())
+                        ? Multi.createFrom().items(status, END_OF_STATUS)
+                        : Multi.createFrom().item(status))
+                .select().first(status -> status != END_OF_STATUS)
+                .ifNoItem().after(statusStreamIdleTimeout).recoverWithCompletion();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        submissionExecutor.shutdown();
+    }
+
+    /**
+     * Creates and submits a transfer for which a place in processing is reserved, returning the place on failure.
+     */
+    private TransferModel initialise(TransferModel transfer) {
+        try {
+            preHash(transfer);
+
+            transfer.calculateHashId();
+            log.debug("{} Hash ID calculated: {}", transfer, transfer.getHashId());
+
+            postHash(transfer);
+
+            coordinator.submitLocal(transfer);
+        } catch (RuntimeException e) {
+            coordinator.cancelReservation();
+            throw e;
+        }
 
         return transfer;
     }
@@ -125,7 +233,8 @@ public class TransactionService {
      * Prepares all required data fields *before* the transaction's hash is calculated.
      * <p>
      * This data, which includes the timestamp, sender public key, fees, and determined UTXO inputs,
-     * must be included in the transaction hash to ensure its immutability.
+     * must be included in the transaction hash to ensure its immutability. The fee is estimated from the
+     * expected size of the signed transfer, so it is recalculated once its inputs are known.
      *
      * @param transfer The {@link TransferModel} to be populated.
      */
@@ -136,12 +245,22 @@ public class TransactionService {
         byte[] senderPublicKeyEncoded = walletService.getPublicKeyEncoded(transfer.getSenderAddress());
         transfer.setSenderPublicKeyEncoded(senderPublicKeyEncoded);
 
-        Coin fee = feeService.calculateFee();
-        transfer.setFee(fee);
-        log.debug("{} Fee calculated: {}", transfer, transfer.getFee());
+        SignatureAlgorithm signatureAlgorithm = walletService.getSignatureAlgorithm(transfer.getSenderAddress());
+        transfer.setSignatureAlgorithm(signatureAlgorithm);
+
+        Coin fee = feeService.calculateFee(transfer.getSignedEncodedSize());
+        int attempt = 0;
+
+        do {
+            transfer.setFee(fee);
+
+            List<UtxoModel> inputs = determineInputs(transfer);
+            transfer.setInputs(inputs);
 
-        List<UtxoModel> inputs = determineInputs(transfer);
-        transfer.setInputs(inputs);
+            fee = feeService.calculateFee(transfer.getSignedEncodedSize());
+        } while (transfer.getFee().isLessThan(fee) && ++attempt < MAX_FEE_ATTEMPTS);
+
+        log.debug("{} Fee calculated: {}", transfer, transfer.getFee());
         log.debug("{} Inputs determined: {}", transfer, transfer.getInputs());
     }
 
@@ -169,13 +288,20 @@ public class TransactionService {
      * <p>
      * This method selects UTXOs from the sender's available balance that meet or exceed the
      * total required amount (transfer amount + fee). This process enforces the UTXO model.
+     * <p>
+     * Change outputs of the sender's pending transfers are spendable too, after the confirmed UTXOs, so that a
+     * sender can chain several transfers within a single block.
      *
      * @param transaction The transaction for which inputs are being determined.
      * @return A {@link List} of {@link UtxoModel} selected as inputs for this transaction.
      * @throws IllegalStateException If the total available UTXO balance is less than the required amount.
      */
     private List<UtxoModel> determineInputs(TransferModel transaction) {
-        List<UtxoModel> unspentUtxos = utxoRepository.retrieveUnspentUtxosByRecipientAddress(transaction.getSenderAddress().value());
+        List<UtxoModel> unspentUtxos = new ArrayList<>(utxoRepository.retrieveUnspentUtxosByRecipientAddress(transaction.getSenderAddress().value()));
+
+        if (cache.getPendingBalance(transaction.getSenderAddress()).isPositive()) {
+            unspentUtxos.addAll(cache.getSpendablePendingOutputs(transaction.getSenderAddress()));
+        }
 
         Coin totalRequired = transaction.getTotalRequired();
 
@@ -6,11 +6,23 @@ import jakarta.inject.Inject;
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.RewardValidator;
 import org.acme.blockchain.transaction.service.validator.TransferValidator;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.Comparator;
 import java.util.List;
 
+/**
+ * Runs the validators of a transaction cheapest first, by {@link ValidationCost}, recording the failure code of
+ * each validator which fails it.
+ * <p>
+ * With {@code copo.validation.fail-fast} enabled, validation stops at the first validator to fail a transaction,
+ * so a malformed or stale transaction never reaches the database or signature verification. Missing inputs do
+ * not stop validation, as an orphan must pass every other validator before it is held.
+ */
 @ApplicationScoped
 public class TransactionValidatorService {
 
@@ -18,20 +30,60 @@ public class TransactionValidatorService {
 
     private final List<TransferValidator> transferValidators;
 
+    private final boolean isFailFast;
+
     @Inject
     public TransactionValidatorService(
             @All List<RewardValidator> rewardValidators,
-            @All List<TransferValidator> transferValidators
+            @All List<TransferValidator> transferValidators,
+            @ConfigProperty(name = "copo.validation.fail-fast") boolean isFailFast
     ) {
-        this.rewardValidators = rewardValidators;
-        this.transferValidators = transferValidators;
+        this.rewardValidators = rewardValidators.stream()
+                .sorted(Comparator.comparing(RewardValidator::getCost))
+                .toList();
+        this.transferValidators = transferValidators.stream()
+                .sorted(Comparator.comparing(TransferValidator::getCost))
+                .toList();
+        this.isFailFast = isFailFast;
     }
 
     public void validateReward(RewardModel reward, TransactionValidationModel validationResult) {
-        rewardValidators.forEach(validator -> validator.validate(reward, validationResult));
+        for (RewardValidator validator : rewardValidators) {
+            int failures = validationResult.getFailures().size();
+            validator.validate(reward, validationResult);
+
+            if (isFailed(validationResult, failures, validator.getFailureCode())) {
+                return;
+            }
+        }
     }
 
     public void validateTransfer(TransferModel transfer, TransactionValidationModel validationResult) {
-        transferValidators.forEach(validator -> validator.validate(transfer, validationResult));
+        for (TransferValidator validator : transferValidators) {
+            int failures = validationResult.getFailures().size();
+            validator.validate(transfer, validationResult);
+
+            if (isFailed(validationResult, failures, validator.getFailureCode())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records the failure code of a validator which added failures.
+     *
+     * @return {@code true} if validation should stop.
+     */
+    private boolean isFailed(
+            TransactionValidationModel validationResult,
+            int failuresBefore,
+            ValidationFailureCode failureCode
+    ) {
+        if (validationResult.getFailures().size() == failuresBefore) {
+            return false;
+        }
+
+        validationResult.addFailureCode(failureCode);
+        return isFailFast && !validationResult.isOrphan();
     }
 }
@@ -1,15 +1,40 @@
 package org.acme.blockchain.transaction.service;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.exception.CapacityExceededException;
+import org.acme.blockchain.common.service.OrphanPoolService;
+import org.acme.blockchain.common.service.RejectedTransferCacheService;
+import org.acme.blockchain.common.service.SeenTransferCacheService;
 import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.common.service.TransferJournalService;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
-import org.acme.blockchain.transaction.model.TransferGossip;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferState;
 import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Validates and tracks transfers received on {@code transfer-process}, from this node or its peers.
+ * <p>
+ * Processing is bounded: at most {@code copo.transfer.processing.max-concurrency} transfers are validated at
+ * once, and at most {@code copo.transfer.processing.max-queued} more wait their turn, in arrival order. A local
+ * transfer must reserve its place with {@link #reserve()} before it is created, so a client is refused while
+ * processing is full rather than after, and is then handed over with {@link #submitLocal(TransferModel)}. Peer
+ * transfers, received on {@code transfer-process}, never use a reserved place. Peer transfers which arrive while processing is full are dropped, to be
+ * gossiped again, and repeats of a transfer already gossiped as {@link TransactionStatus#BROADCASTED} are dropped
+ * before they take a place. Confirmations and rejections are not dropped as repeats while the transfer is still
+ * being decided, as each one counts towards the threshold and messages do not yet identify the peer which sent
+ * them. Once the transfer has reached a terminal status, all gossip about it is dropped before it takes a place.
+ */
 @Slf4j
 @ApplicationScoped
 public class TransferCoordinatorService {
@@ -18,36 +43,154 @@ public class TransferCoordinatorService {
 
     private final TransactionValidatorService validatorService;
 
+    private final TransferJournalService journal;
+
+    private final OrphanPoolService orphanPool;
+
+    private final RejectedTransferCacheService rejectedCache;
+
+    private final SeenTransferCacheService seenCache;
+
+    private final Semaphore admitted;
+
+    private final Semaphore running;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
     @Inject
     public TransferCoordinatorService(
             TransferCacheService cache,
-            TransactionValidatorService validatorService
+            TransactionValidatorService validatorService,
+            TransferJournalService journal,
+            OrphanPoolService orphanPool,
+            RejectedTransferCacheService rejectedCache,
+            SeenTransferCacheService seenCache,
+            @ConfigProperty(name = "copo.transfer.processing.max-concurrency") int maxConcurrency,
+            @ConfigProperty(name = "copo.transfer.processing.max-queued") int maxQueued
     ) {
         this.cache = cache;
         this.validatorService = validatorService;
+        this.journal = journal;
+        this.orphanPool = orphanPool;
+        this.rejectedCache = rejectedCache;
+        this.seenCache = seenCache;
+        this.admitted = new Semaphore(maxConcurrency + maxQueued);
+        this.running = new Semaphore(maxConcurrency, true);
     }
 
+    /**
+     * Reserves a place in processing for a local transfer about to be sent.
+     *
+     * @throws CapacityExceededException if processing is full.
+     */
+    public void reserve() {
+        if (!admitted.tryAcquire()) {
+            throw new CapacityExceededException("Transfer processing is at capacity.");
+        }
+    }
+
+    /**
+     * Returns a place reserved for a local transfer which will not be sent.
+     */
+    public void cancelReservation() {
+        admitted.release();
+    }
+
+    /**
+     * Queues a local transfer for processing in the place reserved for it by {@link #reserve()}.
+     *
+     * @param transfer The local transfer, {@link TransactionStatus#INITIALISED}.
+     */
+    public void submitLocal(TransferModel transfer) {
+        execute(transfer, true);
+    }
+
+    /**
+     * Queues a peer transfer for processing. Gossip about a transfer in a terminal status, and transfers already
+     * received as {@link TransactionStatus#BROADCASTED}, are dropped silently; others take a place if one is free,
+     * or are dropped.
+     *
+     * @param transfer The peer transfer.
+     */
     @Incoming("transfer-process")
     public void process(TransferModel transfer) {
-        Thread.ofVirtual().start(() -> processThread(transfer));
+        if (cache.isTerminal(transfer.getHashId())) {
+            return;
+        }
+
+        boolean isBroadcast = transfer.getStatus() == TransactionStatus.BROADCASTED;
+        if (isBroadcast && seenCache.isSeen(transfer.getHashId(), transfer.getStatus())) {
+            return;
+        }
+
+        if (admit(transfer)) {
+            if (isBroadcast) {
+                seenCache.markSeen(transfer.getHashId(), transfer.getStatus());
+            }
+            execute(transfer, false);
+        }
+    }
+
+    /**
+     * Reconciles the cache with a block which has been connected to the chain, then validates again every orphan
+     * waiting on an output the block created.
+     *
+     * @param minedTransfers The transfers included in the connected block.
+     */
+    public void connectBlock(List<TransferModel> minedTransfers) {
+        cache.connectBlock(minedTransfers);
+        minedTransfers.forEach(this::releaseOrphans);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
     }
 
-    private void processThread(TransferModel transfer) {
+    private boolean admit(TransferModel transfer) {
+        if (!admitted.tryAcquire()) {
+            log.debug("{} Dropped as transfer processing is at capacity.", transfer);
+            return false;
+        }
+        return true;
+    }
+
+    private void execute(TransferModel transfer, boolean isLocal) {
+        executor.execute(() -> {
+            running.acquireUninterruptibly();
+            try {
+                processThread(transfer, isLocal);
+            } finally {
+                running.release();
+                admitted.release();
+            }
+        });
+    }
+
+    private void processThread(TransferModel transfer, boolean isLocal) {
         try {
             if (cache.containsTransfer(transfer.getHashId())) {
                 processExisting(transfer);
             } else {
-                processNew(transfer);
+                processNew(transfer, isLocal);
             }
         } catch (IllegalStateException e) {
             log.debug("{} {} {}.", transfer, e.getMessage(), transfer.getStatus());
 
         } catch (Exception e) {
-            transfer.setStatus(TransactionStatus.FAILED);
-            log.error("{} Processing has failed. Marked as {}.", transfer, transfer.getStatus(), e);
+            log.error("{} Processing has failed.", transfer, e);
+
+            if (cache.containsTransfer(transfer.getHashId()) && transition(transfer, TransactionStatus.FAILED)) {
+                cache.release(transfer);
+                log.error("{} Marked as {}.", transfer, transfer.getStatus());
+            }
         }
     }
-    
+
+    /**
+     * Applies gossip about a transfer already being processed. The status of the gossip says what a peer made of
+     * the transfer; the status of the transfer itself is held by its shared state.
+     */
     private void processExisting(TransferModel transfer) {
         if (isActive(transfer)) {
             switch (transfer.getStatus()) {
@@ -58,90 +201,164 @@ public class TransferCoordinatorService {
         }
     }
 
-    private void processNew(TransferModel transfer) {
+    private void processNew(TransferModel transfer, boolean isLocal) {
+        if (rejectedCache.isRejected(transfer.getHashId())) {
+            log.debug("{} Recently rejected. Dropped without validation.", transfer);
+            return;
+        }
+
+        boolean isExpected = isLocal ? transfer.getStatus() == TransactionStatus.INITIALISED : isFromPeer(transfer);
+        if (!isExpected) {
+            throw new IllegalStateException("New transfer in invalid state: " + transfer.getStatus());
+        }
+
+        // A peer transfer is new to this node whatever the peer made of it, so it starts its lifecycle here too.
+        transfer.setStatus(TransactionStatus.INITIALISED);
         cache.addTransfer(transfer.getHashId(), transfer);
-        switch (transfer.getStatus()) {
-            case INITIALISED -> verifyFromLocal(transfer);
-            case BROADCASTED, CONFIRMED, REJECTED -> verifyFromPeer(transfer);
-            default -> throw new IllegalStateException("New transfer in invalid state: " + transfer.getStatus());
+
+        if (isLocal) {
+            verifyFromLocal(transfer);
+        } else {
+            verifyFromPeer(transfer);
         }
     }
 
     private void verifyFromLocal(TransferModel transfer) {
-        if (isValid(transfer)) {
-            transfer.getInputs().forEach(input -> cache.addInput(input));
+        TransactionValidationModel validationResult = validate(transfer);
 
-            transfer.setStatus(TransactionStatus.VALIDATED);
+        if (!validationResult.isSuccessful()) {
+            if (transition(transfer, TransactionStatus.INVALIDATED)) {
+                markIfRejected(transfer, validationResult);
+                log.error("{} From local is invalid and will not be processed further.", transfer);
+            }
+        } else if (!cache.reserveInputs(transfer)) {
+            if (transition(transfer, TransactionStatus.FAILED)) {
+                cache.release(transfer);
+                log.error("{} From local spends an input reserved by another transfer since validation. Marked as {}.", transfer, transfer.getStatus());
+            }
+        } else if (transition(transfer, TransactionStatus.VALIDATED)) {
+            cache.getState(transfer.getHashId()).confirm();
+            journal.recordAccepted(transfer);
+            releaseOrphans(transfer);
             log.debug("{} From local is valid and will be broadcast to peers.", transfer);
 
-            transfer.setStatus(TransactionStatus.BROADCASTED);
-            broadcast(transfer);
-        } else {
-            transfer.setStatus(TransactionStatus.INVALIDATED);
-            log.error("{} From local is invalid and will not be processed further.", transfer);
+            if (transition(transfer, TransactionStatus.BROADCASTED)) {
+                broadcast(transfer);
+            }
         }
     }
 
     private void verifyFromPeer(TransferModel transfer) {
-        if (isValid(transfer)) {
-            transfer.setStatus(TransactionStatus.VALIDATED);
-            log.debug("{} From peer is valid.", transfer);
-            confirmed(transfer);
-        } else {
-            transfer.setStatus(TransactionStatus.INVALIDATED);
+        TransactionValidationModel validationResult = validate(transfer);
+
+        if (validationResult.isOrphan()) {
+            cache.removeTransfer(transfer);
+            orphanPool.add(transfer, validationResult.getMissingInputIds());
+        } else if (validationResult.isSuccessful()) {
+            if (transition(transfer, TransactionStatus.VALIDATED)) {
+                journal.recordAccepted(transfer);
+                log.debug("{} From peer is valid.", transfer);
+                releaseOrphans(transfer);
+                confirmed(transfer);
+            }
+        } else if (transition(transfer, TransactionStatus.INVALIDATED)) {
+            markIfRejected(transfer, validationResult);
             log.debug("{} From peer is invalid.", transfer);
-            rejected(transfer);
+            broadcast(transfer, TransactionStatus.REJECTED);
         }
     }
 
+    /**
+     * Counts a confirmation, this node's own validation of a peer transfer included, and confirms the transfer
+     * once the threshold is reached.
+     */
     private void confirmed(TransferModel transfer) {
-        TransferGossip gossip = cache.getOrDefault(transfer.getHashId());
-        int confirmations = gossip.confirm();
-        log.debug("{} Received a confirmation. Confirmations: {} Rejections: {}", transfer, confirmations, gossip.getRejections());
+        TransferState state = cache.getState(transfer.getHashId());
+        int confirmations = state.confirm();
+        log.debug("{} Received a confirmation. Confirmations: {} Rejections: {}", transfer, confirmations, state.getRejections());
 
         if (confirmations >= determineThreshold()) {
-            transfer.setStatus(TransactionStatus.CONFIRMED);
-            log.info("{} Confirmed by peers and is ready to mine.", transfer);
-            cache.readyToMine(transfer);
+            if (!transition(transfer, TransactionStatus.CONFIRMED)) {
+                log.debug("{} Already {}. Confirmation has no further effect.", transfer, state.getStatus());
+                return;
+            }
+
+            if (cache.readyToMine(transfer)) {
+                log.info("{} Confirmed by peers and is ready to mine.", transfer);
+            } else {
+                if (transition(transfer, TransactionStatus.FAILED)) {
+                    cache.release(transfer);
+                    log.info("{} Confirmed by peers but the fee rate is too low to enter the full mempool. Marked as {}.", transfer, transfer.getStatus());
+                }
+                return;
+            }
         }
 
-        cache.addGossip(transfer.getHashId(), gossip);
         broadcast(transfer, TransactionStatus.CONFIRMED);
-
-        if (TransactionStatus.VALIDATED.equals(transfer.getStatus())) {
-            transfer.setStatus(TransactionStatus.BROADCASTED);
-        }
+        transition(transfer, TransactionStatus.BROADCASTED);
     }
 
+    /**
+     * Counts a rejection, and rejects the transfer if it has not been confirmed yet.
+     */
     private void rejected(TransferModel transfer) {
-        TransferGossip gossip = cache.getOrDefault(transfer.getHashId());
-        int rejections = gossip.reject();
-        log.debug("{} Received a rejection. Confirmations: {} Rejections: {}", transfer, gossip.getConfirmations(), rejections);
+        TransferState state = cache.getState(transfer.getHashId());
+        int rejections = state.reject();
+        log.debug("{} Received a rejection. Confirmations: {} Rejections: {}", transfer, state.getConfirmations(), rejections);
 
-        if (rejections <= determineThreshold()) {
-            transfer.setStatus(TransactionStatus.REJECTED);
+        if (rejections <= determineThreshold() && transition(transfer, TransactionStatus.REJECTED)) {
+            cache.release(transfer);
             log.error("{} Rejected by peers and will not be processed further.", transfer);
+            broadcast(transfer, TransactionStatus.REJECTED);
         }
+    }
 
-        cache.addGossip(transfer.getHashId(), gossip);
-        broadcast(transfer, TransactionStatus.REJECTED);
-
-        if (TransactionStatus.INVALIDATED.equals(transfer.getStatus())) {
-            transfer.setStatus(TransactionStatus.BROADCASTED);
+    /**
+     * Validates again the orphans waiting on a parent which has arrived. An orphan which cannot take a place in
+     * processing stays held, with its original expiry, to be released with the next parent.
+     */
+    private void releaseOrphans(TransferModel parent) {
+        for (TransferModel orphan : orphanPool.release(parent, released -> admitted.tryAcquire())) {
+            log.debug("{} Parent {} has arrived. Orphan will be validated again.", orphan, parent.getHashId());
+            execute(orphan, false);
         }
     }
 
-    private boolean isValid(TransferModel transfer) {
+    private TransactionValidationModel validate(TransferModel transfer) {
         TransactionValidationModel validationResult = new TransactionValidationModel();
 
         validatorService.validateTransfer(transfer, validationResult);
 
-        if (validationResult.isSuccessful()) {
+        if (!validationResult.isSuccessful()) {
+            log.debug("{} Invalid due to {}:\n{}", transfer, validationResult.getFailureCodes(), validationResult);
+        }
+        return validationResult;
+    }
+
+    /**
+     * Records a transfer which can never become valid, so repeats of it are dropped without validation. A transfer
+     * failed only by a condition which may change is validated again if it arrives again.
+     */
+    private void markIfRejected(TransferModel transfer, TransactionValidationModel validationResult) {
+        if (validationResult.isDefinitive()) {
+            rejectedCache.markRejected(transfer.getHashId());
+        }
+    }
+
+    /**
+     * Moves the shared state of a transfer to a status, and the cached transfer and the given copy with it if this
+     * thread made the transition, so that concurrent gossip about the same transfer applies each transition once.
+     * Every status change of a transfer being processed goes through here.
+     *
+     * @return {@code true} if this thread made the transition.
+     */
+    private boolean transition(TransferModel transfer, TransactionStatus status) {
+        if (cache.getState(transfer.getHashId()).transitionTo(status)) {
+            transfer.setStatus(status);
+            cache.updateStatus(transfer);
             return true;
-        } else {
-            log.debug("{} Invalid due to:\n{}", transfer, validationResult);
-            return false;
         }
+        return false;
     }
 
     private void broadcast(TransferModel transfer, TransactionStatus status) {
@@ -159,8 +376,15 @@ public class TransferCoordinatorService {
         return 1;
     }
 
+    private boolean isFromPeer(TransferModel transfer) {
+        return switch (transfer.getStatus()) {
+            case BROADCASTED, CONFIRMED, REJECTED -> true;
+            default -> false;
+        };
+    }
+
     private boolean isActive(TransferModel transfer) {
-        if (transfer.isTerminal()) {
+        if (cache.getState(transfer.getHashId()).isTerminal()) {
             log.debug("{} In terminal state. Input from peer will be ignored.", transfer);
             return false;
         } else {
@@ -0,0 +1,119 @@
+package org.acme.blockchain.transaction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.exception.CapacityExceededException;
+import org.acme.blockchain.common.utility.TimestampUtility;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferSubmissionModel;
+import org.acme.blockchain.transaction.model.enumeration.SubmissionStatus;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Tracks transfers submitted for asynchronous creation, so a client handed a tracking ID can learn the hash ID
+ * of its transfer, or why it could not be created, without holding a request open while it is signed.
+ * <p>
+ * Submissions are kept for {@code copo.cache.transfer-submission.ttl} after their last update, up to
+ * {@code copo.cache.transfer-submission.maximum-size} at once. Once a submission has a hash ID, the transfer is
+ * followed by its status instead.
+ */
+@Slf4j
+@ApplicationScoped
+public class TransferSubmissionService {
+
+    private final TransactionService transactionService;
+
+    private final Cache<UUID, TransferSubmissionModel> submissionById;
+
+    @Inject
+    public TransferSubmissionService(
+            TransactionService transactionService,
+            @ConfigProperty(name = "copo.cache.transfer-submission.maximum-size") long maximumSize,
+            @ConfigProperty(name = "copo.cache.transfer-submission.ttl") Duration ttl) {
+        this.transactionService = transactionService;
+        this.submissionById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Accepts a transfer for creation in the background.
+     *
+     * @param transfer The initial {@link TransferModel} containing sender, recipient, and amount.
+     * @return The submission, {@link SubmissionStatus#SUBMITTED}.
+     * @throws CapacityExceededException If transfer processing is full.
+     */
+    public TransferSubmissionModel submit(TransferModel transfer) {
+        TransferSubmissionModel submission = TransferSubmissionModel.builder()
+                .id(UUID.randomUUID())
+                .status(SubmissionStatus.SUBMITTED)
+                .submittedAt(TimestampUtility.getOffsetDateTimeNow())
+                .build();
+
+        submissionById.put(submission.id(), submission);
+
+        try {
+            transactionService.submit(transfer).whenComplete((created, e) -> complete(submission, created, e));
+        } catch (RuntimeException e) {
+            submissionById.invalidate(submission.id());
+            throw e;
+        }
+
+        log.debug("Transfer submission {} accepted.", submission.id());
+        return submission;
+    }
+
+    /**
+     * Retrieves a submission.
+     *
+     * @param id The tracking ID of the submission.
+     * @return The submission.
+     * @throws NotFoundException If no submission with the ID is tracked.
+     */
+    public TransferSubmissionModel get(UUID id) {
+        TransferSubmissionModel submission = submissionById.getIfPresent(id);
+        if (submission == null) {
+            throw new NotFoundException();
+        }
+        return submission;
+    }
+
+    private void complete(TransferSubmissionModel submission, TransferModel created, Throwable e) {
+        if (e == null) {
+            submissionById.put(submission.id(), submission.toBuilder()
+                    .status(SubmissionStatus.CREATED)
+                    .hashId(created.getHashId())
+                    .build());
+            log.info("{} Created for transfer submission {}.", created, submission.id());
+            return;
+        }
+
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        submissionById.put(submission.id(), submission.toBuilder()
+                .status(SubmissionStatus.FAILED)
+                .failure(getFailure(cause))
+                .build());
+        log.error("Transfer submission {} failed due to: {}", submission.id(), cause.getMessage());
+    }
+
+    /**
+     * Describes a failure to the client as the synchronous endpoint would, without exposing unexpected errors.
+     */
+    private static String getFailure(Throwable cause) {
+        return switch (cause) {
+            case IllegalArgumentException e -> e.getMessage();
+            case IllegalStateException e -> e.getMessage();
+            case NotFoundException e -> "Sender address not found.";
+            default -> "Failed to initialise transfer. Please try again.";
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package org.acme.blockchain.transaction.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.exception.LookupFailedException;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Resolves whether the inputs of transfers being validated are spent, sharing one query between many transfers.
+ * <p>
+ * With {@code copo.validation.utxo-batch.enabled}, lookups are queued and a single thread resolves everything
+ * queued, up to {@code copo.validation.utxo-batch.max-size} outputs, with one set-based query. Batches form
+ * naturally while the previous query is in flight: an idle node answers a lone lookup at once, while a busy one
+ * pays a fraction of a round trip per transfer. Otherwise each lookup runs its own query, as does every lookup
+ * made once the batching thread has stopped on shutdown.
+ */
+@Slf4j
+@ApplicationScoped
+public class UtxoLookupService {
+
+    private final UtxoRepository utxoRepository;
+
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Lookup> pending = new LinkedBlockingQueue<>();
+
+    private final Thread batcher;
+
+    private volatile boolean isStopped;
+
+    @Inject
+    public UtxoLookupService(
+            UtxoRepository utxoRepository,
+            @ConfigProperty(name = "copo.validation.utxo-batch.enabled") boolean isBatched,
+            @ConfigProperty(name = "copo.validation.utxo-batch.max-size") int maxBatchSize
+    ) {
+        this.utxoRepository = utxoRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.batcher = isBatched ? Thread.ofVirtual().name("utxo-lookup").start(this::run) : null;
+    }
+
+    /**
+     * Looks up whether each of a set of outputs has been spent.
+     *
+     * @param ids The IDs of the outputs.
+     * @return Whether each known output is spent, keyed by ID. Outputs not known to this node are absent.
+     * @throws LookupFailedException if interrupted while waiting for the lookup.
+     */
+    public Map<UtxoId, Boolean> findIsSpent(List<UtxoId> ids) {
+        if (batcher == null || ids.isEmpty() || isStopped) {
+            return utxoRepository.findIsSpentByIds(ids);
+        }
+
+        Lookup lookup = new Lookup(ids, new CompletableFuture<>());
+        pending.add(lookup);
+
+        // Queued after the batching thread drained the queue on shutdown, so no one else will resolve it.
+        if (isStopped && pending.remove(lookup)) {
+            return utxoRepository.findIsSpentByIds(ids);
+        }
+
+        try {
+            return lookup.result().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LookupFailedException("Interrupted while looking up inputs.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new LookupFailedException("Failed to look up inputs.", e);
+        }
+    }
+
+    /**
+     * Stops the batching thread, which resolves every lookup still queued before it exits.
+     */
+    @PreDestroy
+    void shutdown() {
+        isStopped = true;
+        if (batcher != null) {
+            batcher.interrupt();
+        }
+    }
+
+    private void run() {
+        List<Lookup> batch = new ArrayList<>();
+
+        try {
+            while (true) {
+                batch.add(pending.take());
+
+                int size = batch.getFirst().ids().size();
+                Lookup next;
+                while (size < maxBatchSize && (next = pending.poll()) != null) {
+                    batch.add(next);
+                    size += next.ids().size();
+                }
+
+                resolve(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            log.debug("Input lookup batching has stopped. Resolving {} queued lookups.", pending.size());
+        }
+
+        pending.drainTo(batch);
+        if (!batch.isEmpty()) {
+            resolve(batch);
+        }
+    }
+
+    void resolve(List<Lookup> batch) {
+        Set<UtxoId> ids = new HashSet<>();
+        batch.forEach(lookup -> ids.addAll(lookup.ids()));
+
+        try {
+            Map<UtxoId, Boolean> isSpentByIdMap = utxoRepository.findIsSpentByIds(ids);
+            log.debug("Resolved {} inputs of {} transfers with one query.", ids.size(), batch.size());
+
+            batch.forEach(lookup -> lookup.result().complete(isSpentByIdMap));
+        } catch (RuntimeException e) {
+            batch.forEach(lookup -> lookup.result().completeExceptionally(e));
+        }
+    }
+
+    record Lookup(List<UtxoId> ids, CompletableFuture<Map<UtxoId, Boolean>> result) {
+    }
+}
@@ -2,8 +2,20 @@ package org.acme.blockchain.transaction.service.validator;
 
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 
 public interface RewardValidator {
 
     void validate(RewardModel reward, TransactionValidationModel validationResult);
+
+    /**
+     * @return The cost class, by which validators are ordered cheapest first.
+     */
+    ValidationCost getCost();
+
+    /**
+     * @return The code recorded when this validator fails a transaction.
+     */
+    ValidationFailureCode getFailureCode();
 }
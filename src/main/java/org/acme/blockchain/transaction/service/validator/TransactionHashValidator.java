@@ -5,10 +5,22 @@ import org.acme.blockchain.common.utility.HashUtility;
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 
 @ApplicationScoped
 public class TransactionHashValidator implements RewardValidator, TransferValidator {
 
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.STATELESS;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.HASH;
+    }
+
     @Override
     public void validate(RewardModel reward, TransactionValidationModel validationResult) {
         if (reward.getHashId().value().equals(HashUtility.calculateSHA256(reward.getData()))) {
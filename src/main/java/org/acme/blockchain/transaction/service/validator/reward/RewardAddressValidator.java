@@ -3,11 +3,23 @@ package org.acme.blockchain.transaction.service.validator.reward;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.RewardValidator;
 
 @ApplicationScoped
 public class RewardAddressValidator implements RewardValidator {
 
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.STATELESS;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.ADDRESS;
+    }
+
     @Override
     public void validate(RewardModel reward, TransactionValidationModel validationResult) {
         if (!reward.getSenderAddress().equals(reward.getRecipientAddress())) {
@@ -4,6 +4,8 @@ import jakarta.enterprise.context.ApplicationScoped;
 import org.acme.blockchain.transaction.model.RewardModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.RewardValidator;
 
 import java.util.List;
@@ -11,6 +13,16 @@ import java.util.List;
 @ApplicationScoped
 public class RewardOutputsValidator implements RewardValidator {
 
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.STATELESS;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.OUTPUTS;
+    }
+
     @Override
     public void validate(RewardModel reward, TransactionValidationModel validationResult) {
         List<UtxoModel> outputs = reward.getOutputs();
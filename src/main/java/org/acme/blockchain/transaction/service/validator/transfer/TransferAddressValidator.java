@@ -3,11 +3,23 @@ package org.acme.blockchain.transaction.service.validator.transfer;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.TransferValidator;
 
 @ApplicationScoped
 public class TransferAddressValidator implements TransferValidator {
 
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.STATELESS;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.ADDRESS;
+    }
+
     @Override
     public void validate(TransferModel transfer, TransactionValidationModel validationResult) {
         if (transfer.getSenderAddress().equals(transfer.getRecipientAddress())) {
@@ -6,23 +6,41 @@ import org.acme.blockchain.common.model.Coin;
 import org.acme.blockchain.common.service.TransferCacheService;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.UtxoId;
 import org.acme.blockchain.transaction.model.UtxoModel;
-import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
+import org.acme.blockchain.transaction.service.UtxoLookupService;
 import org.acme.blockchain.transaction.service.validator.TransferValidator;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class TransferInputsValidator implements TransferValidator {
 
     private final TransferCacheService cache;
 
-    private final UtxoRepository utxoRepository;
+    private final UtxoLookupService utxoLookupService;
 
     @Inject
-    public TransferInputsValidator(TransferCacheService cache, UtxoRepository utxoRepository) {
+    public TransferInputsValidator(TransferCacheService cache, UtxoLookupService utxoLookupService) {
         this.cache = cache;
-        this.utxoRepository = utxoRepository;
+        this.utxoLookupService = utxoLookupService;
+    }
+
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.DATABASE;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.INPUTS;
     }
 
     @Override
@@ -52,16 +70,27 @@ public class TransferInputsValidator implements TransferValidator {
 
             if (isAfforded) {
 
+                Set<UtxoId> pendingOutputIds = inputs.stream()
+                        .map(UtxoModel::getId)
+                        .filter(id -> id != null && isPendingOutput(id))
+                        .collect(Collectors.toSet());
+
+                Map<UtxoId, Boolean> isSpentByIdMap = utxoLookupService.findIsSpent(inputs.stream()
+                        .map(UtxoModel::getId)
+                        .filter(id -> id != null && !pendingOutputIds.contains(id))
+                        .toList());
+
                 for (UtxoModel input : inputs) {
 
-                    if (input.getId() != null && cache.containsInput(input.getId())) {
-                        validationResult.addFailure(input + " Input double spent pending mining.");
+                    Boolean isSpent = isSpentByIdMap.get(input.getId());
+
+                    if (Boolean.TRUE.equals(isSpent)) {
+                        validationResult.addSpentInput(input + " Input double spent.");
                         break;
                     }
 
-                    if (utxoRepository.isSpent(input.getId())) {
-                        validationResult.addFailure(input + " Input double spent.");
-                        break;
+                    if (isSpent == null && !pendingOutputIds.contains(input.getId())) {
+                        validationResult.addMissingInput(input.getId(), input + " Input not found.");
                     }
 
                     if (!transfer.getSenderAddress().equals(input.getRecipientAddress())) {
@@ -75,10 +104,18 @@ public class TransferInputsValidator implements TransferValidator {
                     }
 
                     if (input.isSpent()) {
-                        validationResult.addFailure(input + " Input is already spent.");
+                        validationResult.addSpentInput(input + " Input is already spent.");
                     }
                 }
             }
         }
     }
+
+    /**
+     * @return {@code true} if the output was created by a pending transfer, so is not yet in the database.
+     */
+    private boolean isPendingOutput(UtxoId id) {
+        TransferStatusModel parent = cache.findStatus(id.getTransactionHashId());
+        return parent != null && !TransactionStatus.getTerminal().contains(parent.status());
+    }
 }
@@ -7,6 +7,8 @@ import org.acme.blockchain.transaction.model.TransactionModel;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
 import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.TransferValidator;
 
 import java.util.List;
@@ -15,6 +17,16 @@ import java.util.List;
 @ApplicationScoped
 public class TransferOutputsValidator implements TransferValidator {
 
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.STATELESS;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.OUTPUTS;
+    }
+
     @Override
     public void validate(TransferModel transfer, TransactionValidationModel validationResult) {
         List<UtxoModel> outputs = transfer.getOutputs();
@@ -0,0 +1,50 @@
+package org.acme.blockchain.transaction.service.validator.transfer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.transaction.model.TransactionValidationModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
+import org.acme.blockchain.transaction.service.validator.TransferValidator;
+
+/**
+ * Fails a transfer spending an input already reserved by another pending transfer, before the inputs are looked
+ * up in the database.
+ */
+@ApplicationScoped
+public class TransferPendingInputsValidator implements TransferValidator {
+
+    private final TransferCacheService cache;
+
+    @Inject
+    public TransferPendingInputsValidator(TransferCacheService cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.CACHE;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.PENDING_INPUTS;
+    }
+
+    @Override
+    public void validate(TransferModel transfer, TransactionValidationModel validationResult) {
+        if (transfer.getInputs() == null) {
+            return;
+        }
+
+        for (UtxoModel input : transfer.getInputs()) {
+            if (input.getId() != null && cache.containsInput(input.getId())) {
+                validationResult.addFailure(input + " Input double spent pending mining.");
+                break;
+            }
+        }
+    }
+}
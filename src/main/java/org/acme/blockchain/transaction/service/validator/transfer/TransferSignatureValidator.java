@@ -2,8 +2,11 @@ package org.acme.blockchain.transaction.service.validator.transfer;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.acme.blockchain.common.service.VerifiedSignatureCacheService;
 import org.acme.blockchain.transaction.model.TransactionValidationModel;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
 import org.acme.blockchain.transaction.service.validator.TransferValidator;
 import org.acme.blockchain.wallet.service.WalletService;
 
@@ -12,15 +15,40 @@ public class TransferSignatureValidator implements TransferValidator {
 
     private final WalletService walletService;
 
+    private final VerifiedSignatureCacheService verifiedSignatureCache;
+
     @Inject
-    public TransferSignatureValidator(WalletService walletService) {
+    public TransferSignatureValidator(WalletService walletService, VerifiedSignatureCacheService verifiedSignatureCache) {
         this.walletService = walletService;
+        this.verifiedSignatureCache = verifiedSignatureCache;
+    }
+
+    @Override
+    public ValidationCost getCost() {
+        return ValidationCost.SIGNATURE;
+    }
+
+    @Override
+    public ValidationFailureCode getFailureCode() {
+        return ValidationFailureCode.SIGNATURE;
     }
 
     @Override
     public void validate(TransferModel transfer, TransactionValidationModel validationResult) {
-        if (!walletService.verifySignature(transfer.getSenderPublicKeyEncoded(), transfer.getHashId().value(), transfer.getSignature())) {
+        if (verifiedSignatureCache.isVerified(transfer.getHashId(), transfer.getSenderPublicKeyEncoded(), transfer.getSignature())) {
+            return;
+        }
+
+        if (transfer.getSignatureAlgorithm() == null) {
+            validationResult.addFailure(transfer + " Signature algorithm is missing.");
+            return;
+        }
+
+        if (!walletService.verifySignature(transfer.getSenderAddress(), transfer.getSignatureAlgorithm(), transfer.getSenderPublicKeyEncoded(), transfer.getHashId().value(), transfer.getSignature())) {
             validationResult.addFailure(transfer + " Signature is invalid.");
+            return;
         }
+
+        verifiedSignatureCache.markVerified(transfer.getHashId(), transfer.getSenderPublicKeyEncoded(), transfer.getSignature());
     }
 }
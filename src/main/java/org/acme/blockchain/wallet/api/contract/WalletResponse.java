@@ -20,5 +20,9 @@ public record WalletResponse(
 
         @JsonProperty("created_at")
         @Schema(description = "Timestamp at which the wallet was created")
-        OffsetDateTime createdAt
+        OffsetDateTime createdAt,
+
+        @JsonProperty("signature_algorithm")
+        @Schema(description = "ML-DSA parameter set used by the wallet to sign transactions", examples = "ML-DSA-87")
+        String signatureAlgorithm
 ) {}
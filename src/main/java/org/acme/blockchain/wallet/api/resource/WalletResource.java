@@ -8,6 +8,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,8 @@ import org.acme.blockchain.common.api.contract.ErrorResponse;
 import org.acme.blockchain.common.model.Address;
 import org.acme.blockchain.wallet.api.contract.WalletResponse;
 import org.acme.blockchain.wallet.mapper.WalletMapper;
+import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.service.WalletService;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -46,6 +49,10 @@ public class WalletResource {
      * This endpoint triggers the generation of a cryptographic key pair, derives a unique
      * address, and securely persists the private key using the configured master keystore password.
      * Only the public information will be served to the client.
+     *
+     * @param signatureAlgorithm The ML-DSA parameter set of the wallet (ML-DSA-44, ML-DSA-65 or ML-DSA-87), or
+     *                           {@code null} for the parameter set configured by {@code copo.wallet.default-signature-algorithm}.
+     * @return The HTTP response containing the created {@link WalletResponse} (201) or an error (400/409/500).
      */
     @POST
     @Produces(MediaType.APPLICATION_JSON)
@@ -61,6 +68,14 @@ public class WalletResource {
                             schema = @Schema(implementation = WalletResponse.class)
                     )
             ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Bad Request",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @APIResponse(
                     responseCode = "409",
                     description = "Conflict",
@@ -78,9 +93,24 @@ public class WalletResource {
                     )
             )
     })
-    public Response create() {
+    public Response create(@QueryParam("signature_algorithm") String signatureAlgorithm) {
+        SignatureAlgorithm algorithm = null;
+        if (signatureAlgorithm != null) {
+            try {
+                algorithm = SignatureAlgorithm.fromAlgorithm(signatureAlgorithm);
+            } catch (IllegalArgumentException e) {
+                log.info("Failed to create wallet due to invalid signature algorithm: {}", signatureAlgorithm);
+
+                ErrorResponse message = new ErrorResponse("Invalid signature algorithm. Supported algorithms are " +
+                        "ML-DSA-44, ML-DSA-65 and ML-DSA-87.");
+
+                return Response.status(Response.Status.BAD_REQUEST).entity(message).build();
+            }
+        }
+
         try {
-            WalletResponse response = WalletMapper.INSTANCE.modelToResponse(walletService.create());
+            WalletModel wallet = algorithm != null ? walletService.create(algorithm) : walletService.create();
+            WalletResponse response = WalletMapper.INSTANCE.modelToResponse(wallet);
 
             log.info("Successfully created and persisted new wallet: {}", response.address());
 
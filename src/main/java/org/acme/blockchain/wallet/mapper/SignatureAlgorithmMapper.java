@@ -0,0 +1,16 @@
+package org.acme.blockchain.wallet.mapper;
+
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface SignatureAlgorithmMapper {
+
+    default SignatureAlgorithm map(String signatureAlgorithm) {
+        return signatureAlgorithm != null ? SignatureAlgorithm.fromAlgorithm(signatureAlgorithm) : null;
+    }
+
+    default String map(SignatureAlgorithm signatureAlgorithm) {
+        return signatureAlgorithm != null ? signatureAlgorithm.getAlgorithm() : null;
+    }
+}
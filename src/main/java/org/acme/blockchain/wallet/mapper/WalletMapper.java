@@ -8,7 +8,10 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper(uses = AddressMapper.class)
+@Mapper(uses = {
+        AddressMapper.class,
+        SignatureAlgorithmMapper.class
+})
 public interface WalletMapper {
 
     WalletMapper INSTANCE = Mappers.getMapper(WalletMapper.class);
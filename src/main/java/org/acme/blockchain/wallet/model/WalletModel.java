@@ -2,6 +2,7 @@ package org.acme.blockchain.wallet.model;
 
 import lombok.Builder;
 import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 
 import java.security.KeyPair;
 import java.time.OffsetDateTime;
@@ -15,5 +16,7 @@ public record WalletModel(
 
         byte[] publicKeyEncoded,
 
-        OffsetDateTime createdAt
+        OffsetDateTime createdAt,
+
+        SignatureAlgorithm signatureAlgorithm
 ) {}
@@ -0,0 +1,62 @@
+package org.acme.blockchain.wallet.model.enumeration;
+
+import lombok.Getter;
+import org.bouncycastle.jcajce.spec.MLDSAParameterSpec;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public enum SignatureAlgorithm {
+
+    ML_DSA_44("ML-DSA-44", MLDSAParameterSpec.ml_dsa_44, 2420),
+
+    ML_DSA_65("ML-DSA-65", MLDSAParameterSpec.ml_dsa_65, 3309),
+
+    ML_DSA_87("ML-DSA-87", MLDSAParameterSpec.ml_dsa_87, 4627);
+
+    public static final SignatureAlgorithm DEFAULT = ML_DSA_87;
+
+    private static final Map<String, SignatureAlgorithm> SIGNATURE_ALGORITHM_MAP;
+
+    static {
+        SIGNATURE_ALGORITHM_MAP = Arrays.stream(SignatureAlgorithm.values())
+                .collect(Collectors.toMap(SignatureAlgorithm::getAlgorithm, Function.identity()));
+    }
+
+    private final String algorithm;
+
+    private final MLDSAParameterSpec parameterSpec;
+
+    private final int signatureLength;
+
+    SignatureAlgorithm(String algorithm, MLDSAParameterSpec parameterSpec, int signatureLength) {
+        this.algorithm = algorithm;
+        this.parameterSpec = parameterSpec;
+        this.signatureLength = signatureLength;
+    }
+
+    public static SignatureAlgorithm fromAlgorithm(String algorithm) {
+        if (algorithm == null || algorithm.isBlank() || !SIGNATURE_ALGORITHM_MAP.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Invalid signature algorithm: " + algorithm);
+        }
+
+        return SIGNATURE_ALGORITHM_MAP.get(algorithm);
+    }
+
+    public static SignatureAlgorithm fromKey(Key key) {
+        return fromAlgorithm(key.getAlgorithm());
+    }
+
+    public static boolean isSupportedSignatureHexLength(int length) {
+        return Arrays.stream(SignatureAlgorithm.values())
+                .anyMatch(signatureAlgorithm -> signatureAlgorithm.getSignatureHexLength() == length);
+    }
+
+    public int getSignatureHexLength() {
+        return this.signatureLength * 2;
+    }
+}
@@ -0,0 +1,142 @@
+package org.acme.blockchain.wallet.service;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.acme.blockchain.common.exception.CryptographicException;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.acme.blockchain.wallet.utility.KeyPairUtility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An optional, bounded pool of pre-generated ML-DSA key pairs used to take key generation
+ * off the request path of wallet creation.
+ * <p>
+ * When enabled, a single low-priority background worker keeps the pool topped up, blocking whenever
+ * the pool is full, so onboarding bursts are served from the pool and only pay for address derivation
+ * and persistence. Each pre-generated key pair is handed out exactly once. Only key pairs of the configured
+ * default signature algorithm are pre-generated; when the pool is disabled, has been drained, or a
+ * different algorithm is requested, key pairs are generated on demand by the caller.
+ */
+@Slf4j
+@ApplicationScoped
+public class KeyPairPoolService {
+
+    private static final long FAILURE_BACKOFF_SECONDS = 1;
+
+    private final boolean enabled;
+
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    private final BlockingQueue<KeyPair> keyPairs;
+
+    private Thread worker;
+
+    @Inject
+    public KeyPairPoolService(
+            @ConfigProperty(name = "copo.wallet.key-pair-pool.enabled") boolean enabled,
+            @ConfigProperty(name = "copo.wallet.key-pair-pool.size") int size,
+            @ConfigProperty(name = "copo.wallet.default-signature-algorithm") String signatureAlgorithm) {
+        this.enabled = enabled;
+        this.signatureAlgorithm = SignatureAlgorithm.fromAlgorithm(signatureAlgorithm);
+        this.keyPairs = new ArrayBlockingQueue<>(Math.max(1, size));
+    }
+
+    /**
+     * Starts the background worker refilling the pool once the application has started, if the pool is enabled.
+     *
+     * @param event The Quarkus startup event.
+     */
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        this.worker = Thread.ofPlatform()
+                .name("key-pair-pool-refill")
+                .daemon(true)
+                .priority(Thread.MIN_PRIORITY)
+                .start(this::refill);
+
+        log.info("Key pair pool enabled, pre-generating key pairs in the background.");
+    }
+
+    /**
+     * Takes a pre-generated key pair of the given algorithm from the pool, generating one on demand if the pool is
+     * disabled, empty or holds key pairs of a different algorithm.
+     *
+     * @param signatureAlgorithm The ML-DSA parameter set of the key pair.
+     * @return A {@link KeyPair} which has never been handed out before.
+     * @throws CryptographicException if a key pair has to be generated on demand and generation fails.
+     */
+    public KeyPair take(SignatureAlgorithm signatureAlgorithm) {
+        if (this.signatureAlgorithm == signatureAlgorithm) {
+            KeyPair keyPair = keyPairs.poll();
+            if (keyPair != null) {
+                return keyPair;
+            }
+        }
+
+        return KeyPairUtility.generateKeyPair(signatureAlgorithm);
+    }
+
+    /**
+     * Stops the background worker and discards any unused key pairs when the application shuts down.
+     */
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+        keyPairs.clear();
+    }
+
+    /**
+     * @return The number of pre-generated key pairs waiting to be handed out.
+     */
+    int available() {
+        return keyPairs.size();
+    }
+
+    /**
+     * @return The background worker, or {@code null} if it was never started.
+     */
+    Thread getWorker() {
+        return worker;
+    }
+
+    /**
+     * Continuously generates key pairs into the pool, blocking while the pool is full.
+     */
+    private void refill() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                keyPairs.put(KeyPairUtility.generateKeyPair(signatureAlgorithm));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (CryptographicException e) {
+                log.error("Failed to pre-generate key pair due to: {}", e.getMessage(), e);
+                backOff();
+            }
+        }
+    }
+
+    /**
+     * Pauses the worker after a generation failure to avoid spinning on a misconfigured provider.
+     */
+    private void backOff() {
+        try {
+            TimeUnit.SECONDS.sleep(FAILURE_BACKOFF_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,12 +9,15 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.KeyPair;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -26,12 +29,20 @@ import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * A dedicated service for secure persistence and retrieval of
- * cryptographic keys using a password-protected KeyStore file (PKCS12 format).
+ * cryptographic keys using password-protected KeyStore files (PKCS12 format).
  * <p>
- * This service obtains the keystore file path and the keystore's master password from
+ * Each key entry is stored in its own keystore file, named after its alias, inside the configured
+ * keystore directory. Writing a wallet therefore never loads or rewrites the entries of other wallets,
+ * so the cost of a write stays constant as the number of wallets grows. Entry files are written to a
+ * temporary file, forced to disk and atomically moved into place, so concurrent wallet creations cannot
+ * clobber each other, a reader never observes a partially written entry, and a crash cannot leave an entry
+ * file renamed into place without its contents.
+ * <p>
+ * This service obtains the keystore directory and the keystore's master password from
  * Quarkus configuration, ensuring sensitive data is managed securely by accessing and
  * clearing the password immediately for each operation.
  */
@@ -41,6 +52,12 @@ public class KeystoreService {
 
     private static final String KEY_STORE_TYPE = "PKCS12";
 
+    private static final String KEY_STORE_FILE_EXTENSION = ".p12";
+
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private static final Pattern VALID_ALIAS = Pattern.compile("^[A-Za-z0-9_]+$");
+
     @ConfigProperty(name = "copo.keystore.path")
     private String path;
 
@@ -52,46 +69,51 @@ public class KeystoreService {
     }
 
     /**
-     * Saves a cryptographic key pair and its self-signed certificate to the keystore file.
+     * Saves a cryptographic key pair and its self-signed certificate to a dedicated keystore file for the alias.
      * <p>
+     * The entry is written to a temporary file within the keystore directory, forced to disk, and atomically
+     * moved into place, after which the directory is forced to disk so the rename itself survives a crash.
      * The master password is retrieved from the {@code passwordSupplier}, converted to a
      * transient {@code char[]} copy, and is **securely cleared** in the {@code finally} block.
      *
      * @param keyPair  The key pair to save (contains public and private keys).
      * @param alias    The unique alias (name) for the key entry in the keystore (the wallet address).
-     * @throws KeystoreException if any file I/O, security, or keystore operation fails.
+     * @throws KeystoreException if the alias is not a valid entry name, or any file I/O, security, or keystore operation fails.
      * @throws CryptographicException if the keystore algorithm is unavailable.
      */
     public void writePrivateKeyToKeystore(KeyPair keyPair, String alias) {
         char[] password = passwordSupplier.get().toCharArray();
 
-        Path path = Paths.get(this.path);
+        Path directory = Paths.get(this.path);
+        Path temporaryPath = null;
 
         try {
-            if (path.getParent() != null) {
-                Files.createDirectories(path.getParent());
-            }
+            validateAlias(alias, "Failed to write data to keystore");
 
-            KeyStore keyStore = KeyStore.getInstance(KEY_STORE_TYPE);
+            Path entryPath = resolveEntryPath(alias);
 
-            if (Files.exists(path)) {
-                try (FileInputStream fis = new FileInputStream(path.toFile())) {
-                    log.debug("Existing keystore loaded: {}", this.path);
-                    keyStore.load(fis, password);
-                }
-            } else {
-                log.debug("Created new keystore: {}", this.path);
-                keyStore.load(null, password);
-            }
+            Files.createDirectories(directory);
+
+            KeyStore keyStore = KeyStore.getInstance(KEY_STORE_TYPE);
+            keyStore.load(null, password);
 
             X509Certificate certificate = KeyPairUtility.selfSign(keyPair, alias);
 
             keyStore.setKeyEntry(alias, keyPair.getPrivate(), password, new X509Certificate[]{certificate});
 
-            try (FileOutputStream fos = new FileOutputStream(path.toFile())) {
-                keyStore.store(fos, password);
-                log.debug("Keystore successfully stored alias: {}", alias);
+            temporaryPath = Files.createTempFile(directory, alias, TEMPORARY_FILE_EXTENSION);
+
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+                keyStore.store(Channels.newOutputStream(channel), password);
+                channel.force(true);
             }
+
+            Files.move(temporaryPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+            temporaryPath = null;
+
+            syncDirectory(directory);
+
+            log.debug("Keystore successfully stored alias: {}", alias);
         } catch (KeyStoreException | CertificateException | OperatorCreationException | IOException e) {
             throw new KeystoreException("Failed to write data to keystore (" + this.path + ") for alias '" + alias +
                     "' due to " + e.getMessage(), e);
@@ -100,37 +122,40 @@ public class KeystoreService {
                     "' due to " + KEY_STORE_TYPE + " algorithm unexpectedly unavailable at runtime.", e);
         } finally {
             Arrays.fill(password, ' ');
+            deleteQuietly(temporaryPath);
         }
     }
 
     /**
-     * Reads a private key from the password-protected keystore file.
+     * Reads a private key from the password-protected keystore file of the alias.
      * <p>
      * The master password is retrieved from the {@code passwordSupplier}, converted to a
      * transient {@code char[]} copy, and is **securely cleared** in the {@code finally} block.
      *
      * @param alias    The alias of the key entry to retrieve.
      * @return The {@link PrivateKey} retrieved from the keystore.
-     * @throws KeystoreException if the keystore is not found; if the alias is not found within the keystore; if the password is incorrect; or any file I/O, security, or keystore operation fails.
+     * @throws KeystoreException if the alias is not a valid entry name; if the keystore file of the alias is not found; if the alias is not found within the keystore; if the password is incorrect; or any file I/O, security, or keystore operation fails.
      * @throws CryptographicException if the keystore algorithm is unavailable.
      */
     public PrivateKey readPrivateKeyFromKeystore(String alias) {
         char[] password = passwordSupplier.get().toCharArray();
 
-        Path path = Paths.get(this.path);
+        try {
+            validateAlias(alias, "Failed to read data from keystore");
+
+            Path entryPath = resolveEntryPath(alias);
 
-        if (!Files.exists(path)) {
-            String message = "Failed to read data from keystore (" + this.path + ") for alias '" + alias +
-                    "' due to keystore file not being found.";
-            log.error(message);
-            throw new KeystoreException(message);
-        }
+            if (!Files.exists(entryPath)) {
+                String message = "Failed to read data from keystore (" + this.path + ") for alias '" + alias +
+                        "' due to keystore file not being found.";
+                log.error(message);
+                throw new KeystoreException(message);
+            }
 
-        try {
             KeyStore keystore = KeyStore.getInstance(KEY_STORE_TYPE);
 
-            try (FileInputStream fis = new FileInputStream(path.toFile())) {
-                keystore.load(fis, password);
+            try (InputStream is = Files.newInputStream(entryPath)) {
+                keystore.load(is, password);
             }
 
             PrivateKey privateKey = (PrivateKey) keystore.getKey(alias, password);
@@ -161,4 +186,69 @@ public class KeystoreService {
             Arrays.fill(password, ' ');
         }
     }
+
+    /**
+     * Resolves the keystore file holding the entry of the alias.
+     *
+     * @param alias The alias of the key entry.
+     * @return The {@link Path} of the keystore file for the alias.
+     */
+    private Path resolveEntryPath(String alias) {
+        return Paths.get(this.path).resolve(alias + KEY_STORE_FILE_EXTENSION);
+    }
+
+    /**
+     * Ensures the alias can safely be used as a keystore file name, preventing path traversal outside the keystore directory.
+     *
+     * @param alias The alias of the key entry.
+     * @param failure The description of the failed operation, used as the prefix of the error message.
+     * @throws KeystoreException if the alias contains characters other than letters, digits and underscores.
+     */
+    private void validateAlias(String alias, String failure) {
+        if (alias == null || !VALID_ALIAS.matcher(alias).matches()) {
+            String message = failure + " (" + this.path + ") for alias '" + alias +
+                    "' due to alias not being a valid entry name.";
+            log.error(message);
+            throw new KeystoreException(message);
+        }
+    }
+
+    /**
+     * Forces the directory entry of a renamed keystore file to disk.
+     * <p>
+     * Platforms which cannot open a directory as a channel (Windows) do not need this to make the rename durable.
+     *
+     * @param directory The keystore directory.
+     * @throws IOException if the directory was opened but could not be forced to disk.
+     */
+    private void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            log.debug("Keystore directory {} cannot be synced on this platform due to {}", directory, e.getMessage());
+            return;
+        }
+
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Deletes a leftover temporary keystore file following a failed write.
+     *
+     * @param temporaryPath The temporary file to delete, or {@code null} if there is nothing to clean up.
+     */
+    private void deleteQuietly(Path temporaryPath) {
+        if (temporaryPath == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary keystore file {} due to {}", temporaryPath, e.getMessage());
+        }
+    }
 }
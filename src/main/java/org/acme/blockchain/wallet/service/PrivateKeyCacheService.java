@@ -0,0 +1,140 @@
+package org.acme.blockchain.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.wallet.utility.KeyPairUtility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * A thread-safe, application-scoped cache of private keys used for signing transfers.
+ * <p>
+ * Reading a key from the PKCS12 keystore requires decrypting the store (PBKDF2 included), which is far
+ * too expensive to repeat for every transfer. This cache holds keys for a configurable time to live and up
+ * to a configurable maximum number of wallets.
+ * <p>
+ * The ML-DSA keys of the BouncyCastle provider do not support {@link javax.security.auth.Destroyable#destroy()},
+ * so the cache holds a copy of each key's PKCS#8 encoding which it owns, and rebuilds the key for every signature.
+ * Every encoding leaving the cache, whether through expiry, size eviction or application shutdown, is zeroed.
+ * A key rebuilt before its encoding was zeroed stays usable by its caller, and is only reachable for the duration
+ * of the signature.
+ */
+@ApplicationScoped
+public class PrivateKeyCacheService {
+
+    private final Cache<Address, CachedPrivateKey> privateKeyByAddress;
+
+    @Inject
+    public PrivateKeyCacheService(
+            @ConfigProperty(name = "copo.cache.private-key.maximum-size") long maximumSize,
+            @ConfigProperty(name = "copo.cache.private-key.ttl") Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    PrivateKeyCacheService(long maximumSize, Duration ttl, Ticker ticker) {
+        this.privateKeyByAddress = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .removalListener((Address address, CachedPrivateKey cached, RemovalCause cause) -> {
+                    if (cached != null) {
+                        cached.destroy();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Rebuilds the cached private key for the given address.
+     *
+     * @param address The wallet address acting as the keystore alias.
+     * @return A {@link PrivateKey} for the caller's exclusive use, or {@code null} if the key is not cached or has
+     * just been removed.
+     */
+    public PrivateKey get(Address address) {
+        CachedPrivateKey cached = this.privateKeyByAddress.getIfPresent(address);
+        return cached != null ? cached.load() : null;
+    }
+
+    /**
+     * Caches a copy of the encoding of a private key for the given address.
+     *
+     * @param address The wallet address acting as the keystore alias.
+     * @param privateKey The private key read from the keystore.
+     */
+    public void put(Address address, PrivateKey privateKey) {
+        this.privateKeyByAddress.put(address, new CachedPrivateKey(privateKey.getEncoded()));
+    }
+
+    /**
+     * Removes and zeroes every cached private key when the application shuts down.
+     */
+    @PreDestroy
+    void invalidateAll() {
+        this.privateKeyByAddress.invalidateAll();
+        this.privateKeyByAddress.cleanUp();
+    }
+
+    /**
+     * Performs pending expiry and eviction, zeroing the keys removed.
+     */
+    void cleanUp() {
+        this.privateKeyByAddress.cleanUp();
+    }
+
+    /**
+     * @param address The wallet address acting as the keystore alias.
+     * @return The cached key, or {@code null} if the address is not cached.
+     */
+    CachedPrivateKey getCached(Address address) {
+        return this.privateKeyByAddress.getIfPresent(address);
+    }
+
+    /**
+     * The PKCS#8 encoding of a private key, owned by the cache. Loading and zeroing are mutually exclusive, so a
+     * key is never rebuilt from a partly zeroed encoding.
+     */
+    static final class CachedPrivateKey {
+
+        private final byte[] encoded;
+
+        private boolean destroyed;
+
+        CachedPrivateKey(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        /**
+         * @return The rebuilt private key, or {@code null} if the encoding has been zeroed.
+         */
+        synchronized PrivateKey load() {
+            return this.destroyed ? null : KeyPairUtility.loadPrivateKey(this.encoded);
+        }
+
+        synchronized void destroy() {
+            Arrays.fill(this.encoded, (byte) 0);
+            this.destroyed = true;
+        }
+
+        synchronized boolean isDestroyed() {
+            return this.destroyed;
+        }
+
+        /**
+         * @return The encoding itself, all zero once destroyed.
+         */
+        synchronized byte[] getEncoded() {
+            return this.encoded;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.acme.blockchain.wallet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.acme.blockchain.common.model.Address;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.security.PublicKey;
+
+/**
+ * A thread-safe, application-scoped cache mapping wallet addresses to their decoded public keys.
+ * <p>
+ * A wallet's public key never changes once the wallet exists, so both the encoded form (read from the
+ * database when building a transfer) and the decoded {@link PublicKey} (required to verify a signature)
+ * can be held for as long as memory allows. The cache is bounded in size and evicts the least valuable
+ * entries once that bound is reached.
+ * <p>
+ * Callers are responsible for only caching keys which genuinely belong to the address, i.e. keys read
+ * from the wallet table or keys whose derived address has been checked.
+ */
+@ApplicationScoped
+public class PublicKeyCacheService {
+
+    private final Cache<Address, CachedPublicKey> publicKeyByAddress;
+
+    @Inject
+    public PublicKeyCacheService(@ConfigProperty(name = "copo.cache.public-key.maximum-size") long maximumSize) {
+        this.publicKeyByAddress = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Retrieves the cached public key for the given address.
+     *
+     * @param address The wallet address to look up.
+     * @return The {@link CachedPublicKey}, or {@code null} if the address is not cached.
+     */
+    public CachedPublicKey get(Address address) {
+        return this.publicKeyByAddress.getIfPresent(address);
+    }
+
+    /**
+     * Caches the encoded and decoded forms of the public key belonging to the given address.
+     *
+     * @param address The wallet address owning the key.
+     * @param encoded The X.509 encoded public key.
+     * @param publicKey The decoded public key.
+     */
+    public void put(Address address, byte[] encoded, PublicKey publicKey) {
+        this.publicKeyByAddress.put(address, new CachedPublicKey(encoded, publicKey));
+    }
+
+    /**
+     * The encoded and decoded forms of a single wallet public key.
+     *
+     * @param encoded The X.509 encoded public key.
+     * @param publicKey The decoded public key.
+     */
+    public record CachedPublicKey(byte[] encoded, PublicKey publicKey) {
+    }
+}
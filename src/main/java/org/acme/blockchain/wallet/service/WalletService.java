@@ -10,8 +10,10 @@ import org.acme.blockchain.common.utility.HashUtility;
 import org.acme.blockchain.common.utility.TimestampUtility;
 import org.acme.blockchain.transaction.model.TransactionSignature;
 import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.repository.WalletRepository;
 import org.acme.blockchain.wallet.utility.KeyPairUtility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.NoDataFoundException;
 
@@ -19,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.Arrays;
 
 /**
  * A service responsible for the creation, derivation, and initial persistence of a cryptocurrency wallet.
@@ -39,10 +42,39 @@ public class WalletService {
 
     private final KeystoreService keyStoreService;
 
+    private final PublicKeyCacheService publicKeyCache;
+
+    private final PrivateKeyCacheService privateKeyCache;
+
+    private final KeyPairPoolService keyPairPool;
+
+    private final SignatureAlgorithm defaultSignatureAlgorithm;
+
     @Inject
-    public WalletService(WalletRepository walletRepository, KeystoreService keyStoreService) {
+    public WalletService(
+            WalletRepository walletRepository,
+            KeystoreService keyStoreService,
+            PublicKeyCacheService publicKeyCache,
+            PrivateKeyCacheService privateKeyCache,
+            KeyPairPoolService keyPairPool,
+            @ConfigProperty(name = "copo.wallet.default-signature-algorithm") String defaultSignatureAlgorithm) {
         this.walletRepository = walletRepository;
         this.keyStoreService = keyStoreService;
+        this.publicKeyCache = publicKeyCache;
+        this.privateKeyCache = privateKeyCache;
+        this.keyPairPool = keyPairPool;
+        this.defaultSignatureAlgorithm = SignatureAlgorithm.fromAlgorithm(defaultSignatureAlgorithm);
+    }
+
+    /**
+     * Creates a new wallet signing transactions with the ML-DSA parameter set configured by
+     * {@code copo.wallet.default-signature-algorithm}.
+     *
+     * @return A {@link WalletModel} containing the newly generated address, public key information, and timestamp.
+     * @see #create(SignatureAlgorithm)
+     */
+    public WalletModel create() {
+        return create(defaultSignatureAlgorithm);
     }
 
     /**
@@ -52,21 +84,22 @@ public class WalletService {
      * <p>
      * The wallet creation process involves the following steps:
      * <ol>
-     * <li>Generating a quantum-resistant {@code KeyPair} (ML-DSA).</li>
+     * <li>Taking a quantum-resistant {@code KeyPair} (ML-DSA) of the requested parameter set from the {@code KeyPairPoolService}, generated on demand if the pool is empty or disabled.</li>
      * <li>Deriving the wallet {@code address} from the Public Key using double-hashing.</li>
      * <li>Checking the {@code WalletRepository} for an existing wallet with the generated address.</li>
      * <li>Persisting the Private Key securely using the {@code KeyStoreService}.</li>
      * <li>Saving the public {@code WalletModel} data via the {@code WalletRepository}.</li>
      * </ol>
      *
+     * @param signatureAlgorithm The ML-DSA parameter set the wallet signs transactions with.
      * @return A {@link WalletModel} containing the newly generated address, public key information, and timestamp.
      * @throws IllegalStateException If the randomly generated address already exists in the database, indicating an address collision (extremely rare).
      * @throws CryptographicException If the key pair cannot be generated or any underlying cryptographic algorithm is unavailable.
      * @throws KeystoreException If the private key cannot be securely written to the key store file.
      * @throws DataAccessException If the public wallet metadata cannot be persisted in the database.
      */
-    public WalletModel create() {
-        KeyPair keyPair = KeyPairUtility.generateKeyPair();
+    public WalletModel create(SignatureAlgorithm signatureAlgorithm) {
+        KeyPair keyPair = keyPairPool.take(signatureAlgorithm);
         Address address = generateAddress(keyPair.getPublic());
 
         if (walletRepository.exists(address.value())) {
@@ -75,9 +108,11 @@ public class WalletService {
 
         keyStoreService.writePrivateKeyToKeystore(keyPair, address.value());
 
-        WalletModel wallet = initialise(keyPair, address);
+        WalletModel wallet = initialise(keyPair, address, signatureAlgorithm);
         walletRepository.insert(wallet);
 
+        publicKeyCache.put(address, wallet.publicKeyEncoded(), keyPair.getPublic());
+
         return wallet;
     }
 
@@ -100,7 +135,8 @@ public class WalletService {
     /**
      * Cryptographically signs a piece of data using the **private key** associated with the given wallet address.
      * <p>
-     * The private key is securely retrieved from the key store using the address as the alias.
+     * The private key is served from the {@link PrivateKeyCacheService}, falling back to the key store (using the
+     * address as the alias) when the key is not cached or has expired.
      * This method is typically used to sign a transaction hash ID, ensuring the integrity and authenticity of the sender.
      *
      * @param address The {@link Address} acting as the alias to retrieve the private key.
@@ -118,46 +154,129 @@ public class WalletService {
     }
 
     /**
-     * Verifies if a given digital signature is valid for the original message and the public key derived from the provided byte array.
+     * Verifies if a given digital signature is valid for the original message and the public key supplied by the sender,
+     * dispatching verification to the ML-DSA parameter set declared by the sender.
      * <p>
-     * This process involves loading the raw public key bytes into a {@link PublicKey} object and then executing the verification algorithm.
+     * The decoded public key is served from the {@link PublicKeyCacheService} when the supplied bytes match the key
+     * cached for the sender address. Otherwise, the key is decoded and, only if it derives the sender address,
+     * cached for subsequent verifications. A signature is never valid if the declared parameter set does not match
+     * the parameter set of the public key or the length of the signature.
      *
+     * @param senderAddress The {@link Address} claiming ownership of the public key.
+     * @param signatureAlgorithm The ML-DSA parameter set declared by the sender.
      * @param keyBytes The encoded **Public Key** bytes to be used for verification.
      * @param originalMessage The original data (e.g., transaction hash) that was signed.
      * @param signature The Hex-encoded digital signature string to verify.
      * @return {@code true} if the signature is valid for the message and public key; {@code false} otherwise.
      * @throws CryptographicException If the public key cannot be loaded or the verification process setup fails.
      */
-    public boolean verifySignature(byte[] keyBytes, String originalMessage, TransactionSignature signature) {
-        PublicKey publicKey = KeyPairUtility.loadPublicKey(keyBytes);
+    public boolean verifySignature(Address senderAddress, SignatureAlgorithm signatureAlgorithm, byte[] keyBytes, String originalMessage, TransactionSignature signature) {
+        if (!signature.isSignedWith(signatureAlgorithm)) {
+            return false;
+        }
+
+        PublicKey publicKey = resolvePublicKey(senderAddress, keyBytes);
+
+        if (!signatureAlgorithm.getAlgorithm().equals(publicKey.getAlgorithm())) {
+            return false;
+        }
 
-        return KeyPairUtility.verifySignature(publicKey, originalMessage.getBytes(StandardCharsets.UTF_8), signature.toBytes());
+        return KeyPairUtility.verifySignature(signatureAlgorithm, publicKey, originalMessage.getBytes(StandardCharsets.UTF_8), signature.toBytes());
     }
 
     /**
-     * Retrieves the wallet's raw encoded **Public Key** by querying the database using the wallet address.
+     * Retrieves the wallet's raw encoded **Public Key**, querying the database using the wallet address
+     * only when the key is not already held by the {@link PublicKeyCacheService}.
      *
      * @param address The {@link Address} to look up.
      * @return The raw encoded public key as a {@code byte[]} array.
      * @throws NotFoundException If the wallet and its public key do not exist in the database (i.e., {@code NoDataFoundException} is caught).
+     * @throws CryptographicException If the stored public key cannot be decoded.
      */
     public byte[] getPublicKeyEncoded(Address address) {
+        return getPublicKey(address).encoded();
+    }
+
+    /**
+     * Retrieves the ML-DSA parameter set of the wallet, derived from its public key.
+     *
+     * @param address The {@link Address} to look up.
+     * @return The {@link SignatureAlgorithm} the wallet signs transactions with.
+     * @throws NotFoundException If the wallet and its public key do not exist in the database.
+     * @throws CryptographicException If the stored public key cannot be decoded.
+     */
+    public SignatureAlgorithm getSignatureAlgorithm(Address address) {
+        return SignatureAlgorithm.fromKey(getPublicKey(address).publicKey());
+    }
+
+    /**
+     * Retrieves the cached public key for the given address, loading and caching it from the database on a miss.
+     *
+     * @param address The {@link Address} to look up.
+     * @return The encoded and decoded public key of the wallet.
+     * @throws NotFoundException If the wallet and its public key do not exist in the database.
+     */
+    private PublicKeyCacheService.CachedPublicKey getPublicKey(Address address) {
+        PublicKeyCacheService.CachedPublicKey cached = publicKeyCache.get(address);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] keyBytes;
         try {
-            return walletRepository.retrievePublicKeyByAddress(address.value());
+            keyBytes = walletRepository.retrievePublicKeyByAddress(address.value());
         } catch (NoDataFoundException e) {
             throw new NotFoundException("Wallet does not exist in the database: " + address.value());
         }
+
+        PublicKey publicKey = KeyPairUtility.loadPublicKey(keyBytes);
+        publicKeyCache.put(address, keyBytes, publicKey);
+
+        return new PublicKeyCacheService.CachedPublicKey(keyBytes, publicKey);
     }
 
     /**
-     * Retrieves the **Private Key** associated with the given address by reading it from the secure {@code KeystoreService}.
+     * Resolves the decoded public key supplied by a sender, preferring the cached key for the sender address.
+     * <p>
+     * A supplied key is only cached when it derives the sender address, so a transfer carrying a foreign key
+     * can never displace the genuine key of a wallet.
+     *
+     * @param senderAddress The {@link Address} claiming ownership of the public key.
+     * @param keyBytes The encoded public key supplied by the sender.
+     * @return The decoded {@link PublicKey}.
+     */
+    private PublicKey resolvePublicKey(Address senderAddress, byte[] keyBytes) {
+        PublicKeyCacheService.CachedPublicKey cached = publicKeyCache.get(senderAddress);
+        if (cached != null && Arrays.equals(cached.encoded(), keyBytes)) {
+            return cached.publicKey();
+        }
+
+        PublicKey publicKey = KeyPairUtility.loadPublicKey(keyBytes);
+        if (generateAddress(keyBytes).equals(senderAddress)) {
+            publicKeyCache.put(senderAddress, keyBytes, publicKey);
+        }
+
+        return publicKey;
+    }
+
+    /**
+     * Retrieves the **Private Key** associated with the given address from the {@code PrivateKeyCacheService},
+     * reading it from the secure {@code KeystoreService} and caching it on a miss.
      *
      * @param address The {@link Address} acting as the alias for key retrieval.
      * @return The {@link PrivateKey} instance.
      * @throws KeystoreException If the private key cannot be read from the key store (e.g., file not found, incorrect password, or alias missing).
      */
     private PrivateKey getPrivateKey(Address address) {
-        return keyStoreService.readPrivateKeyFromKeystore(address.value());
+        PrivateKey privateKey = privateKeyCache.get(address);
+        if (privateKey != null) {
+            return privateKey;
+        }
+
+        privateKey = keyStoreService.readPrivateKeyFromKeystore(address.value());
+        privateKeyCache.put(address, privateKey);
+
+        return privateKey;
     }
 
     /**
@@ -168,7 +287,16 @@ public class WalletService {
      * @return An {@link Address} instance containing the formatted wallet address, prefixed with **"COPO_"**.
      */
     private Address generateAddress(PublicKey publicKey) {
-        byte[] publicKeyBytes = publicKey.getEncoded();
+        return generateAddress(publicKey.getEncoded());
+    }
+
+    /**
+     * Derives a unique COPO address from the encoded bytes of a public key.
+     *
+     * @param publicKeyBytes The X.509 encoded public key.
+     * @return An {@link Address} instance containing the formatted wallet address, prefixed with **"COPO_"**.
+     */
+    private Address generateAddress(byte[] publicKeyBytes) {
         byte[] sha256Hash = HashUtility.calculateSHA256(publicKeyBytes);
         byte[] blake2b256Hash = HashUtility.calculateBLAKE2b256(sha256Hash);
 
@@ -181,14 +309,16 @@ public class WalletService {
      *
      * @param keyPair The generated cryptographic key pair.
      * @param address The derived public wallet address.
+     * @param signatureAlgorithm The ML-DSA parameter set of the key pair.
      * @return A fully initialised {@link WalletModel} instance.
      */
-    private WalletModel initialise(KeyPair keyPair, Address address) {
+    private WalletModel initialise(KeyPair keyPair, Address address, SignatureAlgorithm signatureAlgorithm) {
         return WalletModel.builder()
                 .keyPair(keyPair)
                 .address(address)
                 .publicKeyEncoded(keyPair.getPublic().getEncoded())
                 .createdAt(TimestampUtility.getOffsetDateTimeNow())
+                .signatureAlgorithm(signatureAlgorithm)
                 .build();
     }
 }
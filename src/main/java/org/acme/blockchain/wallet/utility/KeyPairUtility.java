@@ -2,10 +2,11 @@ package org.acme.blockchain.wallet.utility;
 
 import lombok.extern.slf4j.Slf4j;
 import org.acme.blockchain.common.exception.CryptographicException;
+import org.acme.blockchain.common.utility.PrimitivePool;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.bouncycastle.asn1.x500.X500Name;
 import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
 import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
-import org.bouncycastle.jcajce.spec.MLDSAParameterSpec;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.OperatorCreationException;
@@ -16,6 +17,7 @@ import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
+import java.security.Provider;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.Security;
@@ -23,17 +25,24 @@ import java.security.Signature;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * A specialised utility class for generating, signing, and verifying cryptographic
- * operations related to the **ML-DSA (Dilithium)** quantum-resistant algorithm.
+ * operations related to the **ML-DSA (Dilithium)** quantum-resistant algorithm, supporting the
+ * ML-DSA-44, ML-DSA-65 and ML-DSA-87 parameter sets described by {@link SignatureAlgorithm}.
  * <p>
- * This class ensures thread-safe access to core cryptographic functions by creating
- * a new {@link Signature} instance for each operation, leveraging the Bouncy Castle
- * (BC) provider for Dilithium-specific algorithms and parameter sets (Dilithium 5).
+ * This class ensures thread-safe access to core cryptographic functions by borrowing
+ * {@link Signature} and {@link KeyFactory} instances from pools for the duration of each operation,
+ * leveraging the Bouncy Castle (BC) provider for Dilithium-specific algorithms and parameter sets
+ * (Dilithium 5). Pooled instances are bound directly to the provider instance, and a single shared,
+ * thread-safe {@link SecureRandom} is used, so neither provider lookup nor RNG seeding happens on the
+ * hot path.
  */
 @Slf4j
 public final class KeyPairUtility {
@@ -42,10 +51,25 @@ public final class KeyPairUtility {
 
     private static final String BC_PROVIDER = "BC";
 
+    private static final Provider BOUNCY_CASTLE;
+
     static {
         Security.addProvider(new BouncyCastleProvider());
+        BOUNCY_CASTLE = Security.getProvider(BC_PROVIDER);
+    }
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private static final Map<SignatureAlgorithm, PrimitivePool<Signature>> SIGNATURES_BY_ALGORITHM = new EnumMap<>(SignatureAlgorithm.class);
+
+    static {
+        for (SignatureAlgorithm signatureAlgorithm : SignatureAlgorithm.values()) {
+            SIGNATURES_BY_ALGORITHM.put(signatureAlgorithm, new PrimitivePool<>(() -> newSignature(signatureAlgorithm.getAlgorithm())));
+        }
     }
 
+    private static final PrimitivePool<KeyFactory> KEY_FACTORIES = new PrimitivePool<>(KeyPairUtility::newKeyFactory);
+
     /**
      * Generates a new ML-DSA key pair using the **ml-dsa-87** (Dilithium 5) security level.
      * <p>
@@ -55,9 +79,23 @@ public final class KeyPairUtility {
      * @throws CryptographicException if the ML-DSA algorithm or Bouncy Castle provider is not correctly configured or available.
      */
     public static KeyPair generateKeyPair() {
+        return generateKeyPair(SignatureAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Generates a new ML-DSA key pair using the given parameter set.
+     * <p>
+     * ML-DSA-44, ML-DSA-65 and ML-DSA-87 correspond to **NIST's Level 2, 3 and 5 security** respectively,
+     * trading security level for smaller keys and signatures and faster verification.
+     *
+     * @param signatureAlgorithm The ML-DSA parameter set of the key pair.
+     * @return A cryptographically secure {@link KeyPair} consisting of a public and private key.
+     * @throws CryptographicException if the ML-DSA algorithm or Bouncy Castle provider is not correctly configured or available.
+     */
+    public static KeyPair generateKeyPair(SignatureAlgorithm signatureAlgorithm) {
         try {
-            KeyPairGenerator keyGen = KeyPairGenerator.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
-            keyGen.initialize(MLDSAParameterSpec.ml_dsa_87);
+            KeyPairGenerator keyGen = KeyPairGenerator.getInstance(KEY_PAIR_ALGORITHM, BOUNCY_CASTLE);
+            keyGen.initialize(signatureAlgorithm.getParameterSpec(), SECURE_RANDOM);
             return keyGen.generateKeyPair();
         } catch (Exception e) {
             throw new CryptographicException("Failed to generate ML-DSA key pair.", e);
@@ -65,9 +103,11 @@ public final class KeyPairUtility {
     }
 
     /**
-     * Signs a raw message byte array using the provided private key and the ML-DSA algorithm.
+     * Signs a raw message byte array using the provided private key and the ML-DSA parameter set of the key.
      * <p>
-     * **Thread Safety:** A new {@link Signature} object is instantiated for every call to ensure the operation is thread-safe and isolated.
+     * **Thread Safety:** A {@link Signature} object is borrowed from the pool of the key's parameter set for the
+     * exclusive use of this call and re-initialised before use, so the operation is thread-safe and isolated. It is
+     * only returned to the pool on success.
      *
      * @param privateKey The {@link PrivateKey} to sign the message with.
      * @param unsignedMessage The raw message bytes to sign.
@@ -76,12 +116,16 @@ public final class KeyPairUtility {
      */
     public static byte[] sign(PrivateKey privateKey, byte[] unsignedMessage) {
         try {
-            Signature mlDsa = Signature.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+            PrimitivePool<Signature> signatures = SIGNATURES_BY_ALGORITHM.get(SignatureAlgorithm.fromKey(privateKey));
+            Signature mlDsa = signatures.borrow();
 
-            mlDsa.initSign(privateKey, new SecureRandom());
+            mlDsa.initSign(privateKey, SECURE_RANDOM);
             mlDsa.update(unsignedMessage);
 
-            return mlDsa.sign();
+            byte[] signature = mlDsa.sign();
+            signatures.release(mlDsa);
+
+            return signature;
         } catch (Exception e) {
             log.error("Failed to sign data due to: {}", e.getMessage(), e);
             throw new CryptographicException("Failed to sign data.", e);
@@ -89,30 +133,57 @@ public final class KeyPairUtility {
     }
 
     /**
-     * Verifies a digital signature against the original message using the public key and the ML-DSA algorithm.
+     * Verifies a digital signature against the original message using the public key and the given ML-DSA parameter set.
      * <p>
-     * **Thread Safety:** A new {@link Signature} object is instantiated for every call.
+     * The {@link Signature} object is specific to the parameter set, so a public key of any other parameter set is
+     * rejected by the provider rather than silently accepted.
      *
+     * @param signatureAlgorithm The ML-DSA parameter set the signature was produced with.
      * @param publicKey The {@link PublicKey} to verify the signature against.
      * @param originalMessage The original message bytes that were signed.
      * @param signature The digital signature bytes to verify.
      * @return {@code true} if the signature is valid for the message; {@code false} otherwise.
      * @throws CryptographicException if the verification setup fails (e.g., due to an invalid public key or crypto error).
      */
-    public static boolean verifySignature(PublicKey publicKey, byte[] originalMessage, byte[] signature) {
+    public static boolean verifySignature(SignatureAlgorithm signatureAlgorithm, PublicKey publicKey, byte[] originalMessage, byte[] signature) {
+        return verifySignature(SIGNATURES_BY_ALGORITHM.get(signatureAlgorithm), publicKey, originalMessage, signature);
+    }
+
+    /**
+     * Verifies a digital signature using a {@link Signature} borrowed from the given pool.
+     *
+     * @param signatures The pool of {@link Signature} objects to borrow from.
+     * @param publicKey The {@link PublicKey} to verify the signature against.
+     * @param originalMessage The original message bytes that were signed.
+     * @param signature The digital signature bytes to verify.
+     * @return {@code true} if the signature is valid for the message; {@code false} otherwise.
+     * @throws CryptographicException if the verification setup fails (e.g., due to an invalid public key or crypto error).
+     */
+    private static boolean verifySignature(PrimitivePool<Signature> signatures, PublicKey publicKey, byte[] originalMessage, byte[] signature) {
         try {
-            Signature mlDsa = Signature.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+            Signature mlDsa = signatures.borrow();
 
             mlDsa.initVerify(publicKey);
             mlDsa.update(originalMessage);
 
-            return mlDsa.verify(signature);
+            boolean isValid = mlDsa.verify(signature);
+            signatures.release(mlDsa);
+
+            return isValid;
         } catch (Exception e) {
             log.error("Failed to verify signature due to: {}", e.getMessage(), e);
             throw new CryptographicException("Failed to verify signature.", e);
         }
     }
 
+    /**
+     * @param signatureAlgorithm The ML-DSA parameter set.
+     * @return The number of idle {@link Signature} objects pooled for the parameter set.
+     */
+    static int getIdleSignatureCount(SignatureAlgorithm signatureAlgorithm) {
+        return SIGNATURES_BY_ALGORITHM.get(signatureAlgorithm).getIdleCount();
+    }
+
     /**
      * Loads a {@link PublicKey} instance from its standard X.509 encoded byte array representation.
      * <p>
@@ -127,15 +198,41 @@ public final class KeyPairUtility {
      */
     public static PublicKey loadPublicKey(byte[] keyBytes) throws CryptographicException {
         try {
-            KeyFactory keyFactory = KeyFactory.getInstance(KEY_PAIR_ALGORITHM, BC_PROVIDER);
+            KeyFactory keyFactory = KEY_FACTORIES.borrow();
             KeySpec keySpec = new X509EncodedKeySpec(keyBytes);
 
-            return keyFactory.generatePublic(keySpec);
+            PublicKey publicKey = keyFactory.generatePublic(keySpec);
+            KEY_FACTORIES.release(keyFactory);
+
+            return publicKey;
         } catch (Exception e) {
             throw new CryptographicException("Failed to load public key.", e);
         }
     }
 
+    /**
+     * Loads a {@link PrivateKey} instance from its standard PKCS#8 encoded byte array representation.
+     * <p>
+     * The {@link PKCS8EncodedKeySpec} copies the byte array, so the caller remains free to zero it afterwards.
+     *
+     * @param keyBytes The **PKCS#8 encoded byte array** of the private key (e.g., the output of {@code PrivateKey.getEncoded()}).
+     * @return A valid ML-DSA {@link PrivateKey} instance.
+     * @throws CryptographicException if the key factory or key specification is invalid, or the byte array is malformed / corrupted.
+     */
+    public static PrivateKey loadPrivateKey(byte[] keyBytes) throws CryptographicException {
+        try {
+            KeyFactory keyFactory = KEY_FACTORIES.borrow();
+            KeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
+
+            PrivateKey privateKey = keyFactory.generatePrivate(keySpec);
+            KEY_FACTORIES.release(keyFactory);
+
+            return privateKey;
+        } catch (Exception e) {
+            throw new CryptographicException("Failed to load private key.", e);
+        }
+    }
+
     /**
      * Creates a self-signed **X.509 certificate** for a given key pair using the ML-DSA algorithm.
      * <p>
@@ -157,7 +254,7 @@ public final class KeyPairUtility {
         BigInteger serial = BigInteger.valueOf(System.currentTimeMillis());
 
         ContentSigner contentSigner = new JcaContentSignerBuilder(KEY_PAIR_ALGORITHM)
-                .setProvider(BC_PROVIDER)
+                .setProvider(BOUNCY_CASTLE)
                 .build(keyPair.getPrivate());
 
         JcaX509v3CertificateBuilder certBuilder = new JcaX509v3CertificateBuilder(
@@ -165,7 +262,36 @@ public final class KeyPairUtility {
         );
 
         return new JcaX509CertificateConverter()
-                .setProvider(BC_PROVIDER)
+                .setProvider(BOUNCY_CASTLE)
                 .getCertificate(certBuilder.build(contentSigner));
     }
+
+    /**
+     * Creates a new ML-DSA {@link Signature} for a pool, bound directly to the Bouncy Castle provider instance.
+     *
+     * @param algorithm The generic ML-DSA algorithm, or the name of a specific parameter set.
+     * @return A new, uninitialised ML-DSA {@link Signature}.
+     * @throws CryptographicException if the ML-DSA algorithm is unavailable.
+     */
+    private static Signature newSignature(String algorithm) {
+        try {
+            return Signature.getInstance(algorithm, BOUNCY_CASTLE);
+        } catch (Exception e) {
+            throw new CryptographicException(algorithm + " signature algorithm unexpectedly unavailable at runtime.", e);
+        }
+    }
+
+    /**
+     * Creates a new ML-DSA {@link KeyFactory} for the pool, bound directly to the Bouncy Castle provider instance.
+     *
+     * @return A new ML-DSA {@link KeyFactory}.
+     * @throws CryptographicException if the ML-DSA algorithm is unavailable.
+     */
+    private static KeyFactory newKeyFactory() {
+        try {
+            return KeyFactory.getInstance(KEY_PAIR_ALGORITHM, BOUNCY_CASTLE);
+        } catch (Exception e) {
+            throw new CryptographicException(KEY_PAIR_ALGORITHM + " key factory unexpectedly unavailable at runtime.", e);
+        }
+    }
 }
@@ -0,0 +1,11 @@
+-- Wallet table
+
+ALTER TABLE wallet ADD COLUMN signature_algorithm VARCHAR(12) NOT NULL DEFAULT 'ML-DSA-87';
+
+-- Transaction table
+
+ALTER TABLE transaction ALTER COLUMN signature TYPE VARCHAR(9254);
+
+-- Existing transactions keep a NULL algorithm, as their hash IDs were calculated without one
+
+ALTER TABLE transaction ADD COLUMN signature_algorithm VARCHAR(12);
@@ -0,0 +1,106 @@
+package org.acme.blockchain.block.service;
+
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransactionModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockTemplateServiceTest {
+
+    private static final int PUBLIC_KEY_LENGTH = 2592;
+
+    @Mock
+    TransferCacheService transferCache;
+
+    @Test
+    void testSelectTransactions_sizeLimit_selectsHighestFeeRates() {
+        // Given
+        TransferModel low = getTransfer("0.001");
+        TransferModel high = getTransfer("0.1");
+        TransferModel medium = getTransfer("0.01");
+
+        Mockito.when(transferCache.getReadyToMine()).thenReturn(List.of(low, high, medium));
+
+        BlockTemplateService blockTemplateService = new BlockTemplateService(
+                transferCache, (long) high.getEncodedSize() + medium.getEncodedSize());
+
+        // When
+        List<TransactionModel> selected = blockTemplateService.selectTransactions();
+
+        // Then
+        Assertions.assertEquals(List.of(high, medium), selected);
+    }
+
+    @Test
+    void testSelectTransactions_highFeeChild_selectsParentFirst() {
+        // Given
+        TransferModel parent = getTransfer("0.001");
+        TransferModel child = getChild(parent, "0.1");
+        TransferModel medium = getTransfer("0.01");
+
+        Mockito.when(transferCache.getReadyToMine()).thenReturn(List.of(medium, parent, child));
+
+        BlockTemplateService blockTemplateService = new BlockTemplateService(
+                transferCache, (long) parent.getEncodedSize() + child.getEncodedSize());
+
+        // When
+        List<TransactionModel> selected = blockTemplateService.selectTransactions();
+
+        // Then
+        Assertions.assertEquals(List.of(parent, child), selected);
+    }
+
+    @Test
+    void testSelectTransactions_packageTooLarge_selectsSmallerTransfer() {
+        // Given
+        TransferModel parent = getTransfer("0.001");
+        TransferModel child = getChild(parent, "0.1");
+        child.setSenderPublicKeyEncoded(new byte[2 * PUBLIC_KEY_LENGTH]);
+        TransferModel low = getTransfer("0.0001");
+
+        Mockito.when(transferCache.getReadyToMine()).thenReturn(List.of(parent, child, low));
+
+        BlockTemplateService blockTemplateService = new BlockTemplateService(
+                transferCache, (long) parent.getEncodedSize() + low.getEncodedSize());
+
+        // When
+        List<TransactionModel> selected = blockTemplateService.selectTransactions();
+
+        // Then
+        Assertions.assertEquals(List.of(parent, low), selected);
+    }
+
+    private TransferModel getChild(TransferModel parent, String fee) {
+        TransferModel child = TransactionTestFactory.getTransferModel(
+                parent.getSenderAddress().value(),
+                parent.getRecipientAddress().value(),
+                BigDecimal.ONE
+        );
+        child.setFee(new Coin(new BigDecimal(fee)));
+        child.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        child.setInputs(List.of(parent.getOutputs().stream()
+                .filter(output -> OutputIndex.SENDER.equals(output.getId().getOutputIndex()))
+                .findFirst()
+                .orElseThrow()));
+        return child;
+    }
+
+    private TransferModel getTransfer(String fee) {
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setFee(new Coin(new BigDecimal(fee)));
+        transfer.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        return transfer;
+    }
+}
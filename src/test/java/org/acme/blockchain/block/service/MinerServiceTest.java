@@ -5,7 +5,6 @@ import org.acme.blockchain.block.model.BlockModel;
 import org.acme.blockchain.common.model.Address;
 import org.acme.blockchain.common.service.DifficultyService;
 import org.acme.blockchain.common.service.RewardService;
-import org.acme.blockchain.common.service.TransferCacheService;
 import org.acme.blockchain.common.utility.HashUtility;
 import org.acme.blockchain.common.utility.TimestampUtility;
 import org.acme.blockchain.network.TempNetwork;
@@ -33,7 +32,7 @@ public class MinerServiceTest {
     MinerCacheService minerCache;
 
     @Mock
-    TransferCacheService transactionCache;
+    BlockTemplateService blockTemplateService;
 
     @Mock
     DifficultyService difficultyService;
@@ -165,7 +164,7 @@ public class MinerServiceTest {
         Mockito.when(difficultyService.calculateDifficulty()).thenReturn(difficulty);
         Mockito.when(rewardService.determineRewardAmount()).thenReturn(rewardAmount);
 
-        Mockito.when(transactionCache.getReadyToMine()).thenReturn(readyToMine);
+        Mockito.when(blockTemplateService.selectTransactions()).thenReturn(readyToMine);
 
         try (MockedStatic<HashUtility> hashUtilityMock = Mockito.mockStatic(HashUtility.class);
              MockedStatic<TimestampUtility> timestampUtilityMock = Mockito.mockStatic(TimestampUtility.class)) {
@@ -183,7 +182,7 @@ public class MinerServiceTest {
             Mockito.verify(difficultyService, Mockito.times(1)).calculateDifficulty();
             Mockito.verify(rewardService, Mockito.times(1)).determineRewardAmount();
 
-            Mockito.verify(transactionCache, Mockito.times(1)).getReadyToMine();
+            Mockito.verify(blockTemplateService, Mockito.times(1)).selectTransactions();
             Mockito.verify(minerCache, Mockito.times(1)).remove(address);
 
             Mockito.verify(minerCache, Mockito.atLeast(2)).getIsPulseMined();
@@ -217,7 +216,7 @@ public class MinerServiceTest {
         Mockito.when(difficultyService.calculateDifficulty()).thenReturn(difficulty);
         Mockito.when(rewardService.determineRewardAmount()).thenReturn(rewardAmount);
 
-        Mockito.when(transactionCache.getReadyToMine()).thenReturn(readyToMine);
+        Mockito.when(blockTemplateService.selectTransactions()).thenReturn(readyToMine);
 
         try (MockedStatic<HashUtility> hashUtilityMock = Mockito.mockStatic(HashUtility.class);
              MockedStatic<TimestampUtility> timestampUtilityMock = Mockito.mockStatic(TimestampUtility.class)) {
@@ -237,7 +236,7 @@ public class MinerServiceTest {
             Mockito.verify(difficultyService, Mockito.times(1)).calculateDifficulty();
             Mockito.verify(rewardService, Mockito.times(1)).determineRewardAmount();
 
-            Mockito.verify(transactionCache, Mockito.times(1)).getReadyToMine();
+            Mockito.verify(blockTemplateService, Mockito.times(1)).selectTransactions();
             Mockito.verify(minerCache, Mockito.times(2)).remove(Mockito.any(Address.class));
 
             Mockito.verify(minerCache, Mockito.atLeast(2)).getIsPulseMined();
@@ -268,7 +267,7 @@ public class MinerServiceTest {
         Mockito.when(difficultyService.calculateDifficulty()).thenReturn(difficulty);
         Mockito.when(rewardService.determineRewardAmount()).thenReturn(rewardAmount);
 
-        Mockito.when(transactionCache.getReadyToMine()).thenReturn(readyToMine);
+        Mockito.when(blockTemplateService.selectTransactions()).thenReturn(readyToMine);
 
         // Then
         minerService.pulse();
@@ -280,7 +279,7 @@ public class MinerServiceTest {
         Mockito.verify(difficultyService, Mockito.times(1)).calculateDifficulty();
         Mockito.verify(rewardService, Mockito.times(1)).determineRewardAmount();
 
-        Mockito.verify(transactionCache, Mockito.times(1)).getReadyToMine();
+        Mockito.verify(blockTemplateService, Mockito.times(1)).selectTransactions();
         Mockito.verify(minerCache, Mockito.times(1)).remove(address);
 
         Mockito.verify(minerCache, Mockito.never()).getIsPulseMined();
@@ -308,7 +307,7 @@ public class MinerServiceTest {
         Mockito.verify(difficultyService, Mockito.never()).calculateDifficulty();
         Mockito.verify(rewardService, Mockito.never()).determineRewardAmount();
 
-        Mockito.verify(transactionCache, Mockito.never()).getReadyToMine();
+        Mockito.verify(blockTemplateService, Mockito.never()).selectTransactions();
         Mockito.verify(minerCache, Mockito.never()).remove(Mockito.any(Address.class));
 
         Mockito.verify(minerCache, Mockito.never()).getIsPulseMined();
@@ -0,0 +1,138 @@
+package org.acme.blockchain.common.api.resource;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.ws.rs.core.Response;
+import org.acme.blockchain.common.api.contract.ErrorResponse;
+import org.acme.blockchain.common.api.contract.FeeEstimateResponse;
+import org.acme.blockchain.common.api.contract.MempoolResponse;
+import org.acme.blockchain.common.model.FeeEstimateModel;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.acme.blockchain.common.service.FeeService;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+@QuarkusTest
+public class MempoolResourceTest {
+
+    private static final String URL = "/v1/mempool";
+
+    @InjectMock
+    TransferCacheService transferCacheService;
+
+    @InjectMock
+    FeeService feeService;
+
+    @Test
+    void testGet_returns200() {
+        // Given & When
+        MempoolModel summary = MempoolModel.builder()
+                .transferCount(3)
+                .totalBytes(22500)
+                .offHeapBytes(0)
+                .reservedInputCount(4)
+                .feeRateHistogram(List.of(
+                        new MempoolModel.FeeRateBucket(0, 1.0, 1, 7500),
+                        new MempoolModel.FeeRateBucket(1, null, 2, 15000)
+                ))
+                .agePercentiles(new MempoolModel.AgePercentiles(5, 9, 9, 10))
+                .statusCounts(Map.of(TransactionStatus.CONFIRMED, 3L, TransactionStatus.VALIDATED, 1L))
+                .build();
+
+        Mockito.when(transferCacheService.getSummary()).thenReturn(summary);
+
+        MempoolResponse response = given()
+                .when()
+                .get(URL)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(MempoolResponse.class);
+
+        Assertions.assertEquals(3, response.transferCount());
+        Assertions.assertEquals(22500, response.totalBytes());
+        Assertions.assertEquals(4, response.reservedInputCount());
+        Assertions.assertEquals(2, response.feeRateHistogram().size());
+        Assertions.assertNull(response.feeRateHistogram().getLast().maxFeeRate());
+        Assertions.assertEquals(10, response.agePercentiles().max());
+        Assertions.assertEquals(Map.of("CONFIRMED", 3L, "VALIDATED", 1L), response.statusCounts());
+
+        Mockito.verify(transferCacheService, Mockito.times(1)).getSummary();
+    }
+
+    @Test
+    void testGet_unexpectedException_returns500() {
+        // Given & When
+        Mockito.when(transferCacheService.getSummary()).thenThrow(new RuntimeException());
+
+        ErrorResponse response = given()
+                .when()
+                .get(URL)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Failed to summarise mempool. Please try again.", response.message());
+    }
+
+    @Test
+    void testEstimateFee_targetBlocks_returns200() {
+        // Given & When
+        FeeEstimateModel estimate = FeeEstimateModel.builder()
+                .targetBlocks(2)
+                .feeRate(20)
+                .mempoolFeeRate(20)
+                .blockFeeRate(12.5)
+                .build();
+
+        Mockito.when(feeService.estimate(2)).thenReturn(estimate);
+
+        FeeEstimateResponse response = given()
+                .queryParam("target_blocks", 2)
+                .when()
+                .get(URL + "/fee")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(FeeEstimateResponse.class);
+
+        Assertions.assertEquals(2, response.targetBlocks());
+        Assertions.assertEquals(20, response.feeRate());
+        Assertions.assertEquals(12.5, response.blockFeeRate());
+    }
+
+    @Test
+    void testEstimateFee_invalidTargetBlocks_returns400() {
+        // Given & When
+        Mockito.when(feeService.estimate(0)).thenThrow(new IllegalArgumentException("Target blocks must be between 1 and 144: 0"));
+
+        ErrorResponse response = given()
+                .queryParam("target_blocks", 0)
+                .when()
+                .get(URL + "/fee")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.BAD_REQUEST.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Target blocks must be between 1 and 144: 0.", response.message());
+    }
+}
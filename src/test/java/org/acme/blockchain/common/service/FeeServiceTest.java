@@ -0,0 +1,115 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.model.FeeEstimateModel;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class FeeServiceTest {
+
+    private static final long BLOCK_MAX_BYTES = 100_000;
+
+    private static final double MIN_FEE_RATE = 1;
+
+    @Mock
+    TransferCacheService cache;
+
+    @Test
+    void testEstimate_emptyMempoolAndNoBlocks_returnsMinimumFeeRate() {
+        // Given
+        FeeService feeService = getFeeService();
+        Mockito.when(cache.getSummary()).thenReturn(getSummary(List.of(new MempoolModel.FeeRateBucket(0, null, 0, 0))));
+
+        // When
+        FeeEstimateModel estimate = feeService.estimate(1);
+
+        // Then
+        Assertions.assertEquals(MIN_FEE_RATE, estimate.feeRate());
+    }
+
+    @Test
+    void testEstimate_congestedMempool_outbidsBucketFillingTargetBlocks() {
+        // Given
+        FeeService feeService = getFeeService();
+        Mockito.when(cache.getSummary()).thenReturn(getSummary(List.of(
+                new MempoolModel.FeeRateBucket(0, 10.0, 10, BLOCK_MAX_BYTES),
+                new MempoolModel.FeeRateBucket(10, 20.0, 10, BLOCK_MAX_BYTES),
+                new MempoolModel.FeeRateBucket(20, null, 1, BLOCK_MAX_BYTES / 2)
+        )));
+
+        // When
+        FeeEstimateModel nextBlock = feeService.estimate(1);
+        FeeEstimateModel withinThreeBlocks = feeService.estimate(3);
+
+        // Then
+        Assertions.assertEquals(20, nextBlock.feeRate());
+        Assertions.assertEquals(MIN_FEE_RATE, withinThreeBlocks.feeRate());
+    }
+
+    @Test
+    void testEstimate_fullRecentBlocks_requiresTheirLowestFeeRate() {
+        // Given
+        FeeService feeService = getFeeService();
+        Mockito.when(cache.getSummary()).thenReturn(getSummary(List.of(new MempoolModel.FeeRateBucket(0, null, 0, 0))));
+
+        List<TransferModel> block = getFullBlock("0.01");
+        double lowestFeeRate = block.stream()
+                .mapToDouble(transfer -> (double) transfer.getFee().toBaseUnits() / transfer.getEncodedSize())
+                .min()
+                .orElseThrow();
+
+        feeService.recordBlock(block);
+
+        // When
+        FeeEstimateModel estimate = feeService.estimate(1);
+
+        // Then
+        Assertions.assertEquals(lowestFeeRate, estimate.blockFeeRate());
+        Assertions.assertEquals(Math.max(MIN_FEE_RATE, lowestFeeRate), estimate.feeRate());
+    }
+
+    @Test
+    void testEstimate_targetOutOfRange_throwsIllegalArgumentException() {
+        // Given
+        FeeService feeService = getFeeService();
+
+        // When & Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> feeService.estimate(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> feeService.estimate(11));
+    }
+
+    private List<TransferModel> getFullBlock(String fee) {
+        List<TransferModel> block = new ArrayList<>();
+        long bytes = 0;
+
+        while (bytes < BLOCK_MAX_BYTES) {
+            TransferModel transfer = TransactionTestFactory.getTransferModel();
+            transfer.setFee(new Coin(new BigDecimal(fee)));
+            block.add(transfer);
+            bytes += transfer.getEncodedSize();
+        }
+        return block;
+    }
+
+    private MempoolModel getSummary(List<MempoolModel.FeeRateBucket> histogram) {
+        return MempoolModel.builder()
+                .feeRateHistogram(histogram)
+                .build();
+    }
+
+    private FeeService getFeeService() {
+        return new FeeService(cache, BLOCK_MAX_BYTES, MIN_FEE_RATE, 10, 10, 3);
+    }
+}
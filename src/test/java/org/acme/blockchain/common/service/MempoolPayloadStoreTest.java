@@ -0,0 +1,123 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.test_common.factory.AddressTestFactory;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransactionSignature;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MempoolPayloadStoreTest {
+
+    private static final int PUBLIC_KEY_LENGTH = 2592;
+
+    private MempoolPayloadStore payloadStore;
+
+    @BeforeEach
+    void setUp() {
+        payloadStore = new MempoolPayloadStore(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        payloadStore.close();
+    }
+
+    @Test
+    void testStore_stripsTransferAndLoadRestoresCopy() {
+        // Given
+        TransferModel transfer = getTransfer(AddressTestFactory.getAddress());
+        byte[] publicKey = transfer.getSenderPublicKeyEncoded();
+        TransactionSignature signature = transfer.getSignature();
+
+        // When
+        boolean stored = payloadStore.store(transfer);
+        TransferModel loaded = payloadStore.load(transfer);
+
+        // Then
+        Assertions.assertTrue(stored);
+        Assertions.assertNull(transfer.getSignature());
+        Assertions.assertNull(transfer.getSenderPublicKeyEncoded());
+
+        Assertions.assertNotSame(transfer, loaded);
+        Assertions.assertEquals(transfer.getHashId(), loaded.getHashId());
+        Assertions.assertEquals(signature, loaded.getSignature());
+        Assertions.assertArrayEquals(publicKey, loaded.getSenderPublicKeyEncoded());
+    }
+
+    @Test
+    void testStore_sameSender_storesPublicKeyOnce() {
+        // Given
+        Address sender = AddressTestFactory.getAddress();
+        TransferModel first = getTransfer(sender);
+        TransferModel second = getTransfer(sender);
+
+        payloadStore.store(first);
+        long afterFirst = payloadStore.getAllocatedBytes();
+
+        // When
+        payloadStore.store(second);
+
+        // Then
+        long signatureBytes = afterFirst - PUBLIC_KEY_LENGTH;
+        Assertions.assertEquals(afterFirst + signatureBytes, payloadStore.getAllocatedBytes());
+    }
+
+    @Test
+    void testRemove_publicKeyFreedWithLastTransferOfSender() {
+        // Given
+        Address sender = AddressTestFactory.getAddress();
+        TransferModel first = getTransfer(sender);
+        TransferModel second = getTransfer(sender);
+        byte[] publicKey = second.getSenderPublicKeyEncoded();
+
+        payloadStore.store(first);
+        payloadStore.store(second);
+
+        // When
+        payloadStore.remove(first);
+
+        // Then
+        Assertions.assertArrayEquals(publicKey, payloadStore.load(second).getSenderPublicKeyEncoded());
+
+        payloadStore.remove(second);
+        Assertions.assertEquals(0, payloadStore.getAllocatedBytes());
+    }
+
+    @Test
+    void testStore_alreadyStored_returnsFalse() {
+        // Given
+        TransferModel transfer = getTransfer(AddressTestFactory.getAddress());
+        payloadStore.store(transfer);
+
+        // When
+        boolean stored = payloadStore.store(transfer);
+
+        // Then
+        Assertions.assertFalse(stored);
+    }
+
+    @Test
+    void testLoad_notStored_returnsTransferItself() {
+        // Given
+        TransferModel transfer = getTransfer(AddressTestFactory.getAddress());
+
+        // When
+        TransferModel loaded = payloadStore.load(transfer);
+
+        // Then
+        Assertions.assertSame(transfer, loaded);
+    }
+
+    private TransferModel getTransfer(Address sender) {
+        TransferModel transfer = TransactionTestFactory.getTransferModel().toBuilder()
+                .senderAddress(sender)
+                .build();
+        transfer.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        transfer.getSenderPublicKeyEncoded()[0] = 1;
+        return transfer;
+    }
+}
@@ -0,0 +1,138 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+public class OrphanPoolServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void testRelease_parentArrives_returnsOrphan() {
+        // Given
+        OrphanPoolService orphanPool = new OrphanPoolService(Long.MAX_VALUE, TTL);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+        TransferModel unrelated = TransactionTestFactory.getTransferModel();
+
+        orphanPool.add(orphan, getInputIds(orphan));
+        orphanPool.add(unrelated, getInputIds(unrelated));
+
+        // When
+        List<TransferModel> released = orphanPool.release(parent);
+
+        // Then
+        Assertions.assertEquals(List.of(orphan), released);
+        Assertions.assertFalse(orphanPool.contains(orphan.getHashId()));
+        Assertions.assertTrue(orphanPool.contains(unrelated.getHashId()));
+        Assertions.assertTrue(orphanPool.release(parent).isEmpty());
+    }
+
+    @Test
+    void testAdd_fullPool_evictsOldestOrphan() {
+        // Given
+        TransferModel oldest = TransactionTestFactory.getTransferModel();
+        TransferModel newer = TransactionTestFactory.getTransferModel();
+        TransferModel newest = TransactionTestFactory.getTransferModel();
+
+        OrphanPoolService orphanPool = new OrphanPoolService(oldest.getEncodedSize() + newer.getEncodedSize(), TTL);
+
+        orphanPool.add(oldest, getInputIds(oldest));
+        orphanPool.add(newer, getInputIds(newer));
+
+        // When
+        boolean isAdded = orphanPool.add(newest, getInputIds(newest));
+
+        // Then
+        Assertions.assertTrue(isAdded);
+        Assertions.assertFalse(orphanPool.contains(oldest.getHashId()));
+        Assertions.assertTrue(orphanPool.contains(newer.getHashId()));
+        Assertions.assertTrue(orphanPool.contains(newest.getHashId()));
+    }
+
+    @Test
+    void testExpire_ttlElapsed_dropsOrphan() {
+        // Given
+        OrphanPoolService orphanPool = new OrphanPoolService(Long.MAX_VALUE, TTL);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+
+        orphanPool.add(orphan, getInputIds(orphan));
+
+        // When
+        orphanPool.expire(System.currentTimeMillis() + TTL.toMillis() + 1);
+
+        // Then
+        Assertions.assertEquals(0, orphanPool.size());
+        Assertions.assertTrue(orphanPool.release(parent).isEmpty());
+    }
+
+    @Test
+    void testRelease_orphanHeldWithNoMissingInputs_releasedWithNextParent() {
+        // Given
+        OrphanPoolService orphanPool = new OrphanPoolService(Long.MAX_VALUE, TTL);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+        TransferModel otherParent = TransactionTestFactory.getTransferModel();
+        TransferModel otherOrphan = getChild(otherParent);
+
+        orphanPool.add(otherOrphan, getInputIds(otherOrphan));
+        orphanPool.add(orphan, getInputIds(orphan));
+        Assertions.assertTrue(orphanPool.release(parent, transfer -> false).isEmpty());
+
+        // When
+        List<TransferModel> released = orphanPool.release(otherParent);
+
+        // Then
+        Assertions.assertEquals(List.of(orphan, otherOrphan), released);
+        Assertions.assertEquals(0, orphanPool.size());
+        Assertions.assertTrue(orphanPool.release(TransactionTestFactory.getTransferModel()).isEmpty());
+    }
+
+    @Test
+    void testExpire_orphanHeldWithNoMissingInputs_keepsOriginalTtl() {
+        // Given
+        OrphanPoolService orphanPool = new OrphanPoolService(Long.MAX_VALUE, TTL);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+        TransferModel newer = getChild(TransactionTestFactory.getTransferModel());
+
+        orphanPool.add(orphan, getInputIds(orphan));
+        long expiresAtMillis = System.currentTimeMillis() + TTL.toMillis();
+        orphanPool.release(parent, transfer -> false);
+        orphanPool.add(newer, getInputIds(newer));
+
+        // When
+        orphanPool.expire(expiresAtMillis);
+
+        // Then
+        Assertions.assertFalse(orphanPool.contains(orphan.getHashId()));
+        Assertions.assertTrue(orphanPool.release(TransactionTestFactory.getTransferModel()).isEmpty());
+    }
+
+    private TransferModel getChild(TransferModel parent) {
+        TransferModel child = TransactionTestFactory.getTransferModel(
+                parent.getRecipientAddress().value(),
+                parent.getSenderAddress().value(),
+                BigDecimal.ONE
+        );
+        child.setInputs(List.of(parent.getOutputs().getFirst()));
+        return child;
+    }
+
+    private List<UtxoId> getInputIds(TransferModel transfer) {
+        return transfer.getInputs().stream().map(UtxoModel::getId).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.test_common.factory.TransactionHashTestFactory;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SeenTransferCacheServiceTest {
+
+    @Test
+    void testIsSeen_markedMessage_returnsTrue() {
+        // Given
+        SeenTransferCacheService seenCache = new SeenTransferCacheService(1000, 0.000001);
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+
+        seenCache.markSeen(hashId, TransactionStatus.BROADCASTED);
+
+        // When
+        boolean isSeen = seenCache.isSeen(hashId, TransactionStatus.BROADCASTED);
+
+        // Then
+        Assertions.assertTrue(isSeen);
+    }
+
+    @Test
+    void testIsSeen_sameHashOtherStatus_returnsFalse() {
+        // Given
+        SeenTransferCacheService seenCache = new SeenTransferCacheService(1000, 0.000001);
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+
+        seenCache.markSeen(hashId, TransactionStatus.BROADCASTED);
+
+        // When
+        boolean isSeen = seenCache.isSeen(hashId, TransactionStatus.CONFIRMED);
+
+        // Then
+        Assertions.assertFalse(isSeen);
+    }
+
+    @Test
+    void testIsSeen_afterTwoRotations_returnsFalse() {
+        // Given
+        SeenTransferCacheService seenCache = new SeenTransferCacheService(1000, 0.000001);
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+
+        seenCache.markSeen(hashId, TransactionStatus.CONFIRMED);
+
+        // When
+        seenCache.rotate();
+        seenCache.rotate();
+
+        // Then
+        Assertions.assertFalse(seenCache.isSeen(hashId, TransactionStatus.CONFIRMED));
+    }
+}
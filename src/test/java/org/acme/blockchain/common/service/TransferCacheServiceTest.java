@@ -0,0 +1,528 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.common.model.Coin;
+import org.acme.blockchain.common.model.MempoolModel;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransactionModel;
+import org.acme.blockchain.transaction.model.TransactionSignature;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public class TransferCacheServiceTest {
+
+    private static final int PUBLIC_KEY_LENGTH = 2592;
+
+    private static final Duration TICK = Duration.ofMillis(100);
+
+    private static final Duration PENDING_TTL = Duration.ofMinutes(2);
+
+    private static final Duration CONFIRMED_TTL = Duration.ofHours(24);
+
+    private static final Duration TERMINAL_TTL = Duration.ofMinutes(1);
+
+    @Test
+    void testGetReadyToMine_returnsHighestFeeRateFirst() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel low = getTransfer("0.001");
+        TransferModel high = getTransfer("0.1");
+        TransferModel medium = getTransfer("0.01");
+
+        cache.readyToMine(low);
+        cache.readyToMine(high);
+        cache.readyToMine(medium);
+
+        // When
+        List<TransactionModel> readyToMine = cache.getReadyToMine();
+
+        // Then
+        Assertions.assertEquals(List.of(high, medium, low), readyToMine);
+    }
+
+    @Test
+    void testReadyToMine_fullMempool_evictsLowestFeeRate() {
+        // Given
+        TransferModel low = getTransfer("0.001");
+        TransferModel medium = getTransfer("0.01");
+        TransferModel high = getTransfer("0.1");
+
+        TransferCacheService cache = getCache(2L * low.getEncodedSize());
+
+        cache.readyToMine(low);
+        cache.readyToMine(medium);
+
+        // When
+        boolean isAdmitted = cache.readyToMine(high);
+
+        // Then
+        Assertions.assertTrue(isAdmitted);
+        Assertions.assertEquals(List.of(high, medium), cache.getReadyToMine());
+        Assertions.assertEquals(TransactionStatus.FAILED, low.getStatus());
+        Assertions.assertEquals(2L * low.getEncodedSize(), cache.getReadyToMineBytes());
+    }
+
+    @Test
+    void testReadyToMine_fullMempool_rejectsLowerFeeRate() {
+        // Given
+        TransferModel medium = getTransfer("0.01");
+        TransferModel high = getTransfer("0.1");
+        TransferModel low = getTransfer("0.001");
+
+        TransferCacheService cache = getCache(2L * medium.getEncodedSize());
+
+        cache.readyToMine(medium);
+        cache.readyToMine(high);
+
+        // When
+        boolean isAdmitted = cache.readyToMine(low);
+
+        // Then
+        Assertions.assertFalse(isAdmitted);
+        Assertions.assertEquals(List.of(high, medium), cache.getReadyToMine());
+        Assertions.assertNotEquals(TransactionStatus.FAILED, medium.getStatus());
+    }
+
+    @Test
+    void testReadyToMine_fullMempool_keepsLowFeeRateParentOfChild() {
+        // Given
+        TransferModel parent = getTransfer("0.001");
+        TransferModel unrelated = getTransfer("0.01");
+        TransferModel child = getChild(parent, "0.1");
+
+        TransferCacheService cache = getCache(parent.getEncodedSize() + unrelated.getEncodedSize() + child.getEncodedSize() - 1L);
+
+        List.of(parent, unrelated, child).forEach(transfer -> cache.addTransfer(transfer.getHashId(), transfer));
+        cache.readyToMine(parent);
+        cache.readyToMine(unrelated);
+
+        // When
+        boolean isAdmitted = cache.readyToMine(child);
+
+        // Then
+        Assertions.assertTrue(isAdmitted);
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, parent.getStatus());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, child.getStatus());
+        Assertions.assertEquals(TransactionStatus.FAILED, unrelated.getStatus());
+        Assertions.assertEquals(List.of(parent, child), cache.getReadyToMine());
+    }
+
+    @Test
+    void testRemoveTransfer_releasesMempoolBytes() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel transfer = getTransfer("0.01");
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.readyToMine(transfer);
+
+        // When
+        cache.removeTransfer(transfer);
+
+        // Then
+        Assertions.assertTrue(cache.getReadyToMine().isEmpty());
+        Assertions.assertEquals(0, cache.getReadyToMineBytes());
+        Assertions.assertFalse(cache.containsTransfer(transfer.getHashId()));
+    }
+
+    @Test
+    void testReadyToMine_inputReservedByAnotherTransfer_returnsFalse() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel reserved = getTransfer("0.01");
+        TransferModel conflicting = getTransfer("0.1");
+        conflicting.setInputs(reserved.getInputs());
+
+        cache.reserveInputs(reserved);
+
+        // When
+        boolean isAdmitted = cache.readyToMine(conflicting);
+
+        // Then
+        Assertions.assertFalse(isAdmitted);
+        Assertions.assertTrue(cache.getReadyToMine().isEmpty());
+    }
+
+    @Test
+    void testConnectBlock_evictsMinedTransfers() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel mined = getTransfer("0.01");
+        TransferModel pending = getTransfer("0.01");
+
+        List.of(mined, pending).forEach(transfer -> {
+            cache.addTransfer(transfer.getHashId(), transfer);
+            cache.readyToMine(transfer);
+        });
+
+        // When
+        cache.connectBlock(List.of(mined));
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.MINED, mined.getStatus());
+        Assertions.assertFalse(cache.containsTransfer(mined.getHashId()));
+        Assertions.assertFalse(cache.containsInput(mined.getInputs().getFirst().getId()));
+        Assertions.assertEquals(List.of(pending), cache.getReadyToMine());
+        Assertions.assertEquals(pending.getEncodedSize(), cache.getReadyToMineBytes());
+    }
+
+    @Test
+    void testConnectBlock_dropsConflictingTransfers() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel conflicting = getTransfer("0.01");
+        TransferModel mined = getTransfer("0.01");
+        mined.setInputs(conflicting.getInputs());
+
+        cache.addTransfer(conflicting.getHashId(), conflicting);
+        cache.readyToMine(conflicting);
+
+        // When
+        cache.connectBlock(List.of(mined));
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.FAILED, conflicting.getStatus());
+        Assertions.assertTrue(cache.getReadyToMine().isEmpty());
+        Assertions.assertFalse(cache.containsInput(conflicting.getInputs().getFirst().getId()));
+    }
+
+    @Test
+    void testReserveInputs_pendingChangeSpendableBySender() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel parent = getTransfer("0.01");
+        UtxoModel change = getChange(parent);
+
+        // When
+        cache.reserveInputs(parent);
+
+        // Then
+        Assertions.assertEquals(List.of(change), cache.getSpendablePendingOutputs(parent.getSenderAddress()));
+        Assertions.assertTrue(change.getAmount().isEqualTo(cache.getPendingBalance(parent.getSenderAddress())));
+    }
+
+    @Test
+    void testReserveInputs_pendingChangeSpentByChild_reducesPendingBalance() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel parent = getTransfer("0.01");
+        TransferModel child = getChild(parent, "0.01");
+
+        cache.reserveInputs(parent);
+
+        // When
+        boolean isReserved = cache.reserveInputs(child);
+
+        // Then
+        Assertions.assertTrue(isReserved);
+        Assertions.assertTrue(cache.getSpendablePendingOutputs(parent.getSenderAddress()).contains(getChange(child)));
+        Assertions.assertFalse(cache.getSpendablePendingOutputs(parent.getSenderAddress()).contains(getChange(parent)));
+        Assertions.assertTrue(getChange(child).getAmount().isEqualTo(cache.getPendingBalance(parent.getSenderAddress())));
+    }
+
+    @Test
+    void testGetReadyToMine_childFollowsParent() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel parent = getTransfer("0.001");
+        TransferModel child = getChild(parent, "0.1");
+
+        List.of(parent, child).forEach(transfer -> cache.addTransfer(transfer.getHashId(), transfer));
+        cache.readyToMine(parent);
+        cache.readyToMine(child);
+
+        // When
+        List<TransactionModel> readyToMine = cache.getReadyToMine();
+
+        // Then
+        Assertions.assertEquals(List.of(parent, child), readyToMine);
+    }
+
+    @Test
+    void testConnectBlock_conflictingParent_failsChild() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel parent = getTransfer("0.01");
+        TransferModel child = getChild(parent, "0.01");
+        TransferModel mined = getTransfer("0.01");
+        mined.setInputs(parent.getInputs());
+
+        List.of(parent, child).forEach(transfer -> {
+            cache.addTransfer(transfer.getHashId(), transfer);
+            cache.readyToMine(transfer);
+        });
+
+        // When
+        cache.connectBlock(List.of(mined));
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.FAILED, parent.getStatus());
+        Assertions.assertEquals(TransactionStatus.FAILED, child.getStatus());
+        Assertions.assertTrue(cache.getReadyToMine().isEmpty());
+        Assertions.assertFalse(cache.containsInput(getChange(parent).getId()));
+        Assertions.assertTrue(cache.getPendingBalance(parent.getSenderAddress()).isZero());
+    }
+
+    @Test
+    void testExpire_pendingTtlElapsed_failsAndEvictsTransfer() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel transfer = getTransfer("0.01");
+        transfer.setStatus(TransactionStatus.BROADCASTED);
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.reserveInputs(transfer);
+        cache.getState(transfer.getHashId()).confirm();
+
+        // When
+        cache.expire(System.currentTimeMillis() + PENDING_TTL.plus(TICK).toMillis());
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.FAILED, transfer.getStatus());
+        Assertions.assertFalse(cache.containsTransfer(transfer.getHashId()));
+        Assertions.assertFalse(cache.containsInput(transfer.getInputs().getFirst().getId()));
+        Assertions.assertEquals(0, cache.getState(transfer.getHashId()).getConfirmations());
+    }
+
+    @Test
+    void testExpire_confirmedTransfer_keptUntilConfirmedTtl() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel transfer = getTransfer("0.01");
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.readyToMine(transfer);
+
+        // When
+        cache.expire(System.currentTimeMillis() + PENDING_TTL.plus(TICK).toMillis());
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, transfer.getStatus());
+        Assertions.assertEquals(List.of(transfer), cache.getReadyToMine());
+    }
+
+    @Test
+    void testExpire_releasedTransfer_evictedAfterTerminalTtl() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel transfer = getTransfer("0.01");
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        transfer.setStatus(TransactionStatus.FAILED);
+        cache.release(transfer);
+
+        // When
+        cache.expire(System.currentTimeMillis() + TERMINAL_TTL.plus(TICK).toMillis());
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.FAILED, transfer.getStatus());
+        Assertions.assertFalse(cache.containsTransfer(transfer.getHashId()));
+    }
+
+    @Test
+    void testGetSummary_tracksMempoolIncrementally() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel mined = getTransfer("0.01");
+        TransferModel pending = getTransfer("0.1");
+        TransferModel validated = getTransfer("0.01");
+        validated.setStatus(TransactionStatus.VALIDATED);
+
+        List.of(mined, pending, validated).forEach(transfer -> cache.addTransfer(transfer.getHashId(), transfer));
+        cache.reserveInputs(validated);
+        cache.readyToMine(mined);
+        cache.readyToMine(pending);
+
+        cache.connectBlock(List.of(mined));
+
+        validated.setStatus(TransactionStatus.BROADCASTED);
+        cache.updateStatus(validated);
+
+        // When
+        MempoolModel summary = cache.getSummary();
+
+        // Then
+        Assertions.assertEquals(1, summary.transferCount());
+        Assertions.assertEquals(pending.getEncodedSize(), summary.totalBytes());
+        Assertions.assertEquals(pending.getInputs().size() + validated.getInputs().size(), summary.reservedInputCount());
+        Assertions.assertEquals(1, summary.feeRateHistogram().stream().mapToLong(MempoolModel.FeeRateBucket::count).sum());
+        Assertions.assertEquals(pending.getEncodedSize(), summary.feeRateHistogram().stream().mapToLong(MempoolModel.FeeRateBucket::bytes).sum());
+        Assertions.assertTrue(summary.agePercentiles().p50() <= summary.agePercentiles().max());
+        Assertions.assertEquals(Map.of(TransactionStatus.CONFIRMED, 1L, TransactionStatus.BROADCASTED, 1L), summary.statusCounts());
+    }
+
+    private TransferModel getChild(TransferModel parent, String fee) {
+        TransferModel child = TransactionTestFactory.getTransferModel(
+                parent.getSenderAddress().value(),
+                parent.getRecipientAddress().value(),
+                BigDecimal.ONE
+        );
+        child.setFee(new Coin(new BigDecimal(fee)));
+        child.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        child.setStatus(TransactionStatus.CONFIRMED);
+        child.setInputs(List.of(getChange(parent)));
+        return child;
+    }
+
+    private UtxoModel getChange(TransferModel transfer) {
+        return transfer.getOutputs().stream()
+                .filter(output -> OutputIndex.SENDER.equals(output.getId().getOutputIndex()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void testGetReadyToMine_offHeapEnabled_restoresPayload() {
+        // Given
+        TransferCacheService cache = new TransferCacheService(new TransferStatusEventService(), Long.MAX_VALUE, TICK, PENDING_TTL, CONFIRMED_TTL, TERMINAL_TTL, true);
+
+        TransferModel transfer = getTransfer("0.01");
+        byte[] publicKey = transfer.getSenderPublicKeyEncoded();
+        TransactionSignature signature = transfer.getSignature();
+        int encodedSize = transfer.getEncodedSize();
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.readyToMine(transfer);
+
+        // When
+        List<TransactionModel> readyToMine = cache.getReadyToMine();
+
+        // Then
+        Assertions.assertNull(transfer.getSignature());
+        Assertions.assertNull(transfer.getSenderPublicKeyEncoded());
+        Assertions.assertTrue(cache.getOffHeapBytes() > 0);
+
+        Assertions.assertEquals(1, readyToMine.size());
+        Assertions.assertEquals(transfer.getHashId(), readyToMine.getFirst().getHashId());
+        Assertions.assertEquals(signature, readyToMine.getFirst().getSignature());
+        Assertions.assertArrayEquals(publicKey, readyToMine.getFirst().getSenderPublicKeyEncoded());
+        Assertions.assertEquals(encodedSize, cache.getReadyToMineBytes());
+    }
+
+    @Test
+    void testGet_offHeapEnabled_returnsCompleteCopy() {
+        // Given
+        TransferCacheService cache = new TransferCacheService(new TransferStatusEventService(), Long.MAX_VALUE, TICK, PENDING_TTL, CONFIRMED_TTL, TERMINAL_TTL, true);
+
+        TransferModel transfer = getTransfer("0.01");
+        byte[] publicKey = transfer.getSenderPublicKeyEncoded();
+        TransactionSignature signature = transfer.getSignature();
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.readyToMine(transfer);
+
+        // When
+        TransferModel cached = cache.get(transfer.getHashId());
+
+        // Then
+        Assertions.assertNotSame(transfer, cached);
+        Assertions.assertEquals(signature, cached.getSignature());
+        Assertions.assertArrayEquals(publicKey, cached.getSenderPublicKeyEncoded());
+
+        Assertions.assertNull(transfer.getSignature());
+        Assertions.assertEquals(signature, cache.getReadyToMine().getFirst().getSignature());
+    }
+
+    @Test
+    void testFindStatus_tracksLatestTransition() {
+        // Given
+        TransferCacheService cache = getCache(Long.MAX_VALUE);
+
+        TransferModel transfer = getTransfer("0.01");
+        transfer.setStatus(TransactionStatus.VALIDATED);
+        cache.addTransfer(transfer.getHashId(), transfer);
+
+        TransferStatusModel validated = cache.findStatus(transfer.getHashId());
+
+        // When
+        transfer.setStatus(TransactionStatus.CONFIRMED);
+        cache.updateStatus(transfer);
+
+        // Then
+        TransferStatusModel confirmed = cache.findStatus(transfer.getHashId());
+
+        Assertions.assertEquals(TransactionStatus.VALIDATED, validated.status());
+        Assertions.assertEquals(transfer.getHashId(), confirmed.hashId());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, confirmed.status());
+        Assertions.assertFalse(confirmed.updatedAt().isBefore(validated.updatedAt()));
+
+        cache.updateStatus(transfer);
+
+        Assertions.assertSame(confirmed, cache.findStatus(transfer.getHashId()));
+        Assertions.assertNull(cache.findStatus(getTransfer("0.01").getHashId()));
+    }
+
+    @Test
+    void testReadyToMine_offHeapEnabled_peerCopy_storesCachedInstance() {
+        // Given
+        TransferCacheService cache = new TransferCacheService(new TransferStatusEventService(), Long.MAX_VALUE, TICK, PENDING_TTL, CONFIRMED_TTL, TERMINAL_TTL, true);
+
+        TransferModel cached = getTransfer("0.01");
+        TransactionSignature signature = cached.getSignature();
+        cache.addTransfer(cached.getHashId(), cached);
+
+        TransferModel peerCopy = cached.toBuilder().build();
+
+        // When
+        cache.readyToMine(peerCopy);
+
+        // Then
+        Assertions.assertNull(cached.getSignature());
+        Assertions.assertNull(cached.getSenderPublicKeyEncoded());
+        Assertions.assertEquals(signature, peerCopy.getSignature());
+        Assertions.assertTrue(cache.getOffHeapBytes() > 0);
+        Assertions.assertEquals(signature, cache.getReadyToMine().getFirst().getSignature());
+    }
+
+    @Test
+    void testConnectBlock_offHeapEnabled_freesPayload() {
+        // Given
+        TransferCacheService cache = new TransferCacheService(new TransferStatusEventService(), Long.MAX_VALUE, TICK, PENDING_TTL, CONFIRMED_TTL, TERMINAL_TTL, true);
+
+        TransferModel transfer = getTransfer("0.01");
+
+        cache.addTransfer(transfer.getHashId(), transfer);
+        cache.readyToMine(transfer);
+
+        // When
+        cache.connectBlock(cache.getReadyToMine());
+
+        // Then
+        Assertions.assertEquals(0, cache.getOffHeapBytes());
+        Assertions.assertTrue(cache.getReadyToMine().isEmpty());
+    }
+
+    private TransferCacheService getCache(long maxBytes) {
+        return new TransferCacheService(new TransferStatusEventService(), maxBytes, TICK, PENDING_TTL, CONFIRMED_TTL, TERMINAL_TTL, false);
+    }
+
+    private TransferModel getTransfer(String fee) {
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setFee(new Coin(new BigDecimal(fee)));
+        transfer.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        transfer.setStatus(TransactionStatus.CONFIRMED);
+        return transfer;
+    }
+}
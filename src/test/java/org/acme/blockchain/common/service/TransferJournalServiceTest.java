@@ -0,0 +1,340 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.common.utility.TimestampUtility;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.mapper.TransferCodec;
+import org.acme.blockchain.transaction.model.TransactionModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferJournalServiceTest {
+
+    private static final int HEADER_LENGTH = 8;
+
+    private static final int FRAME_LENGTH = 8;
+
+    private static final int PUBLIC_KEY_LENGTH = 64;
+
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    private static final Duration TICK = Duration.ofMillis(100);
+
+    private static final Duration PENDING_TTL = Duration.ofMinutes(2);
+
+    private static final Duration CONFIRMED_TTL = Duration.ofHours(24);
+
+    @Mock
+    UtxoRepository utxoRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<TransferJournalService> journals = new ArrayList<>();
+
+    private Path path;
+
+    private TransferStatusEventService statusEvents;
+
+    private TransferCacheService cache;
+
+    private VerifiedSignatureCacheService verifiedSignatureCache;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("mempool.journal");
+        statusEvents = new TransferStatusEventService();
+        cache = getCache(statusEvents);
+        verifiedSignatureCache = new VerifiedSignatureCacheService(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journals.forEach(TransferJournalService::close);
+    }
+
+    @Test
+    void testOnStart_acceptedTransfer_restoredToCache() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel transfer = getTransfer();
+        journal.recordAccepted(transfer);
+
+        // When
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        // Then
+        Assertions.assertTrue(restartedCache.containsTransfer(transfer.getHashId()));
+        Assertions.assertEquals(TransactionStatus.VALIDATED, restartedCache.get(transfer.getHashId()).getStatus());
+        Assertions.assertTrue(verifiedSignatureCache.isVerified(transfer.getHashId(), transfer.getSenderPublicKeyEncoded(), transfer.getSignature()));
+    }
+
+    @Test
+    void testOnStart_statusRecords_replayLatestStatus() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel confirmed = getTransfer();
+        TransferModel rejected = getTransfer();
+        journal.recordAccepted(confirmed);
+        journal.recordAccepted(rejected);
+
+        publish(confirmed, TransactionStatus.CONFIRMED);
+        publish(rejected, TransactionStatus.REJECTED);
+
+        // When
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        // Then
+        List<TransactionModel> readyToMine = restartedCache.getReadyToMine();
+
+        Assertions.assertEquals(1, readyToMine.size());
+        Assertions.assertEquals(confirmed.getHashId(), readyToMine.getFirst().getHashId());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, readyToMine.getFirst().getStatus());
+        Assertions.assertFalse(restartedCache.containsTransfer(rejected.getHashId()));
+    }
+
+    @Test
+    void testOnStart_tornRecord_stopsReplay() throws IOException {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel first = getTransfer();
+        TransferModel second = getTransfer();
+        TransferModel third = getTransfer();
+        journal.recordAccepted(first);
+        journal.recordAccepted(second);
+        journal.recordAccepted(third);
+        journal.close();
+
+        long secondBodyOffset = HEADER_LENGTH + getRecordLength(first) + FRAME_LENGTH;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer corrupted = ByteBuffer.allocate(1);
+            channel.read(corrupted, secondBodyOffset + 1);
+            corrupted.put(0, (byte) ~corrupted.get(0));
+            channel.write(corrupted.flip(), secondBodyOffset + 1);
+        }
+
+        // When
+        TransferStatusEventService restartedStatusEvents = new TransferStatusEventService();
+        TransferCacheService restartedCache = getCache(restartedStatusEvents);
+        start(restartedCache, restartedStatusEvents, MAX_BYTES);
+
+        // Then
+        Assertions.assertTrue(restartedCache.containsTransfer(first.getHashId()));
+        Assertions.assertFalse(restartedCache.containsTransfer(second.getHashId()));
+        Assertions.assertFalse(restartedCache.containsTransfer(third.getHashId()));
+    }
+
+    @Test
+    void testOnStart_inputSpentOnChain_skipsTransfer() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel spent = getTransfer();
+        TransferModel unspent = getTransfer();
+        journal.recordAccepted(spent);
+        journal.recordAccepted(unspent);
+
+        Mockito.when(utxoRepository.findIsSpentByIds(ArgumentMatchers.anyCollection()))
+                .thenReturn(Map.of(spent.getInputs().getFirst().getId(), true, unspent.getInputs().getFirst().getId(), false));
+
+        // When
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        // Then
+        Assertions.assertFalse(restartedCache.containsTransfer(spent.getHashId()));
+        Assertions.assertTrue(restartedCache.containsTransfer(unspent.getHashId()));
+        Mockito.verify(utxoRepository, Mockito.times(2)).findIsSpentByIds(ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    void testCompact_atomicallyReplacesJournalWithPendingTransfers() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel pending = getTransfer();
+        TransferModel uncached = getTransfer();
+        cache.addTransfer(pending.getHashId(), pending);
+        journal.recordAccepted(pending);
+        journal.recordAccepted(uncached);
+
+        // When
+        journal.compact();
+
+        // Then
+        Assertions.assertTrue(Files.exists(path));
+        Assertions.assertFalse(Files.exists(path.resolveSibling(path.getFileName() + ".compact")));
+
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        Assertions.assertTrue(restartedCache.containsTransfer(pending.getHashId()));
+        Assertions.assertFalse(restartedCache.containsTransfer(uncached.getHashId()));
+    }
+
+    @Test
+    void testRecordAccepted_journalFull_compactsBeforeAppending() {
+        // Given
+        TransferModel pending = getTransfer();
+        TransferModel failed = getTransfer();
+        TransferModel next = getTransfer();
+
+        long recordLength = getRecordLength(pending);
+        long maxBytes = HEADER_LENGTH + 2 * recordLength + recordLength / 2;
+
+        TransferJournalService journal = start(cache, maxBytes);
+
+        cache.addTransfer(pending.getHashId(), pending);
+        journal.recordAccepted(pending);
+        journal.recordAccepted(failed);
+
+        publish(failed, TransactionStatus.FAILED);
+
+        // When
+        journal.recordAccepted(next);
+
+        // Then
+        TransferCacheService restartedCache = restart(journal, maxBytes);
+
+        Assertions.assertTrue(restartedCache.containsTransfer(pending.getHashId()));
+        Assertions.assertFalse(restartedCache.containsTransfer(failed.getHashId()));
+        Assertions.assertTrue(restartedCache.containsTransfer(next.getHashId()));
+    }
+
+    @Test
+    void testOnStart_expiredInCache_notRestored() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel expired = getTransfer();
+        TransferModel pending = getTransfer();
+        cache.addTransfer(expired.getHashId(), expired);
+        journal.recordAccepted(expired);
+        journal.recordAccepted(pending);
+
+        cache.expire(System.currentTimeMillis() + PENDING_TTL.plus(TICK).toMillis());
+
+        // When
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        // Then
+        Assertions.assertEquals(TransactionStatus.FAILED, expired.getStatus());
+        Assertions.assertFalse(restartedCache.containsTransfer(expired.getHashId()));
+        Assertions.assertTrue(restartedCache.containsTransfer(pending.getHashId()));
+    }
+
+    @Test
+    void testOnStart_olderThanPendingTtl_notRestored() {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel stale = getTransfer();
+        stale.setCreatedAt(TimestampUtility.getOffsetDateTimeNow().minus(PENDING_TTL).minusSeconds(1));
+        TransferModel fresh = getTransfer();
+        journal.recordAccepted(stale);
+        journal.recordAccepted(fresh);
+
+        // When
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        // Then
+        Assertions.assertFalse(restartedCache.containsTransfer(stale.getHashId()));
+        Assertions.assertTrue(restartedCache.containsTransfer(fresh.getHashId()));
+    }
+
+    @Test
+    void testCompact_failure_keepsJournaling() throws IOException {
+        // Given
+        TransferJournalService journal = start(cache, MAX_BYTES);
+
+        TransferModel before = getTransfer();
+        TransferModel after = getTransfer();
+        cache.addTransfer(before.getHashId(), before);
+        journal.recordAccepted(before);
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        Files.createDirectories(compacted.resolve("blocking"));
+
+        // When
+        journal.compact();
+        journal.recordAccepted(after);
+
+        // Then
+        TransferCacheService restartedCache = restart(journal, MAX_BYTES);
+
+        Assertions.assertTrue(restartedCache.containsTransfer(before.getHashId()));
+        Assertions.assertTrue(restartedCache.containsTransfer(after.getHashId()));
+    }
+
+    private TransferJournalService start(TransferCacheService transferCache, long maxBytes) {
+        return start(transferCache, statusEvents, maxBytes);
+    }
+
+    private TransferJournalService start(TransferCacheService transferCache, TransferStatusEventService transferStatusEvents, long maxBytes) {
+        TransferJournalService journal = new TransferJournalService(transferCache, transferStatusEvents,
+                verifiedSignatureCache, utxoRepository, true, path.toString(), maxBytes, PENDING_TTL, CONFIRMED_TTL);
+        journals.add(journal);
+
+        journal.onStart(null);
+        return journal;
+    }
+
+    private TransferCacheService restart(TransferJournalService journal, long maxBytes) {
+        journal.close();
+
+        TransferStatusEventService restartedStatusEvents = new TransferStatusEventService();
+        TransferCacheService restartedCache = getCache(restartedStatusEvents);
+        start(restartedCache, restartedStatusEvents, maxBytes);
+        return restartedCache;
+    }
+
+    private TransferCacheService getCache(TransferStatusEventService transferStatusEvents) {
+        return new TransferCacheService(transferStatusEvents, Long.MAX_VALUE, TICK, PENDING_TTL, CONFIRMED_TTL,
+                Duration.ofMinutes(1), false);
+    }
+
+    private void publish(TransferModel transfer, TransactionStatus status) {
+        transfer.setStatus(status);
+        statusEvents.publish(TransferStatusModel.builder()
+                .hashId(transfer.getHashId())
+                .status(status)
+                .updatedAt(TimestampUtility.getOffsetDateTimeNow())
+                .build());
+    }
+
+    private long getRecordLength(TransferModel transfer) {
+        return FRAME_LENGTH + 1 + TransferCodec.encode(transfer).length;
+    }
+
+    private TransferModel getTransfer() {
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setSenderPublicKeyEncoded(new byte[PUBLIC_KEY_LENGTH]);
+        transfer.setStatus(TransactionStatus.VALIDATED);
+        transfer.setCreatedAt(TimestampUtility.getOffsetDateTimeNow());
+        return transfer;
+    }
+}
@@ -0,0 +1,72 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.test_common.factory.TransactionHashTestFactory;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TransferStatusEventServiceTest {
+
+    private final TransferStatusEventService statusEvents = new TransferStatusEventService();
+
+    @Test
+    void testStream_subscriberBehind_receivesEveryTransitionOfTransfer() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransferStatusModel validated = getStatus(hashId, TransactionStatus.VALIDATED);
+        TransferStatusModel broadcasted = getStatus(hashId, TransactionStatus.BROADCASTED);
+        TransferStatusModel mined = getStatus(hashId, TransactionStatus.MINED);
+
+        List<TransferStatusModel> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        statusEvents.stream(hashId).subscribe().withSubscriber(new Flow.Subscriber<TransferStatusModel>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(TransferStatusModel item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Assertions.fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // When
+        statusEvents.publish(validated);
+        statusEvents.publish(getStatus(TransactionHashTestFactory.getTransactionHash(), TransactionStatus.VALIDATED));
+        statusEvents.publish(broadcasted);
+        statusEvents.publish(mined);
+
+        subscription.get().request(Long.MAX_VALUE);
+
+        // Then
+        Assertions.assertEquals(List.of(validated, broadcasted, mined), received);
+    }
+
+    private TransferStatusModel getStatus(TransactionHash hashId, TransactionStatus status) {
+        return TransferStatusModel.builder()
+                .hashId(hashId)
+                .status(status)
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package org.acme.blockchain.common.service;
+
+import org.acme.blockchain.test_common.factory.TransactionHashTestFactory;
+import org.acme.blockchain.test_common.factory.TransactionSignatureTestFactory;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransactionSignature;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VerifiedSignatureCacheServiceTest {
+
+    private VerifiedSignatureCacheService verifiedSignatureCache;
+
+    @BeforeEach
+    void setup() {
+        verifiedSignatureCache = new VerifiedSignatureCacheService(100);
+    }
+
+    @Test
+    void testIsVerified_markedVerified_returnsTrue() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        byte[] publicKeyEncoded = Instancio.of(byte[].class).create();
+        TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
+
+        verifiedSignatureCache.markVerified(hashId, publicKeyEncoded, signature);
+
+        // When
+        boolean isVerified = verifiedSignatureCache.isVerified(hashId, publicKeyEncoded.clone(), signature);
+
+        // Then
+        Assertions.assertTrue(isVerified, "An identical hash, public key and signature should be treated as verified.");
+    }
+
+    @Test
+    void testIsVerified_notMarkedVerified_returnsFalse() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        byte[] publicKeyEncoded = Instancio.of(byte[].class).create();
+        TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
+
+        // When
+        boolean isVerified = verifiedSignatureCache.isVerified(hashId, publicKeyEncoded, signature);
+
+        // Then
+        Assertions.assertFalse(isVerified, "A signature which has never been verified should not be treated as verified.");
+    }
+
+    @Test
+    void testIsVerified_differentSignature_returnsFalse() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        byte[] publicKeyEncoded = Instancio.of(byte[].class).create();
+
+        verifiedSignatureCache.markVerified(hashId, publicKeyEncoded, TransactionSignatureTestFactory.getTransactionSignature());
+
+        // When
+        boolean isVerified = verifiedSignatureCache.isVerified(hashId, publicKeyEncoded, TransactionSignatureTestFactory.getTransactionSignature());
+
+        // Then
+        Assertions.assertFalse(isVerified, "A copy carrying a different signature should not be treated as verified.");
+    }
+
+    @Test
+    void testIsVerified_differentPublicKey_returnsFalse() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
+
+        verifiedSignatureCache.markVerified(hashId, new byte[]{1, 2, 3}, signature);
+
+        // When
+        boolean isVerified = verifiedSignatureCache.isVerified(hashId, new byte[]{3, 2, 1}, signature);
+
+        // Then
+        Assertions.assertFalse(isVerified, "A copy carrying a different public key should not be treated as verified.");
+    }
+}
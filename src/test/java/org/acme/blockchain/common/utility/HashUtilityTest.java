@@ -0,0 +1,83 @@
+package org.acme.blockchain.common.utility;
+
+import org.bouncycastle.jcajce.provider.digest.Blake2b;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HashUtilityTest {
+
+    @Test
+    void testCalculateSHA256_repeated_matchesFreshDigest() throws Exception {
+        // Given
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] firstHash = HashUtility.calculateSHA256(first);
+        byte[] secondHash = HashUtility.calculateSHA256(second);
+
+        // Then
+        Assertions.assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(first), firstHash);
+        Assertions.assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(second), secondHash);
+    }
+
+    @Test
+    void testCalculateBLAKE2b256_repeated_matchesFreshDigest() {
+        // Given
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] firstHash = HashUtility.calculateBLAKE2b256(first);
+        byte[] secondHash = HashUtility.calculateBLAKE2b256(second);
+
+        // Then
+        Assertions.assertArrayEquals(new Blake2b.Blake2b256().digest(first), firstHash);
+        Assertions.assertArrayEquals(new Blake2b.Blake2b256().digest(second), secondHash);
+    }
+
+    @Test
+    void testCalculateSHA256d_concurrent_matchesFreshDigest() throws Exception {
+        // Given
+        int threads = 16;
+        int iterations = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+
+                results.add(executor.submit(() -> {
+                    start.await();
+                    MessageDigest expectedDigest = MessageDigest.getInstance("SHA-256");
+                    boolean isMatch = true;
+
+                    for (int i = 0; i < iterations; i++) {
+                        String input = thread + ":" + i;
+                        byte[] expected = expectedDigest.digest(expectedDigest.digest(input.getBytes(StandardCharsets.UTF_8)));
+                        isMatch &= HashUtility.bytesToHex(expected).equals(HashUtility.calculateSHA256d(input));
+                    }
+                    return isMatch;
+                }));
+            }
+
+            start.countDown();
+
+            // Then
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(), "Pooled digests must not be shared between concurrent callers.");
+            }
+        }
+    }
+}
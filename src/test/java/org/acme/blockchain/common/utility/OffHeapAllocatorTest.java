@@ -0,0 +1,138 @@
+package org.acme.blockchain.common.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OffHeapAllocatorTest {
+
+    private static final long CHUNK_BYTES = 1024;
+
+    @Test
+    void testAllocate_reservesChunksLazily() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(4 * CHUNK_BYTES, CHUNK_BYTES)) {
+            Assertions.assertEquals(0, allocator.getReservedBytes());
+
+            // When
+            long offset = allocator.allocate(100);
+
+            // Then
+            Assertions.assertEquals(0, offset);
+            Assertions.assertEquals(CHUNK_BYTES, allocator.getReservedBytes());
+            Assertions.assertEquals(104, allocator.getAllocatedBytes());
+        }
+    }
+
+    @Test
+    void testWrite_readReturnsWrittenBytes() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(4 * CHUNK_BYTES, CHUNK_BYTES)) {
+            byte[] first = {1, 2, 3};
+            byte[] second = {4, 5, 6, 7, 8, 9, 10, 11, 12};
+
+            long firstOffset = allocator.allocate(first.length);
+            long secondOffset = allocator.allocate(second.length);
+
+            // When
+            allocator.write(firstOffset, first);
+            allocator.write(secondOffset, second);
+
+            // Then
+            Assertions.assertNotEquals(firstOffset, secondOffset);
+            Assertions.assertArrayEquals(first, allocator.read(firstOffset, first.length));
+            Assertions.assertArrayEquals(second, allocator.read(secondOffset, second.length));
+        }
+    }
+
+    @Test
+    void testAllocate_blockLargerThanChunk_returnsNegative() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(4 * CHUNK_BYTES, CHUNK_BYTES)) {
+
+            // When
+            long offset = allocator.allocate((int) CHUNK_BYTES + 1);
+
+            // Then
+            Assertions.assertEquals(-1, offset);
+            Assertions.assertEquals(0, allocator.getReservedBytes());
+        }
+    }
+
+    @Test
+    void testAllocate_capacityReached_returnsNegative() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(2 * CHUNK_BYTES, CHUNK_BYTES)) {
+            allocator.allocate((int) CHUNK_BYTES);
+            allocator.allocate((int) CHUNK_BYTES);
+
+            // When
+            long offset = allocator.allocate(8);
+
+            // Then
+            Assertions.assertEquals(-1, offset);
+            Assertions.assertEquals(2 * CHUNK_BYTES, allocator.getReservedBytes());
+        }
+    }
+
+    @Test
+    void testFree_adjacentBlocks_coalesceIntoOneBlock() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(CHUNK_BYTES, CHUNK_BYTES)) {
+            long first = allocator.allocate(256);
+            long second = allocator.allocate(256);
+            long third = allocator.allocate(256);
+            long fourth = allocator.allocate(256);
+
+            // When
+            allocator.free(first, 256);
+            allocator.free(third, 256);
+            allocator.free(second, 256);
+
+            // Then
+            Assertions.assertEquals(256, allocator.getAllocatedBytes());
+            Assertions.assertEquals(first, allocator.allocate(768));
+            Assertions.assertEquals(-1, allocator.allocate(8));
+
+            allocator.free(fourth, 256);
+            Assertions.assertEquals(768, allocator.getAllocatedBytes());
+        }
+    }
+
+    @Test
+    void testFree_blocksInDifferentChunks_doNotCoalesce() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(2 * CHUNK_BYTES, CHUNK_BYTES)) {
+            long first = allocator.allocate((int) CHUNK_BYTES);
+            long second = allocator.allocate((int) CHUNK_BYTES);
+
+            // When
+            allocator.free(first, (int) CHUNK_BYTES);
+            allocator.free(second, (int) CHUNK_BYTES);
+
+            // Then
+            Assertions.assertEquals(0, allocator.getAllocatedBytes());
+            Assertions.assertEquals(0, allocator.allocate((int) CHUNK_BYTES - 8));
+            Assertions.assertEquals(CHUNK_BYTES, allocator.allocate(16));
+        }
+    }
+
+    @Test
+    void testAllocate_bestFit_reusesSmallestFreeBlock() {
+        // Given
+        try (OffHeapAllocator allocator = new OffHeapAllocator(CHUNK_BYTES, CHUNK_BYTES)) {
+            long large = allocator.allocate(512);
+            allocator.allocate(8);
+            long small = allocator.allocate(64);
+            allocator.allocate(8);
+
+            allocator.free(large, 512);
+            allocator.free(small, 64);
+
+            // When
+            long offset = allocator.allocate(64);
+
+            // Then
+            Assertions.assertEquals(small, offset);
+        }
+    }
+}
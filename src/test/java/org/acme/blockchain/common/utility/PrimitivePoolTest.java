@@ -0,0 +1,132 @@
+package org.acme.blockchain.common.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PrimitivePoolTest {
+
+    @Test
+    void testBorrow_afterRelease_reusesInstance() {
+        // Given
+        AtomicInteger created = new AtomicInteger();
+        PrimitivePool<Object> pool = new PrimitivePool<>(() -> newInstance(created), 4);
+
+        Object first = pool.borrow();
+        pool.release(first);
+
+        // When
+        Object second = pool.borrow();
+
+        // Then
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testBorrow_emptyPool_createsInstance() {
+        // Given
+        AtomicInteger created = new AtomicInteger();
+        PrimitivePool<Object> pool = new PrimitivePool<>(() -> newInstance(created), 4);
+
+        // When
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+
+        // Then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(2, created.get());
+    }
+
+    @Test
+    void testRelease_beyondMaxIdle_discardsInstance() {
+        // Given
+        AtomicInteger created = new AtomicInteger();
+        PrimitivePool<Object> pool = new PrimitivePool<>(() -> newInstance(created), 2);
+
+        List<Object> borrowed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            borrowed.add(pool.borrow());
+        }
+
+        // When
+        borrowed.forEach(pool::release);
+
+        // Then
+        Assertions.assertEquals(2, pool.getIdleCount());
+
+        pool.borrow();
+        pool.borrow();
+        pool.borrow();
+
+        Assertions.assertEquals(6, created.get());
+        Assertions.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    void testBorrowAndRelease_concurrent_neverSharesInstance() throws Exception {
+        // Given
+        int threads = 16;
+        int iterations = 10_000;
+        int maxIdle = 4;
+
+        AtomicInteger created = new AtomicInteger();
+        PrimitivePool<Object> pool = new PrimitivePool<>(() -> newInstance(created), maxIdle);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int shared = 0;
+
+                    for (int i = 0; i < iterations; i++) {
+                        Object instance = pool.borrow();
+                        if (!inUse.add(instance)) {
+                            shared++;
+                        }
+                        inUse.remove(instance);
+                        pool.release(instance);
+                    }
+                    return shared;
+                }));
+            }
+
+            start.countDown();
+
+            // Then
+            for (Future<Integer> result : results) {
+                Assertions.assertEquals(0, result.get());
+            }
+        }
+
+        int idle = pool.getIdleCount();
+        int createdBefore = created.get();
+
+        Assertions.assertTrue(idle <= maxIdle);
+
+        for (int i = 0; i < idle; i++) {
+            pool.borrow();
+        }
+        Assertions.assertEquals(createdBefore, created.get());
+    }
+
+    private static Object newInstance(AtomicInteger created) {
+        created.incrementAndGet();
+        return new Object();
+    }
+}
@@ -0,0 +1,90 @@
+package org.acme.blockchain.common.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class RollingBloomFilterTest {
+
+    private static final int CAPACITY = 1_000;
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    @Test
+    void testMightContain_addedKeys_returnsTrue() {
+        // Given
+        RollingBloomFilter filter = new RollingBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        List<byte[]> keys = getKeys(new Random(1), CAPACITY);
+
+        // When
+        keys.forEach(filter::add);
+
+        // Then
+        keys.forEach(key -> Assertions.assertTrue(filter.mightContain(key)));
+    }
+
+    @Test
+    void testMightContain_unknownKeys_withinFalsePositiveRate() {
+        // Given
+        Random random = new Random(2);
+        RollingBloomFilter filter = new RollingBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        getKeys(random, CAPACITY).forEach(filter::add);
+
+        // When
+        long falsePositives = getKeys(random, 100_000).stream().filter(filter::mightContain).count();
+
+        // Then
+        Assertions.assertTrue(falsePositives <= 2 * FALSE_POSITIVE_RATE * 100_000, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void testAdd_capacityExceededTwice_forgetsOldestKeys() {
+        // Given
+        Random random = new Random(3);
+        RollingBloomFilter filter = new RollingBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        List<byte[]> oldest = getKeys(random, CAPACITY);
+        List<byte[]> previous = getKeys(random, CAPACITY);
+        List<byte[]> newest = getKeys(random, 1);
+
+        // When
+        oldest.forEach(filter::add);
+        previous.forEach(filter::add);
+        newest.forEach(filter::add);
+
+        // Then
+        long remembered = oldest.stream().filter(filter::mightContain).count();
+        Assertions.assertTrue(remembered < CAPACITY / 10, "Remembered: " + remembered);
+        previous.forEach(key -> Assertions.assertTrue(filter.mightContain(key)));
+        Assertions.assertTrue(filter.mightContain(newest.getFirst()));
+    }
+
+    @Test
+    void testRotate_twice_forgetsAllKeys() {
+        // Given
+        RollingBloomFilter filter = new RollingBloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        byte[] key = getKeys(new Random(4), 1).getFirst();
+        filter.add(key);
+
+        // When
+        filter.rotate();
+        boolean isRememberedAfterOneRotation = filter.mightContain(key);
+        filter.rotate();
+
+        // Then
+        Assertions.assertTrue(isRememberedAfterOneRotation);
+        Assertions.assertFalse(filter.mightContain(key));
+    }
+
+    private List<byte[]> getKeys(Random random, int count) {
+        List<byte[]> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[32];
+            random.nextBytes(key);
+            keys.add(key);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,116 @@
+package org.acme.blockchain.common.utility;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    private static final long TICK_MILLIS = 100;
+
+    private static final long START_MILLIS = 1_000_000;
+
+    @Test
+    void testAdvance_deadlineNotReached_expiresNothing() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("a", 1_000);
+
+        // When
+        List<String> expired = wheel.advance(START_MILLIS + 900);
+
+        // Then
+        Assertions.assertTrue(expired.isEmpty());
+        Assertions.assertTrue(wheel.contains("a"));
+    }
+
+    @Test
+    void testAdvance_deadlineReached_expiresKey() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("a", 1_000);
+
+        // When
+        List<String> expired = wheel.advance(START_MILLIS + 1_000);
+
+        // Then
+        Assertions.assertEquals(List.of("a"), expired);
+        Assertions.assertFalse(wheel.contains("a"));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_delaysAcrossLevels_expireInDeadlineOrder() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("day", 24 * 60 * 60 * 1_000);
+        wheel.schedule("hour", 60 * 60 * 1_000);
+        wheel.schedule("minute", 60 * 1_000);
+        wheel.schedule("second", 1_000);
+
+        // When
+        List<String> expired = new ArrayList<>();
+        for (long now = START_MILLIS; now <= START_MILLIS + 24 * 60 * 60 * 1_000; now += 60 * 1_000) {
+            expired.addAll(wheel.advance(now));
+        }
+
+        // Then
+        Assertions.assertEquals(List.of("second", "minute", "hour", "day"), expired);
+    }
+
+    @Test
+    void testAdvance_cascadedKey_neverExpiresEarly() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("a", 7_777);
+
+        // When
+        List<String> early = wheel.advance(START_MILLIS + 7_700);
+        List<String> due = wheel.advance(START_MILLIS + 7_800);
+
+        // Then
+        Assertions.assertTrue(early.isEmpty());
+        Assertions.assertEquals(List.of("a"), due);
+    }
+
+    @Test
+    void testCancel_scheduledKey_neverExpires() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("a", 1_000);
+        wheel.schedule("b", 1_000);
+
+        // When
+        boolean isCancelled = wheel.cancel("a");
+
+        // Then
+        Assertions.assertTrue(isCancelled);
+        Assertions.assertEquals(List.of("b"), wheel.advance(START_MILLIS + 1_000));
+        Assertions.assertFalse(wheel.cancel("a"));
+    }
+
+    @Test
+    void testSchedule_existingKey_replacesDeadline() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.schedule("a", 1_000);
+
+        // When
+        wheel.schedule("a", 5_000);
+
+        // Then
+        Assertions.assertTrue(wheel.advance(START_MILLIS + 1_000).isEmpty());
+        Assertions.assertEquals(List.of("a"), wheel.advance(START_MILLIS + 5_000));
+    }
+
+    @Test
+    void testSchedule_delayBeyondSpan_throwsIllegalArgumentException() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+
+        // Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> wheel.schedule("a", Long.MAX_VALUE / 2));
+    }
+}
@@ -13,6 +13,7 @@ import org.acme.blockchain.transaction.model.TransferModel;
 import org.acme.blockchain.transaction.model.UtxoModel;
 import org.acme.blockchain.transaction.model.enumeration.OutputIndex;
 import org.acme.blockchain.transaction.model.enumeration.TransactionType;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.instancio.Instancio;
 
 import java.math.BigDecimal;
@@ -38,6 +39,7 @@ public final class TransactionTestFactory {
                 .ignore(field(TransferModel::getOutputs))
                 .ignore(field(TransferModel::getCreatedAt))
                 .ignore(field(TransferModel::getSignature))
+                .ignore(field(TransferModel::getSignatureAlgorithm))
                 .ignore(field(TransferModel::getStatus))
                 .create();
     }
@@ -89,6 +91,7 @@ public final class TransactionTestFactory {
                 .set(field(TransferModel::getOutputs), outputs)
                 .set(field(TransferModel::getCreatedAt), createdAt)
                 .supply(field(TransferModel::getSignature), TransactionSignatureTestFactory::getTransactionSignature)
+                .set(field(TransferModel::getSignatureAlgorithm), SignatureAlgorithm.ML_DSA_87)
                 .create();
     }
 
@@ -139,6 +142,7 @@ public final class TransactionTestFactory {
                 .set(field(TransferModel::getOutputs), outputs)
                 .set(field(TransferModel::getCreatedAt), createdAt)
                 .supply(field(TransferModel::getSignature), TransactionSignatureTestFactory::getTransactionSignature)
+                .set(field(TransferModel::getSignatureAlgorithm), SignatureAlgorithm.ML_DSA_87)
                 .create();
     }
 
@@ -197,6 +201,7 @@ public final class TransactionTestFactory {
                 .set(field(TransactionResponse::outputs), outputs)
                 .set(field(TransactionResponse::createdAt), createdAt)
                 .supply(field(TransactionResponse::signature), TransactionSignatureTestFactory::getTransactionSignatureString)
+                .set(field(TransactionResponse::signatureAlgorithm), SignatureAlgorithm.ML_DSA_87.getAlgorithm())
                 .create();
     }
 
@@ -228,6 +233,7 @@ public final class TransactionTestFactory {
                 .set(field(RewardModel::getOutputs), outputs)
                 .set(field(RewardModel::getCreatedAt), createdAt)
                 .set(field(RewardModel::getSignature), TransactionSignature.REWARD_SIGNATURE)
+                .ignore(field(RewardModel::getSignatureAlgorithm))
                 .create();
     }
 
@@ -243,7 +249,8 @@ public final class TransactionTestFactory {
                 Instancio.of(String[].class).create(),
                 TransactionType.TRANSFER.getType(),
                 TimestampTestFactory.generateTimestamp(),
-                TransactionSignatureTestFactory.getTransactionSignatureString()
+                TransactionSignatureTestFactory.getTransactionSignatureString(),
+                SignatureAlgorithm.ML_DSA_87.getAlgorithm()
         );
     }
     public static TransactionRecord getRewardRecord() {
@@ -258,7 +265,8 @@ public final class TransactionTestFactory {
                 Instancio.of(String[].class).create(),
                 TransactionType.REWARD.getType(),
                 TimestampTestFactory.generateTimestamp(),
-                TransactionSignatureTestFactory.getTransactionSignatureString()
+                TransactionSignatureTestFactory.getTransactionSignatureString(),
+                null
         );
     }
 }
@@ -3,6 +3,7 @@ package org.acme.blockchain.test_common.factory;
 import jooq.tables.records.WalletRecord;
 import org.acme.blockchain.wallet.api.contract.WalletResponse;
 import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.utility.KeyPairUtility;
 import org.instancio.Instancio;
 
@@ -14,12 +15,14 @@ public final class WalletTestFactory {
         return Instancio.of(WalletModel.class)
                 .supply(field(WalletModel::keyPair), KeyPairUtility::generateKeyPair)
                 .supply(field(WalletModel::address), () -> AddressTestFactory.getAddress())
+                .set(field(WalletModel::signatureAlgorithm), SignatureAlgorithm.ML_DSA_87)
                 .create();
     }
 
     public static WalletResponse getWalletResponse() {
         return Instancio.of(WalletResponse.class)
                 .supply(field(WalletResponse::address), AddressTestFactory::getAddressString)
+                .set(field(WalletResponse::signatureAlgorithm), SignatureAlgorithm.ML_DSA_87.getAlgorithm())
                 .create();
     }
 
@@ -28,7 +31,8 @@ public final class WalletTestFactory {
                 Instancio.of(Long.class).create(),
                 AddressTestFactory.getAddressString(),
                 Instancio.of(byte[].class).create(),
-                TimestampTestFactory.generateTimestamp()
+                TimestampTestFactory.generateTimestamp(),
+                SignatureAlgorithm.ML_DSA_87.getAlgorithm()
         );
     }
 }
@@ -60,6 +60,7 @@ public class TransactionResponseTest extends ObjectMapperBase {
                     ],
                     "created_at": "%s",
                     "signature": "%s",
+                    "signature_algorithm": "%s",
                     "status": "%s"
                 }"""
                 .formatted(
@@ -96,6 +97,7 @@ public class TransactionResponseTest extends ObjectMapperBase {
                         response.outputs().get(1).isSpent(),
                         response.createdAt(),
                         response.signature(),
+                        response.signatureAlgorithm(),
                         response.status()
                 );
 
@@ -6,22 +6,33 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.core.Response;
 import org.acme.blockchain.common.api.contract.ErrorResponse;
+import org.acme.blockchain.common.exception.CapacityExceededException;
 import org.acme.blockchain.test_common.factory.TransactionHashTestFactory;
 import org.acme.blockchain.test_common.factory.TransactionTestFactory;
 import org.acme.blockchain.transaction.api.contract.TransactionResponse;
 import org.acme.blockchain.transaction.api.contract.TransferRequest;
+import org.acme.blockchain.transaction.api.contract.TransferStatusResponse;
+import org.acme.blockchain.transaction.api.contract.TransferSubmissionResponse;
 import org.acme.blockchain.transaction.api.contract.UtxoResponse;
 import org.acme.blockchain.transaction.mapper.UtxoMapper;
 import org.acme.blockchain.transaction.model.TransactionHash;
 import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.TransferSubmissionModel;
 import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.SubmissionStatus;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
 import org.acme.blockchain.transaction.service.TransactionService;
+import org.acme.blockchain.transaction.service.TransferSubmissionService;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
 
@@ -33,6 +44,9 @@ public class TransactionResourceTest {
     @InjectMock
     TransactionService transactionService;
 
+    @InjectMock
+    TransferSubmissionService transferSubmissionService;
+
     @Test
     void testCreate_success_returns201() {
         // Given & When
@@ -150,6 +164,32 @@ public class TransactionResourceTest {
         Mockito.verify(transactionService, Mockito.times(1)).create(Mockito.any(TransferModel.class));
     }
 
+    @Test
+    void testCreate_atCapacity_returns503() {
+        // Given
+        TransferRequest request = TransactionTestFactory.getTransferRequest();
+
+        // When
+        Mockito.when(transactionService.create(Mockito.any(TransferModel.class))).thenThrow(new CapacityExceededException("Transfer processing is at capacity."));
+
+        ErrorResponse response = given()
+                .when()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .post(URL)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .header("Retry-After", "1")
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Transfer processing is at capacity. Please try again shortly.", response.message());
+
+        Mockito.verify(transactionService, Mockito.times(1)).create(Mockito.any(TransferModel.class));
+    }
+
     @Test
     void testCreate_exception_returns500() {
         // Given & When
@@ -286,6 +326,200 @@ public class TransactionResourceTest {
         Assertions.assertEquals("Failed to retrieve transaction. Please try again.", response.message());
     }
 
+    @Test
+    void testSubmit_success_returns202() {
+        // Given
+        TransferRequest request = TransactionTestFactory.getTransferRequest();
+
+        TransferSubmissionModel submission = TransferSubmissionModel.builder()
+                .id(UUID.randomUUID())
+                .status(SubmissionStatus.SUBMITTED)
+                .submittedAt(OffsetDateTime.now())
+                .build();
+
+        Mockito.when(transferSubmissionService.submit(Mockito.any(TransferModel.class))).thenReturn(submission);
+
+        // When
+        TransferSubmissionResponse response = given()
+                .when()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .post(URL + "submission")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.ACCEPTED.getStatusCode())
+                .header("Location", Matchers.endsWith("/v1/transaction/submission/" + submission.id()))
+                .contentType(ContentType.JSON)
+                .extract().as(TransferSubmissionResponse.class);
+
+        Assertions.assertEquals(submission.id(), response.id());
+        Assertions.assertEquals(SubmissionStatus.SUBMITTED, response.status());
+        Assertions.assertNull(response.hashId());
+
+        Mockito.verify(transferSubmissionService, Mockito.times(1)).submit(Mockito.any(TransferModel.class));
+        Mockito.verify(transactionService, Mockito.never()).create(Mockito.any(TransferModel.class));
+    }
+
+    @Test
+    void testSubmit_atCapacity_returns503() {
+        // Given
+        TransferRequest request = TransactionTestFactory.getTransferRequest();
+
+        // When
+        Mockito.when(transferSubmissionService.submit(Mockito.any(TransferModel.class))).thenThrow(new CapacityExceededException("Transfer processing is at capacity."));
+
+        ErrorResponse response = given()
+                .when()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .post(URL + "submission")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .header("Retry-After", "1")
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Transfer processing is at capacity. Please try again shortly.", response.message());
+    }
+
+    @Test
+    void testGetSubmission_created_returns200() {
+        // Given
+        TransactionHash hash = TransactionHashTestFactory.getTransactionHash();
+
+        TransferSubmissionModel submission = TransferSubmissionModel.builder()
+                .id(UUID.randomUUID())
+                .status(SubmissionStatus.CREATED)
+                .hashId(hash)
+                .submittedAt(OffsetDateTime.now())
+                .build();
+
+        Mockito.when(transferSubmissionService.get(submission.id())).thenReturn(submission);
+
+        // When
+        TransferSubmissionResponse response = given()
+                .when()
+                .get(URL + "submission/" + submission.id())
+                .then()
+
+                // Then
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(TransferSubmissionResponse.class);
+
+        Assertions.assertEquals(submission.id(), response.id());
+        Assertions.assertEquals(SubmissionStatus.CREATED, response.status());
+        Assertions.assertEquals(hash.value(), response.hashId());
+    }
+
+    @Test
+    void testGetSubmission_invalidId_returns400() {
+        // Given & When
+        ErrorResponse response = given()
+                .when()
+                .get(URL + "submission/not-a-uuid")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.BAD_REQUEST.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Invalid submission ID format. Please ensure submission ID is " +
+                "correctly input and try again.", response.message());
+    }
+
+    @Test
+    void testGetSubmission_notFound_returns404() {
+        // Given & When
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(transferSubmissionService.get(id)).thenThrow(NotFoundException.class);
+
+        ErrorResponse response = given()
+                .when()
+                .get(URL + "submission/" + id)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.NOT_FOUND.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Submission ID not found. Please ensure submission ID is " +
+                "correctly input and try again.", response.message());
+    }
+
+    @Test
+    void testGetStatus_processing_returns200() {
+        // Given & When
+        TransactionHash hash = TransactionHashTestFactory.getTransactionHash();
+
+        TransferStatusModel status = TransferStatusModel.builder()
+                .hashId(hash)
+                .status(TransactionStatus.CONFIRMED)
+                .updatedAt(OffsetDateTime.now())
+                .build();
+
+        Mockito.when(transactionService.getStatus(hash)).thenReturn(status);
+
+        TransferStatusResponse response = given()
+                .when()
+                .get(URL + hash.value() + "/status")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(TransferStatusResponse.class);
+
+        Assertions.assertEquals(hash.value(), response.hashId());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, response.status());
+        Assertions.assertNotNull(response.updatedAt());
+    }
+
+    @Test
+    void testGetStatus_invalidHash_returns400() {
+        // Given & When
+        String hash = "abcdef0123456789";
+
+        ErrorResponse response = given()
+                .when()
+                .get(URL + hash + "/status")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.BAD_REQUEST.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Invalid hash ID format. Please ensure transaction hash ID is " +
+                "correctly input and try again.", response.message());
+    }
+
+    @Test
+    void testGetStatus_notProcessing_returns404() {
+        // Given & When
+        TransactionHash hash = TransactionHashTestFactory.getTransactionHash();
+
+        Mockito.when(transactionService.getStatus(hash)).thenThrow(NotFoundException.class);
+
+        ErrorResponse response = given()
+                .when()
+                .get(URL + hash.value() + "/status")
+                .then()
+
+                // Then
+                .statusCode(Response.Status.NOT_FOUND.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Hash ID not being processed. A mined transaction is retrieved by its hash ID.", response.message());
+    }
+
     private boolean verifyUtxos(List<UtxoModel> expected, List<UtxoResponse> actual) {
         if (expected.size() != actual.size()) {
             return false;
@@ -13,6 +13,7 @@ import org.acme.blockchain.transaction.model.TransactionSignature;
 import org.acme.blockchain.transaction.model.TransferModel;
 import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
 import org.acme.blockchain.transaction.model.enumeration.TransactionType;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -56,6 +57,7 @@ public class TransactionMapperTest {
                 .outputs(model.getOutputs().stream().map(UtxoMapper.INSTANCE::modelToResponse).toList())
                 .createdAt(model.getCreatedAt())
                 .signature(model.getSignature().value())
+                .signatureAlgorithm(model.getSignatureAlgorithm().getAlgorithm())
                 .status(model.getStatus())
                 .build();
 
@@ -109,7 +111,8 @@ public class TransactionMapperTest {
                 model.getInputIds(),
                 model.getType().name(),
                 model.getCreatedAt(),
-                model.getSignature().value()
+                model.getSignature().value(),
+                model.getSignatureAlgorithm().getAlgorithm()
         );
 
         // When
@@ -135,7 +138,8 @@ public class TransactionMapperTest {
                 model.getInputIds(),
                 model.getType().name(),
                 model.getCreatedAt(),
-                model.getSignature().value()
+                model.getSignature().value(),
+                null
         );
 
         // When
@@ -163,6 +167,7 @@ public class TransactionMapperTest {
                 .outputs(null)
                 .createdAt(record.getCreatedAt())
                 .signature(new TransactionSignature(record.getSignature()))
+                .signatureAlgorithm(SignatureAlgorithm.fromAlgorithm(record.getSignatureAlgorithm()))
                 .status(TransactionStatus.MINED)
                 .build();
 
@@ -0,0 +1,73 @@
+package org.acme.blockchain.transaction.mapper;
+
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TransferCodecTest {
+
+    @Test
+    void testDecode_encodedTransfer_roundTrips() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setSenderPublicKeyEncoded(new byte[]{1, 2, 3, 4});
+        transfer.setStatus(TransactionStatus.CONFIRMED);
+
+        // When
+        TransferModel decoded = TransferCodec.decode(TransferCodec.encode(transfer));
+
+        // Then
+        Assertions.assertEquals(transfer.getHashId(), decoded.getHashId());
+        Assertions.assertEquals(transfer.getSenderAddress(), decoded.getSenderAddress());
+        Assertions.assertEquals(transfer.getRecipientAddress(), decoded.getRecipientAddress());
+        Assertions.assertEquals(transfer.getAmount(), decoded.getAmount());
+        Assertions.assertEquals(transfer.getFee(), decoded.getFee());
+        Assertions.assertEquals(transfer.getType(), decoded.getType());
+        Assertions.assertTrue(transfer.getCreatedAt().isEqual(decoded.getCreatedAt()));
+        Assertions.assertEquals(transfer.getSignatureAlgorithm(), decoded.getSignatureAlgorithm());
+        Assertions.assertEquals(transfer.getStatus(), decoded.getStatus());
+        Assertions.assertArrayEquals(transfer.getSenderPublicKeyEncoded(), decoded.getSenderPublicKeyEncoded());
+        Assertions.assertEquals(transfer.getSignature(), decoded.getSignature());
+        assertUtxosEqual(transfer.getInputs(), decoded.getInputs());
+        assertUtxosEqual(transfer.getOutputs(), decoded.getOutputs());
+        Assertions.assertEquals(transfer.getEncodedSize(), decoded.getEncodedSize());
+    }
+
+    @Test
+    void testRestore_strippedTransfer_restoresPayload() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setSenderPublicKeyEncoded(new byte[]{1, 2, 3, 4});
+
+        byte[] publicKey = transfer.getSenderPublicKeyEncoded();
+        byte[] signature = TransferCodec.encodeSignature(transfer.getSignature());
+        TransferModel expected = transfer.toBuilder().build();
+
+        TransferCodec.strip(transfer);
+
+        // When
+        TransferModel restored = TransferCodec.restore(transfer, publicKey, signature);
+
+        // Then
+        Assertions.assertNull(transfer.getSignature());
+        Assertions.assertNull(transfer.getSenderPublicKeyEncoded());
+        Assertions.assertEquals(expected, restored);
+    }
+
+    private void assertUtxosEqual(List<UtxoModel> expected, List<UtxoModel> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            Assertions.assertEquals(expected.get(i).getRecipientAddress(), actual.get(i).getRecipientAddress());
+            Assertions.assertEquals(expected.get(i).getAmount(), actual.get(i).getAmount());
+            Assertions.assertTrue(expected.get(i).getCreatedAt().isEqual(actual.get(i).getCreatedAt()));
+            Assertions.assertEquals(expected.get(i).isSpent(), actual.get(i).isSpent());
+        }
+    }
+}
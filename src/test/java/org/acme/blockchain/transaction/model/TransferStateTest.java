@@ -0,0 +1,104 @@
+package org.acme.blockchain.transaction.model;
+
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransferStateTest {
+
+    private static final int THREADS = 8;
+
+    private static final int CONFIRMATIONS_PER_THREAD = 10_000;
+
+    @Test
+    void testConfirm_concurrentPeers_countsEveryConfirmation() throws InterruptedException {
+        // Given
+        TransferState state = new TransferState(TransactionStatus.BROADCASTED);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < CONFIRMATIONS_PER_THREAD; j++) {
+                    state.confirm();
+                    state.reject();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        Assertions.assertEquals(THREADS * CONFIRMATIONS_PER_THREAD, state.getConfirmations());
+        Assertions.assertEquals(THREADS * CONFIRMATIONS_PER_THREAD, state.getRejections());
+        Assertions.assertEquals(TransactionStatus.BROADCASTED, state.getStatus());
+    }
+
+    @Test
+    void testTransitionTo_concurrentThreads_onlyOneWins() throws InterruptedException {
+        // Given
+        TransferState state = new TransferState(TransactionStatus.BROADCASTED);
+        AtomicInteger wins = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                if (state.transitionTo(TransactionStatus.CONFIRMED)) {
+                    wins.incrementAndGet();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        Assertions.assertEquals(1, wins.get());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, state.getStatus());
+    }
+
+    @Test
+    void testTransitionTo_backwardsOrSkippingValidation_refused() {
+        // Given
+        TransferState state = new TransferState(TransactionStatus.INITIALISED);
+
+        // When
+        boolean isBroadcastBeforeValidation = state.transitionTo(TransactionStatus.BROADCASTED);
+        boolean isValidated = state.transitionTo(TransactionStatus.VALIDATED);
+        boolean isConfirmed = state.transitionTo(TransactionStatus.CONFIRMED);
+        boolean isBroadcastAfterConfirmation = state.transitionTo(TransactionStatus.BROADCASTED);
+        boolean isRejectedAfterConfirmation = state.transitionTo(TransactionStatus.REJECTED);
+
+        // Then
+        Assertions.assertFalse(isBroadcastBeforeValidation);
+        Assertions.assertTrue(isValidated);
+        Assertions.assertTrue(isConfirmed);
+        Assertions.assertFalse(isBroadcastAfterConfirmation);
+        Assertions.assertFalse(isRejectedAfterConfirmation);
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, state.getStatus());
+    }
+
+    @Test
+    void testTransitionTo_terminalStatus_refused() {
+        // Given
+        TransferState state = new TransferState(TransactionStatus.BROADCASTED);
+        state.confirm();
+
+        // When
+        boolean isFailed = state.transitionTo(TransactionStatus.FAILED);
+        boolean isConfirmed = state.transitionTo(TransactionStatus.CONFIRMED);
+
+        // Then
+        Assertions.assertTrue(isFailed);
+        Assertions.assertFalse(isConfirmed);
+        Assertions.assertTrue(state.isTerminal());
+        Assertions.assertEquals(TransactionStatus.FAILED, state.getStatus());
+        Assertions.assertEquals(1, state.getConfirmations());
+    }
+}
@@ -1,19 +1,37 @@
 package org.acme.blockchain.transaction.service;
 
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import jakarta.ws.rs.NotFoundException;
 import org.acme.blockchain.common.service.FeeService;
 import org.acme.blockchain.common.service.TransferCacheService;
-import org.acme.blockchain.transaction.model.TransactionModel;
+import org.acme.blockchain.common.service.TransferStatusEventService;
+import org.acme.blockchain.test_common.factory.TransactionHashTestFactory;
+import org.acme.blockchain.transaction.model.TransactionHash;
+import org.acme.blockchain.transaction.model.TransferStatusModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.repository.TransactionRepository;
 import org.acme.blockchain.transaction.repository.UtxoRepository;
 import org.acme.blockchain.wallet.service.WalletService;
-import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 @ExtendWith(MockitoExtension.class)
 public class TransactionServiceTest {
 
+    private static final Duration IDLE_TIMEOUT = Duration.ofMillis(200);
+
     @Mock
     TransferCacheService cache;
 
@@ -23,15 +41,141 @@ public class TransactionServiceTest {
     @Mock
     FeeService feeService;
 
+    @Mock
+    TransactionRepository transactionRepository;
+
     @Mock
     UtxoRepository utxoRepository;
 
     @Mock
-    Emitter<TransactionModel> transactionEmitter;
+    TransferCoordinatorService coordinator;
+
+    @Mock
+    TransferStatusEventService statusEvents;
 
-    @InjectMocks
     TransactionService transactionService;
 
+    @BeforeEach
+    void setup() {
+        transactionService = new TransactionService(cache, walletService, feeService, transactionRepository,
+                utxoRepository, coordinator, statusEvents, IDLE_TIMEOUT);
+    }
+
+    @Test
+    void testGetStatus_notProcessing_throwsNotFoundException() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+
+        // When
+        Mockito.when(cache.findStatus(hashId)).thenReturn(null);
+
+        // Then
+        Assertions.assertThrows(NotFoundException.class, () -> transactionService.getStatus(hashId));
+    }
+
+    @Test
+    void testStreamStatus_startsWithLatestStatus_completesAfterTerminalStatus() throws Exception {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransferStatusModel validated = getStatus(hashId, TransactionStatus.VALIDATED);
+        TransferStatusModel confirmed = getStatus(hashId, TransactionStatus.CONFIRMED);
+        TransferStatusModel mined = getStatus(hashId, TransactionStatus.MINED);
+
+        BroadcastProcessor<TransferStatusModel> transitions = BroadcastProcessor.create();
+
+        Mockito.when(cache.findStatus(hashId)).thenReturn(validated);
+        Mockito.when(statusEvents.stream(hashId)).thenReturn(transitions);
+
+        // When
+        CompletableFuture<List<TransferStatusModel>> statuses = transactionService.streamStatus(hashId)
+                .collect().asList()
+                .subscribeAsCompletionStage();
+
+        transitions.onNext(validated);
+        transitions.onNext(confirmed);
+        transitions.onNext(mined);
+
+        // Then
+        Assertions.assertEquals(List.of(validated, confirmed, mined), statuses.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testStreamStatus_latestStatusTerminal_completesImmediately() throws Exception {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransferStatusModel failed = getStatus(hashId, TransactionStatus.FAILED);
+
+        Mockito.when(cache.findStatus(hashId)).thenReturn(failed);
+        Mockito.when(statusEvents.stream(hashId)).thenReturn(BroadcastProcessor.create());
+
+        // When
+        List<TransferStatusModel> statuses = transactionService.streamStatus(hashId)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        Assertions.assertEquals(List.of(failed), statuses);
+    }
+
+    @Test
+    void testStreamStatus_notProcessing_throwsNotFoundException() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+
+        // When
+        Mockito.when(cache.findStatus(hashId)).thenReturn(null);
+
+        // Then
+        Assertions.assertThrows(NotFoundException.class, () -> transactionService.streamStatus(hashId));
+        Mockito.verifyNoInteractions(statusEvents);
+    }
+
+    @Test
+    void testStreamStatus_releasedBeforeSubscription_failsWithNotFoundException() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransferStatusModel validated = getStatus(hashId, TransactionStatus.VALIDATED);
+
+        Mockito.when(cache.findStatus(hashId)).thenReturn(validated, (TransferStatusModel) null);
+        Mockito.when(statusEvents.stream(hashId)).thenReturn(BroadcastProcessor.create());
+
+        // When
+        CompletableFuture<List<TransferStatusModel>> statuses = transactionService.streamStatus(hashId)
+                .collect().asList()
+                .subscribeAsCompletionStage();
+
+        // Then
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> statuses.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(NotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void testStreamStatus_noTransition_completesAfterIdleTimeout() {
+        // Given
+        TransactionHash hashId = TransactionHashTestFactory.getTransactionHash();
+        TransferStatusModel confirmed = getStatus(hashId, TransactionStatus.CONFIRMED);
+
+        Mockito.when(cache.findStatus(hashId)).thenReturn(confirmed);
+        Mockito.when(statusEvents.stream(hashId)).thenReturn(BroadcastProcessor.create());
+
+        // When
+        List<TransferStatusModel> statuses = transactionService.streamStatus(hashId)
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        Assertions.assertEquals(List.of(confirmed), statuses);
+    }
+
+    private TransferStatusModel getStatus(TransactionHash hashId, TransactionStatus status) {
+        return TransferStatusModel.builder()
+                .hashId(hashId)
+                .status(status)
+                .updatedAt(OffsetDateTime.now())
+                .build();
+    }
+
 //    @Test
 //    void testCreateTransfer_successfullyCreated_withNoChange() throws Exception {
 //        // Given
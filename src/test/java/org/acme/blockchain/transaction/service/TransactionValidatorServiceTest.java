@@ -0,0 +1,129 @@
+package org.acme.blockchain.transaction.service;
+
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransactionValidationModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.model.enumeration.ValidationCost;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
+import org.acme.blockchain.transaction.service.validator.TransferValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+public class TransactionValidatorServiceTest {
+
+    @Test
+    void testValidateTransfer_validatorsOutOfOrder_runsCheapestFirst() {
+        // Given
+        TransferValidator signature = getValidator(ValidationCost.SIGNATURE, ValidationFailureCode.SIGNATURE);
+        TransferValidator inputs = getValidator(ValidationCost.DATABASE, ValidationFailureCode.INPUTS);
+        TransferValidator address = getValidator(ValidationCost.STATELESS, ValidationFailureCode.ADDRESS);
+
+        TransactionValidatorService validatorService = new TransactionValidatorService(List.of(), List.of(signature, inputs, address), true);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        TransactionValidationModel validationResult = new TransactionValidationModel();
+
+        // When
+        validatorService.validateTransfer(transfer, validationResult);
+
+        // Then
+        Assertions.assertTrue(validationResult.isSuccessful());
+
+        InOrder inOrder = Mockito.inOrder(address, inputs, signature);
+        inOrder.verify(address).validate(transfer, validationResult);
+        inOrder.verify(inputs).validate(transfer, validationResult);
+        inOrder.verify(signature).validate(transfer, validationResult);
+    }
+
+    @Test
+    void testValidateTransfer_failFast_stopsAtFirstFailure() {
+        // Given
+        TransferValidator address = getValidator(ValidationCost.STATELESS, ValidationFailureCode.ADDRESS);
+        TransferValidator signature = getValidator(ValidationCost.SIGNATURE, ValidationFailureCode.SIGNATURE);
+
+        TransactionValidatorService validatorService = new TransactionValidatorService(List.of(), List.of(signature, address), true);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        TransactionValidationModel validationResult = new TransactionValidationModel();
+
+        fail(address, transfer, validationResult);
+
+        // When
+        validatorService.validateTransfer(transfer, validationResult);
+
+        // Then
+        Assertions.assertFalse(validationResult.isSuccessful());
+        Assertions.assertEquals(Set.of(ValidationFailureCode.ADDRESS), validationResult.getFailureCodes());
+
+        Mockito.verify(signature, Mockito.never()).validate(Mockito.any(TransferModel.class), Mockito.any());
+    }
+
+    @Test
+    void testValidateTransfer_failFastDisabled_runsEveryValidator() {
+        // Given
+        TransferValidator address = getValidator(ValidationCost.STATELESS, ValidationFailureCode.ADDRESS);
+        TransferValidator signature = getValidator(ValidationCost.SIGNATURE, ValidationFailureCode.SIGNATURE);
+
+        TransactionValidatorService validatorService = new TransactionValidatorService(List.of(), List.of(address, signature), false);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        TransactionValidationModel validationResult = new TransactionValidationModel();
+
+        fail(address, transfer, validationResult);
+        fail(signature, transfer, validationResult);
+
+        // When
+        validatorService.validateTransfer(transfer, validationResult);
+
+        // Then
+        Assertions.assertEquals(2, validationResult.getFailures().size());
+        Assertions.assertEquals(Set.of(ValidationFailureCode.ADDRESS, ValidationFailureCode.SIGNATURE), validationResult.getFailureCodes());
+    }
+
+    @Test
+    void testValidateTransfer_missingInput_continuesToSignature() {
+        // Given
+        TransferValidator inputs = getValidator(ValidationCost.DATABASE, ValidationFailureCode.INPUTS);
+        TransferValidator signature = getValidator(ValidationCost.SIGNATURE, ValidationFailureCode.SIGNATURE);
+
+        TransactionValidatorService validatorService = new TransactionValidatorService(List.of(), List.of(inputs, signature), true);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        TransactionValidationModel validationResult = new TransactionValidationModel();
+        UtxoId missingInputId = transfer.getInputs().getFirst().getId();
+
+        Mockito.doAnswer(invocation -> {
+            validationResult.addMissingInput(missingInputId, "Input not found.");
+            return null;
+        }).when(inputs).validate(transfer, validationResult);
+
+        // When
+        validatorService.validateTransfer(transfer, validationResult);
+
+        // Then
+        Assertions.assertTrue(validationResult.isOrphan());
+        Assertions.assertEquals(Set.of(ValidationFailureCode.INPUTS), validationResult.getFailureCodes());
+
+        Mockito.verify(signature).validate(transfer, validationResult);
+    }
+
+    private static TransferValidator getValidator(ValidationCost cost, ValidationFailureCode failureCode) {
+        TransferValidator validator = Mockito.mock(TransferValidator.class);
+        Mockito.when(validator.getCost()).thenReturn(cost);
+        Mockito.when(validator.getFailureCode()).thenReturn(failureCode);
+        return validator;
+    }
+
+    private static void fail(TransferValidator validator, TransferModel transfer, TransactionValidationModel validationResult) {
+        Mockito.doAnswer(invocation -> {
+            validationResult.addFailure(transfer + " Failed.");
+            return null;
+        }).when(validator).validate(transfer, validationResult);
+    }
+}
@@ -0,0 +1,352 @@
+package org.acme.blockchain.transaction.service;
+
+import org.acme.blockchain.common.exception.CapacityExceededException;
+import org.acme.blockchain.common.service.OrphanPoolService;
+import org.acme.blockchain.common.service.RejectedTransferCacheService;
+import org.acme.blockchain.common.service.SeenTransferCacheService;
+import org.acme.blockchain.common.service.TransferCacheService;
+import org.acme.blockchain.common.service.TransferJournalService;
+import org.acme.blockchain.common.service.TransferStatusEventService;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransactionValidationModel;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.enumeration.TransactionStatus;
+import org.acme.blockchain.transaction.model.enumeration.ValidationFailureCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferCoordinatorServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    @Mock
+    TransactionValidatorService validatorService;
+
+    @Mock
+    TransferJournalService journal;
+
+    private TransferCacheService cache;
+
+    private OrphanPoolService orphanPool;
+
+    private RejectedTransferCacheService rejectedCache;
+
+    private TransferCoordinatorService coordinator;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TransferCacheService(new TransferStatusEventService(), Long.MAX_VALUE, Duration.ofMillis(100),
+                Duration.ofMinutes(2), Duration.ofHours(24), Duration.ofMinutes(1), false);
+        orphanPool = new OrphanPoolService(Long.MAX_VALUE, Duration.ofMinutes(1));
+        rejectedCache = new RejectedTransferCacheService(1_000, 0.001);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+    }
+
+    @Test
+    void testConnectBlock_orphanOfMinedTransfer_validatedAgain() {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+        orphanPool.add(orphan, List.of(orphan.getInputs().getFirst().getId()));
+
+        // When
+        coordinator.connectBlock(List.of(parent));
+
+        // Then
+        Mockito.verify(validatorService, Mockito.timeout(TIMEOUT_MILLIS))
+                .validateTransfer(Mockito.eq(orphan), Mockito.any(TransactionValidationModel.class));
+        Assertions.assertFalse(orphanPool.contains(orphan.getHashId()));
+    }
+
+    @Test
+    void testConnectBlock_processingFull_orphanHeldUntilNextParent() {
+        // Given
+        coordinator = getCoordinator(1, 0);
+
+        TransferModel parent = TransactionTestFactory.getTransferModel();
+        TransferModel orphan = getChild(parent);
+        orphanPool.add(orphan, List.of(orphan.getInputs().getFirst().getId()));
+
+        coordinator.reserve();
+
+        // When
+        coordinator.connectBlock(List.of(parent));
+
+        // Then
+        Assertions.assertTrue(orphanPool.contains(orphan.getHashId()));
+        Mockito.verifyNoInteractions(validatorService);
+
+        coordinator.cancelReservation();
+        coordinator.connectBlock(List.of(TransactionTestFactory.getTransferModel()));
+
+        Mockito.verify(validatorService, Mockito.timeout(TIMEOUT_MILLIS))
+                .validateTransfer(Mockito.eq(orphan), Mockito.any(TransactionValidationModel.class));
+        Assertions.assertFalse(orphanPool.contains(orphan.getHashId()));
+    }
+
+    @Test
+    void testProcess_localTransferConfirmedByGossip_readyToMine() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.INITIALISED);
+
+        coordinator.reserve();
+        coordinator.submitLocal(transfer);
+        await(() -> cache.getState(transfer.getHashId()).getStatus() == TransactionStatus.BROADCASTED);
+
+        // When
+        coordinator.process(getGossip(transfer, TransactionStatus.CONFIRMED));
+
+        // Then
+        await(() -> !cache.getReadyToMine().isEmpty());
+
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, cache.getState(transfer.getHashId()).getStatus());
+        Assertions.assertEquals(1, cache.getReadyToMine().size());
+        Assertions.assertEquals(transfer.getHashId(), cache.getReadyToMine().getFirst().getHashId());
+    }
+
+    @Test
+    void testProcess_repeatedConfirmations_eachCounted() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 2);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.INITIALISED);
+
+        coordinator.reserve();
+        coordinator.submitLocal(transfer);
+        await(() -> cache.getState(transfer.getHashId()).getStatus() == TransactionStatus.BROADCASTED);
+
+        // When
+        coordinator.process(getGossip(transfer, TransactionStatus.CONFIRMED));
+        coordinator.process(getGossip(transfer, TransactionStatus.CONFIRMED));
+
+        // Then
+        await(() -> cache.getState(transfer.getHashId()).getConfirmations() >= 3);
+
+        Assertions.assertEquals(3, cache.getState(transfer.getHashId()).getConfirmations());
+    }
+
+    @Test
+    void testProcess_rejectionAfterConfirmation_ignored() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.INITIALISED);
+
+        coordinator.reserve();
+        coordinator.submitLocal(transfer);
+        await(() -> cache.getState(transfer.getHashId()).getStatus() == TransactionStatus.BROADCASTED);
+
+        coordinator.process(getGossip(transfer, TransactionStatus.CONFIRMED));
+        await(() -> !cache.getReadyToMine().isEmpty());
+
+        // When
+        coordinator.process(getGossip(transfer, TransactionStatus.REJECTED));
+
+        // Then
+        await(() -> cache.getState(transfer.getHashId()).getRejections() >= 1);
+
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, cache.getState(transfer.getHashId()).getStatus());
+        Assertions.assertEquals(TransactionStatus.CONFIRMED, cache.findStatus(transfer.getHashId()).status());
+        Assertions.assertEquals(1, cache.getReadyToMine().size());
+    }
+
+    @Test
+    void testProcess_repeatedBroadcast_dropped() {
+        // Given
+        coordinator = getCoordinator(1, 2);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.BROADCASTED);
+
+        // When
+        coordinator.process(transfer);
+        coordinator.process(getGossip(transfer, TransactionStatus.BROADCASTED));
+
+        // Then
+        Mockito.verify(validatorService, Mockito.timeout(TIMEOUT_MILLIS).times(1))
+                .validateTransfer(Mockito.eq(transfer), Mockito.any(TransactionValidationModel.class));
+        Mockito.verifyNoMoreInteractions(validatorService);
+    }
+
+    @Test
+    void testProcess_localTransferLosesReservation_failedNotRejected() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.INITIALISED);
+
+        TransferModel conflicting = TransactionTestFactory.getTransferModel();
+        conflicting.setInputs(transfer.getInputs());
+        cache.reserveInputs(conflicting);
+
+        // When
+        coordinator.reserve();
+        coordinator.submitLocal(transfer);
+
+        // Then
+        await(() -> cache.getState(transfer.getHashId()).getStatus() == TransactionStatus.FAILED);
+
+        Assertions.assertEquals(TransactionStatus.FAILED, cache.getState(transfer.getHashId()).getStatus());
+        Assertions.assertFalse(rejectedCache.isRejected(transfer.getHashId()));
+    }
+
+    @Test
+    void testProcess_peerTransferSpendingPendingInput_notMarkedRejected() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.BROADCASTED);
+        fail(transfer, ValidationFailureCode.PENDING_INPUTS);
+
+        // When
+        coordinator.process(transfer);
+
+        // Then
+        Mockito.verify(validatorService, Mockito.timeout(TIMEOUT_MILLIS))
+                .validateTransfer(Mockito.eq(transfer), Mockito.any(TransactionValidationModel.class));
+        await(() -> cache.getState(transfer.getHashId()).isTerminal());
+
+        Assertions.assertFalse(rejectedCache.isRejected(transfer.getHashId()));
+    }
+
+    @Test
+    void testProcess_peerTransferWithBadSignature_markedRejected() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 1);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.BROADCASTED);
+        fail(transfer, ValidationFailureCode.SIGNATURE);
+
+        // When
+        coordinator.process(transfer);
+
+        // Then
+        await(() -> rejectedCache.isRejected(transfer.getHashId()));
+
+        Assertions.assertTrue(rejectedCache.isRejected(transfer.getHashId()));
+    }
+
+    @Test
+    void testProcess_confirmationOfTerminalTransfer_droppedBeforeAdmission() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 0);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.BROADCASTED);
+        fail(transfer, ValidationFailureCode.SIGNATURE);
+
+        coordinator.process(transfer);
+        await(() -> cache.isTerminal(transfer.getHashId()));
+
+        // When
+        coordinator.process(getGossip(transfer, TransactionStatus.CONFIRMED));
+        coordinator.process(getGossip(transfer, TransactionStatus.REJECTED));
+
+        // Then
+        Assertions.assertEquals(0, cache.getState(transfer.getHashId()).getConfirmations());
+        Assertions.assertEquals(0, cache.getState(transfer.getHashId()).getRejections());
+        Mockito.verify(validatorService, Mockito.times(1))
+                .validateTransfer(Mockito.eq(transfer), Mockito.any(TransactionValidationModel.class));
+    }
+
+    @Test
+    void testProcess_initialisedFromPeer_admittedAndNotValidated() throws InterruptedException {
+        // Given
+        coordinator = getCoordinator(1, 0);
+
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        transfer.setStatus(TransactionStatus.INITIALISED);
+
+        // When
+        coordinator.process(transfer);
+
+        // Then
+        await(() -> {
+            try {
+                coordinator.reserve();
+                return true;
+            } catch (CapacityExceededException e) {
+                return false;
+            }
+        });
+
+        Assertions.assertThrows(CapacityExceededException.class, coordinator::reserve);
+        Assertions.assertFalse(cache.containsTransfer(transfer.getHashId()));
+        Mockito.verifyNoInteractions(validatorService);
+
+        coordinator.cancelReservation();
+    }
+
+    private void fail(TransferModel transfer, ValidationFailureCode failureCode) {
+        Mockito.doAnswer(invocation -> {
+            TransactionValidationModel validationResult = invocation.getArgument(1);
+            validationResult.addFailure(transfer + " Failed.");
+            validationResult.addFailureCode(failureCode);
+            return null;
+        }).when(validatorService).validateTransfer(Mockito.eq(transfer), Mockito.any(TransactionValidationModel.class));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private TransferModel getGossip(TransferModel transfer, TransactionStatus status) {
+        return transfer.toBuilder()
+                .status(status)
+                .build();
+    }
+
+    private TransferCoordinatorService getCoordinator(int maxConcurrency, int maxQueued) {
+        return new TransferCoordinatorService(
+                cache,
+                validatorService,
+                journal,
+                orphanPool,
+                rejectedCache,
+                new SeenTransferCacheService(1_000, 0.001),
+                maxConcurrency,
+                maxQueued
+        );
+    }
+
+    private TransferModel getChild(TransferModel parent) {
+        TransferModel child = TransactionTestFactory.getTransferModel(
+                parent.getRecipientAddress().value(),
+                parent.getSenderAddress().value(),
+                BigDecimal.ONE
+        );
+        child.setInputs(List.of(parent.getOutputs().getFirst()));
+        child.setStatus(TransactionStatus.BROADCASTED);
+        return child;
+    }
+}
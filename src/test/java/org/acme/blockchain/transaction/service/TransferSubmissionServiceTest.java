@@ -0,0 +1,108 @@
+package org.acme.blockchain.transaction.service;
+
+import jakarta.ws.rs.NotFoundException;
+import org.acme.blockchain.common.exception.CapacityExceededException;
+import org.acme.blockchain.test_common.factory.TransactionTestFactory;
+import org.acme.blockchain.transaction.model.TransferModel;
+import org.acme.blockchain.transaction.model.TransferSubmissionModel;
+import org.acme.blockchain.transaction.model.enumeration.SubmissionStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferSubmissionServiceTest {
+
+    @Mock
+    TransactionService transactionService;
+
+    private TransferSubmissionService transferSubmissionService;
+
+    @BeforeEach
+    void setUp() {
+        transferSubmissionService = new TransferSubmissionService(transactionService, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testSubmit_pending_returnsSubmitted() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+
+        Mockito.when(transactionService.submit(transfer)).thenReturn(new CompletableFuture<>());
+
+        // When
+        TransferSubmissionModel submission = transferSubmissionService.submit(transfer);
+
+        // Then
+        Assertions.assertEquals(SubmissionStatus.SUBMITTED, submission.status());
+        Assertions.assertNull(submission.hashId());
+        Assertions.assertEquals(submission, transferSubmissionService.get(submission.id()));
+    }
+
+    @Test
+    void testSubmit_created_recordsHashId() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        CompletableFuture<TransferModel> created = new CompletableFuture<>();
+
+        Mockito.when(transactionService.submit(transfer)).thenReturn(created);
+
+        TransferSubmissionModel submission = transferSubmissionService.submit(transfer);
+
+        // When
+        created.complete(transfer);
+
+        // Then
+        TransferSubmissionModel completed = transferSubmissionService.get(submission.id());
+
+        Assertions.assertEquals(SubmissionStatus.CREATED, completed.status());
+        Assertions.assertEquals(transfer.getHashId(), completed.hashId());
+        Assertions.assertNull(completed.failure());
+    }
+
+    @Test
+    void testSubmit_failed_recordsFailure() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+        CompletableFuture<TransferModel> created = new CompletableFuture<>();
+
+        Mockito.when(transactionService.submit(transfer)).thenReturn(created);
+
+        TransferSubmissionModel submission = transferSubmissionService.submit(transfer);
+
+        // When
+        created.completeExceptionally(new IllegalStateException("Sender has insufficient balance..."));
+
+        // Then
+        TransferSubmissionModel completed = transferSubmissionService.get(submission.id());
+
+        Assertions.assertEquals(SubmissionStatus.FAILED, completed.status());
+        Assertions.assertNull(completed.hashId());
+        Assertions.assertEquals("Sender has insufficient balance...", completed.failure());
+    }
+
+    @Test
+    void testSubmit_atCapacity_throwsAndForgetsSubmission() {
+        // Given
+        TransferModel transfer = TransactionTestFactory.getTransferModel();
+
+        Mockito.when(transactionService.submit(transfer)).thenThrow(new CapacityExceededException("Transfer processing is at capacity."));
+
+        // When & Then
+        Assertions.assertThrows(CapacityExceededException.class, () -> transferSubmissionService.submit(transfer));
+    }
+
+    @Test
+    void testGet_unknownId_throwsNotFound() {
+        // When & Then
+        Assertions.assertThrows(NotFoundException.class, () -> transferSubmissionService.get(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,116 @@
+package org.acme.blockchain.transaction.service;
+
+import org.acme.blockchain.test_common.factory.UtxoTestFactory;
+import org.acme.blockchain.transaction.model.UtxoId;
+import org.acme.blockchain.transaction.repository.UtxoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class UtxoLookupServiceTest {
+
+    @Test
+    void testFindIsSpent_notBatched_queriesRepository() {
+        // Given
+        UtxoRepository utxoRepository = Mockito.mock(UtxoRepository.class);
+        UtxoLookupService utxoLookupService = new UtxoLookupService(utxoRepository, false, 1000);
+
+        UtxoId spent = UtxoTestFactory.getUtxoModel().getId();
+        UtxoId unknown = UtxoTestFactory.getUtxoModel().getId();
+
+        Mockito.when(utxoRepository.findIsSpentByIds(List.of(spent, unknown))).thenReturn(Map.of(spent, true));
+
+        // When
+        Map<UtxoId, Boolean> isSpentByIdMap = utxoLookupService.findIsSpent(List.of(spent, unknown));
+
+        // Then
+        Assertions.assertEquals(Boolean.TRUE, isSpentByIdMap.get(spent));
+        Assertions.assertNull(isSpentByIdMap.get(unknown));
+    }
+
+    @Test
+    void testFindIsSpent_batched_returnsResult() {
+        // Given
+        UtxoRepository utxoRepository = Mockito.mock(UtxoRepository.class);
+        UtxoLookupService utxoLookupService = new UtxoLookupService(utxoRepository, true, 1000);
+
+        UtxoId unspent = UtxoTestFactory.getUtxoModel().getId();
+
+        Mockito.when(utxoRepository.findIsSpentByIds(Set.of(unspent))).thenReturn(Map.of(unspent, false));
+
+        // When
+        Map<UtxoId, Boolean> isSpentByIdMap = utxoLookupService.findIsSpent(List.of(unspent));
+
+        // Then
+        Assertions.assertEquals(Boolean.FALSE, isSpentByIdMap.get(unspent));
+
+        utxoLookupService.shutdown();
+    }
+
+    @Test
+    void testFindIsSpent_afterShutdown_queriesRepository() {
+        // Given
+        UtxoRepository utxoRepository = Mockito.mock(UtxoRepository.class);
+        UtxoLookupService utxoLookupService = new UtxoLookupService(utxoRepository, true, 1000);
+
+        UtxoId unspent = UtxoTestFactory.getUtxoModel().getId();
+
+        Mockito.when(utxoRepository.findIsSpentByIds(List.of(unspent))).thenReturn(Map.of(unspent, false));
+
+        utxoLookupService.shutdown();
+
+        // When
+        Map<UtxoId, Boolean> isSpentByIdMap = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> utxoLookupService.findIsSpent(List.of(unspent)));
+
+        // Then
+        Assertions.assertEquals(Boolean.FALSE, isSpentByIdMap.get(unspent));
+    }
+
+    @Test
+    void testResolve_manyLookups_queriesOnce() {
+        // Given
+        UtxoRepository utxoRepository = Mockito.mock(UtxoRepository.class);
+        UtxoLookupService utxoLookupService = new UtxoLookupService(utxoRepository, false, 1000);
+
+        UtxoId first = UtxoTestFactory.getUtxoModel().getId();
+        UtxoId second = UtxoTestFactory.getUtxoModel().getId();
+
+        UtxoLookupService.Lookup firstLookup = new UtxoLookupService.Lookup(List.of(first), new CompletableFuture<>());
+        UtxoLookupService.Lookup secondLookup = new UtxoLookupService.Lookup(List.of(first, second), new CompletableFuture<>());
+
+        Mockito.when(utxoRepository.findIsSpentByIds(Set.of(first, second))).thenReturn(Map.of(first, false, second, true));
+
+        // When
+        utxoLookupService.resolve(List.of(firstLookup, secondLookup));
+
+        // Then
+        Assertions.assertEquals(Boolean.FALSE, firstLookup.result().join().get(first));
+        Assertions.assertEquals(Boolean.TRUE, secondLookup.result().join().get(second));
+
+        Mockito.verify(utxoRepository, Mockito.times(1)).findIsSpentByIds(Mockito.anyCollection());
+    }
+
+    @Test
+    void testResolve_queryFails_failsEveryLookup() {
+        // Given
+        UtxoRepository utxoRepository = Mockito.mock(UtxoRepository.class);
+        UtxoLookupService utxoLookupService = new UtxoLookupService(utxoRepository, false, 1000);
+
+        UtxoLookupService.Lookup lookup = new UtxoLookupService.Lookup(List.of(UtxoTestFactory.getUtxoModel().getId()), new CompletableFuture<>());
+
+        Mockito.when(utxoRepository.findIsSpentByIds(Mockito.anyCollection())).thenThrow(new IllegalStateException("Connection lost."));
+
+        // When
+        utxoLookupService.resolve(List.of(lookup));
+
+        // Then
+        Assertions.assertTrue(lookup.result().isCompletedExceptionally());
+    }
+}
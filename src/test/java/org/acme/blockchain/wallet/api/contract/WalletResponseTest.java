@@ -19,12 +19,14 @@ public class WalletResponseTest extends ObjectMapperBase {
                     {
                         "address": "%s",
                         "public_key": "%s",
-                        "created_at": "%s"
+                        "created_at": "%s",
+                        "signature_algorithm": "%s"
                     }"""
                     .formatted(
                             response.address(),
                             Base64.getEncoder().encodeToString(response.publicKeyEncoded()),
-                            response.createdAt());
+                            response.createdAt(),
+                            response.signatureAlgorithm());
 
             // When
             String actual = objectMapper.writeValueAsString(response);
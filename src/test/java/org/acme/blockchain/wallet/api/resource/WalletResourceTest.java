@@ -11,6 +11,7 @@ import org.acme.blockchain.test_common.factory.AddressTestFactory;
 import org.acme.blockchain.test_common.factory.WalletTestFactory;
 import org.acme.blockchain.wallet.api.contract.WalletResponse;
 import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.service.WalletService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,48 @@ public class WalletResourceTest {
         Assertions.assertEquals(wallet.createdAt(), response.createdAt());
 
         Mockito.verify(walletService, Mockito.times(1)).create();
+        Mockito.verify(walletService, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    void testCreate_selectedSignatureAlgorithm_returns201() {
+        // Given & When
+        WalletModel wallet = WalletTestFactory.getWalletModel();
+
+        Mockito.when(walletService.create(Mockito.any())).thenReturn(wallet);
+
+        given()
+                .queryParam("signature_algorithm", "ML-DSA-44")
+                .when()
+                .post(URL)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.CREATED.getStatusCode())
+                .contentType(ContentType.JSON);
+
+        Mockito.verify(walletService, Mockito.times(1)).create(SignatureAlgorithm.ML_DSA_44);
+        Mockito.verify(walletService, Mockito.never()).create();
+    }
+
+    @Test
+    void testCreate_invalidSignatureAlgorithm_returns400() {
+        // Given & When
+        ErrorResponse response = given()
+                .queryParam("signature_algorithm", "RSA")
+                .when()
+                .post(URL)
+                .then()
+
+                // Then
+                .statusCode(Response.Status.BAD_REQUEST.getStatusCode())
+                .contentType(ContentType.JSON)
+                .extract().as(ErrorResponse.class);
+
+        Assertions.assertEquals("Invalid signature algorithm. Supported algorithms are ML-DSA-44, ML-DSA-65 and ML-DSA-87.", response.message());
+
+        Mockito.verify(walletService, Mockito.never()).create(Mockito.any());
+        Mockito.verify(walletService, Mockito.never()).create();
     }
 
     @Test
@@ -68,6 +111,7 @@ public class WalletResourceTest {
         Assertions.assertEquals("Unlucky! Failed to create wallet due to an address collision. Please try again.", response.message());
 
         Mockito.verify(walletService, Mockito.times(1)).create();
+        Mockito.verify(walletService, Mockito.never()).create(Mockito.any());
     }
 
     @Test
@@ -88,6 +132,7 @@ public class WalletResourceTest {
         Assertions.assertEquals("Failed to create wallet. Please try again.", response.message());
 
         Mockito.verify(walletService, Mockito.times(1)).create();
+        Mockito.verify(walletService, Mockito.never()).create(Mockito.any());
     }
 
     @Test
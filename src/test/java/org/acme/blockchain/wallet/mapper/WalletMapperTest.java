@@ -5,6 +5,7 @@ import org.acme.blockchain.common.model.Address;
 import org.acme.blockchain.test_common.factory.WalletTestFactory;
 import org.acme.blockchain.wallet.api.contract.WalletResponse;
 import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ public class WalletMapperTest {
                 .address(model.address().value())
                 .publicKeyEncoded(model.publicKeyEncoded())
                 .createdAt(model.createdAt())
+                .signatureAlgorithm(model.signatureAlgorithm().getAlgorithm())
                 .build();
 
         // When
@@ -28,6 +30,7 @@ public class WalletMapperTest {
         Assertions.assertEquals(expected.address(), actual.address());
         Assertions.assertArrayEquals(expected.publicKeyEncoded(), actual.publicKeyEncoded());
         Assertions.assertEquals(expected.createdAt(), actual.createdAt());
+        Assertions.assertEquals(expected.signatureAlgorithm(), actual.signatureAlgorithm());
     }
 
     @Test
@@ -39,7 +42,8 @@ public class WalletMapperTest {
                 null,
                 model.address().value(),
                 model.publicKeyEncoded(),
-                model.createdAt()
+                model.createdAt(),
+                model.signatureAlgorithm().getAlgorithm()
         );
 
         // When
@@ -58,6 +62,7 @@ public class WalletMapperTest {
                 .address(new Address(record.getAddress()))
                 .publicKeyEncoded(record.getPublicKeyEncoded())
                 .createdAt(record.getCreatedAt())
+                .signatureAlgorithm(SignatureAlgorithm.fromAlgorithm(record.getSignatureAlgorithm()))
                 .build();
 
         // When
@@ -68,5 +73,6 @@ public class WalletMapperTest {
         Assertions.assertEquals(expected.address(), actual.address());
         Assertions.assertArrayEquals(expected.publicKeyEncoded(), actual.publicKeyEncoded());
         Assertions.assertEquals(expected.createdAt(), actual.createdAt());
+        Assertions.assertEquals(expected.signatureAlgorithm(), actual.signatureAlgorithm());
     }
 }
@@ -0,0 +1,127 @@
+package org.acme.blockchain.wallet.service;
+
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class KeyPairPoolServiceTest {
+
+    private static final String ALGORITHM = "ML-DSA-44";
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private KeyPairPoolService keyPairPool;
+
+    @AfterEach
+    void tearDown() {
+        if (keyPairPool != null) {
+            keyPairPool.stop();
+        }
+    }
+
+    @Test
+    void testOnStart_disabled_startsNoWorker() {
+        // Given
+        keyPairPool = new KeyPairPoolService(false, 2, ALGORITHM);
+
+        // When
+        keyPairPool.onStart(null);
+
+        // Then
+        Assertions.assertNull(keyPairPool.getWorker());
+        Assertions.assertEquals(0, keyPairPool.available());
+    }
+
+    @Test
+    void testTake_emptyPool_generatesOnDemand() {
+        // Given
+        keyPairPool = new KeyPairPoolService(false, 2, ALGORITHM);
+
+        // When
+        KeyPair keyPair = keyPairPool.take(SignatureAlgorithm.ML_DSA_44);
+
+        // Then
+        Assertions.assertNotNull(keyPair);
+        Assertions.assertEquals(ALGORITHM, keyPair.getPublic().getAlgorithm());
+        Assertions.assertEquals(0, keyPairPool.available());
+    }
+
+    @Test
+    void testRefill_enabled_stopsAtCapacity() throws InterruptedException {
+        // Given
+        keyPairPool = new KeyPairPoolService(true, 2, ALGORITHM);
+
+        // When
+        keyPairPool.onStart(null);
+
+        // Then
+        awaitTrue(() -> keyPairPool.available() == 2);
+        awaitTrue(() -> keyPairPool.getWorker().getState() == Thread.State.WAITING);
+
+        Assertions.assertEquals(2, keyPairPool.available());
+        Assertions.assertTrue(keyPairPool.getWorker().isAlive());
+    }
+
+    @Test
+    void testTake_pooledAlgorithm_servesFromPoolOnce() throws InterruptedException {
+        // Given
+        keyPairPool = new KeyPairPoolService(true, 2, ALGORITHM);
+        keyPairPool.onStart(null);
+        awaitTrue(() -> keyPairPool.available() == 2);
+
+        // When
+        KeyPair first = keyPairPool.take(SignatureAlgorithm.ML_DSA_44);
+        KeyPair second = keyPairPool.take(SignatureAlgorithm.ML_DSA_44);
+
+        // Then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNotEquals(first.getPublic(), second.getPublic());
+    }
+
+    @Test
+    void testTake_differentAlgorithm_generatesOnDemand() throws InterruptedException {
+        // Given
+        keyPairPool = new KeyPairPoolService(true, 2, ALGORITHM);
+        keyPairPool.onStart(null);
+        awaitTrue(() -> keyPairPool.available() == 2);
+
+        // When
+        KeyPair keyPair = keyPairPool.take(SignatureAlgorithm.ML_DSA_87);
+
+        // Then
+        Assertions.assertEquals("ML-DSA-87", keyPair.getPublic().getAlgorithm());
+        Assertions.assertEquals(2, keyPairPool.available());
+    }
+
+    @Test
+    void testStop_running_stopsWorkerAndDiscardsKeyPairs() throws InterruptedException {
+        // Given
+        keyPairPool = new KeyPairPoolService(true, 2, ALGORITHM);
+        keyPairPool.onStart(null);
+        awaitTrue(() -> keyPairPool.available() == 2);
+
+        Thread worker = keyPairPool.getWorker();
+
+        // When
+        keyPairPool.stop();
+        worker.join(TIMEOUT_MILLIS);
+
+        // Then
+        Assertions.assertFalse(worker.isAlive());
+        Assertions.assertTrue(worker.isDaemon());
+        Assertions.assertEquals(0, keyPairPool.available());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Condition not met within timeout.");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -19,7 +19,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.KeyPair;
 import java.security.PrivateKey;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @ExtendWith(MockitoExtension.class)
 public class KeystoreServiceTest {
@@ -41,7 +46,7 @@ public class KeystoreServiceTest {
     void setUp() {
         Mockito.when(passwordSupplier.get()).thenReturn("password123");
 
-        tempKeystorePath = tempDir.resolve("test-keystore.p12");
+        tempKeystorePath = tempDir.resolve("test-keystore");
 
         try {
             Field pathField = KeystoreService.class.getDeclaredField("path");
@@ -60,13 +65,13 @@ public class KeystoreServiceTest {
         // Given
         String alias = AddressTestFactory.getAddressString();
 
-        Assertions.assertFalse(Files.exists(tempKeystorePath), "Keystore file should not exist before test.");
+        Assertions.assertFalse(Files.exists(tempKeystorePath), "Keystore directory should not exist before test.");
 
         // When
         keyStoreService.writePrivateKeyToKeystore(VALID_KEY_PAIR, alias);
 
         // Then
-        Assertions.assertTrue(Files.exists(tempKeystorePath), "Keystore file should be created.");
+        Assertions.assertTrue(Files.exists(tempKeystorePath.resolve(alias + ".p12")), "Keystore file should be created for the alias.");
 
         PrivateKey retrievedKey = keyStoreService.readPrivateKeyFromKeystore(alias);
         Assertions.assertEquals(VALID_KEY_PAIR.getPrivate(), retrievedKey);
@@ -83,10 +88,12 @@ public class KeystoreServiceTest {
         // When
         keyStoreService.writePrivateKeyToKeystore(VALID_KEY_PAIR, alias);
 
-        Assertions.assertTrue(Files.exists(tempKeystorePath), "Keystore file should be created.");
+        Assertions.assertTrue(Files.exists(tempKeystorePath.resolve(alias + ".p12")), "Keystore file should be created for the alias.");
 
         keyStoreService.writePrivateKeyToKeystore(additionalKeypair, additionalAlias);
 
+        Assertions.assertTrue(Files.exists(tempKeystorePath.resolve(additionalAlias + ".p12")), "Keystore file should be created for the additional alias.");
+
         PrivateKey retrievedKeyAlpha = keyStoreService.readPrivateKeyFromKeystore(alias);
         Assertions.assertEquals(VALID_KEY_PAIR.getPrivate(), retrievedKeyAlpha);
 
@@ -110,18 +117,56 @@ public class KeystoreServiceTest {
     }
 
     @Test
-    void testReadPrivateKeyFromKeystore_aliasNotFound_throwsKeystoreException() {
+    void testReadPrivateKeyFromKeystore_aliasNotFound_throwsKeystoreException() throws IOException {
         // Given
         String alias = AddressTestFactory.getAddressString();
+        String wrongAlias = AddressTestFactory.getAddressString();
 
         keyStoreService.writePrivateKeyToKeystore(VALID_KEY_PAIR, alias);
 
+        Files.copy(tempKeystorePath.resolve(alias + ".p12"), tempKeystorePath.resolve(wrongAlias + ".p12"));
+
         // Then
-        Exception thrown = Assertions.assertThrows(Exception.class, () -> keyStoreService.readPrivateKeyFromKeystore("wrong alias"), "Exception should be thrown in the event of alias not found.");
+        Exception thrown = Assertions.assertThrows(Exception.class, () -> keyStoreService.readPrivateKeyFromKeystore(wrongAlias), "Exception should be thrown in the event of alias not found.");
 
         Assertions.assertInstanceOf(KeystoreException.class, thrown, "Exception should indicate alias not found.");
-        Assertions.assertEquals("Failed to read data from keystore (" + tempKeystorePath + ") for alias 'wrong alias' " +
-                "due to keystore entry not not found for alias.", thrown.getMessage());
+        Assertions.assertEquals("Failed to read data from keystore (" + tempKeystorePath + ") for alias '" + wrongAlias +
+                "' due to keystore entry not not found for alias.", thrown.getMessage());
+    }
+
+    @Test
+    void testReadPrivateKeyFromKeystore_invalidAlias_throwsKeystoreException() {
+        // Given
+        String alias = "../wrong alias";
+
+        // Then
+        Exception thrown = Assertions.assertThrows(Exception.class, () -> keyStoreService.readPrivateKeyFromKeystore(alias), "Exception should be thrown in the event of an invalid alias.");
+
+        Assertions.assertInstanceOf(KeystoreException.class, thrown, "Exception should indicate an invalid alias.");
+        Assertions.assertEquals("Failed to read data from keystore (" + tempKeystorePath + ") for alias '" + alias +
+                "' due to alias not being a valid entry name.", thrown.getMessage());
+    }
+
+    @Test
+    void testWritePrivateKeyToKeystore_concurrentWrites_writesAllKeys() throws Exception {
+        // Given
+        List<String> aliases = IntStream.range(0, 8).mapToObj(i -> AddressTestFactory.getAddressString()).toList();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(aliases.size())) {
+            List<Future<?>> writes = aliases.stream()
+                    .map(alias -> executor.submit(() -> keyStoreService.writePrivateKeyToKeystore(VALID_KEY_PAIR, alias)))
+                    .toList();
+
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        }
+
+        // Then
+        for (String alias : aliases) {
+            Assertions.assertEquals(VALID_KEY_PAIR.getPrivate(), keyStoreService.readPrivateKeyFromKeystore(alias), "Every concurrently written key should be readable.");
+        }
     }
 
     @Test
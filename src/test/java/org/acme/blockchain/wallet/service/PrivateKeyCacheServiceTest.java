@@ -0,0 +1,131 @@
+package org.acme.blockchain.wallet.service;
+
+import org.acme.blockchain.common.model.Address;
+import org.acme.blockchain.test_common.factory.AddressTestFactory;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
+import org.acme.blockchain.wallet.utility.KeyPairUtility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PrivateKeyCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private static final Address ADDRESS_ALPHA = AddressTestFactory.getAddress();
+
+    private static final Address ADDRESS_BETA = AddressTestFactory.getAddress();
+
+    private static KeyPair KEY_PAIR;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeAll
+    static void setupAll() {
+        KEY_PAIR = KeyPairUtility.generateKeyPair();
+    }
+
+    @Test
+    void testGet_cached_rebuildsKey() {
+        // Given
+        PrivateKeyCacheService privateKeyCache = new PrivateKeyCacheService(10, TTL, nanos::get);
+        privateKeyCache.put(ADDRESS_ALPHA, KEY_PAIR.getPrivate());
+
+        // When
+        PrivateKey first = privateKeyCache.get(ADDRESS_ALPHA);
+        PrivateKey second = privateKeyCache.get(ADDRESS_ALPHA);
+
+        // Then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertArrayEquals(KEY_PAIR.getPrivate().getEncoded(), first.getEncoded());
+        Assertions.assertArrayEquals(KEY_PAIR.getPrivate().getEncoded(), second.getEncoded());
+    }
+
+    @Test
+    void testGet_ttlElapsed_zeroesKey() {
+        // Given
+        PrivateKeyCacheService privateKeyCache = new PrivateKeyCacheService(10, TTL, nanos::get);
+        privateKeyCache.put(ADDRESS_ALPHA, KEY_PAIR.getPrivate());
+
+        PrivateKeyCacheService.CachedPrivateKey cached = privateKeyCache.getCached(ADDRESS_ALPHA);
+
+        // When
+        nanos.addAndGet(TTL.toNanos() + 1);
+        privateKeyCache.cleanUp();
+
+        // Then
+        Assertions.assertNull(privateKeyCache.get(ADDRESS_ALPHA));
+        Assertions.assertTrue(cached.isDestroyed());
+        Assertions.assertNull(cached.load());
+        assertZeroed(cached);
+    }
+
+    @Test
+    void testPut_maximumSizeExceeded_zeroesEvictedKey() {
+        // Given
+        PrivateKeyCacheService privateKeyCache = new PrivateKeyCacheService(1, TTL, nanos::get);
+        privateKeyCache.put(ADDRESS_ALPHA, KEY_PAIR.getPrivate());
+
+        PrivateKeyCacheService.CachedPrivateKey alpha = privateKeyCache.getCached(ADDRESS_ALPHA);
+
+        // When
+        privateKeyCache.put(ADDRESS_BETA, KEY_PAIR.getPrivate());
+        PrivateKeyCacheService.CachedPrivateKey beta = privateKeyCache.getCached(ADDRESS_BETA);
+        privateKeyCache.cleanUp();
+
+        // Then
+        PrivateKeyCacheService.CachedPrivateKey evicted = alpha.isDestroyed() ? alpha : beta;
+        Address evictedAddress = evicted == alpha ? ADDRESS_ALPHA : ADDRESS_BETA;
+
+        Assertions.assertTrue(evicted.isDestroyed());
+        Assertions.assertNull(privateKeyCache.get(evictedAddress));
+        assertZeroed(evicted);
+    }
+
+    @Test
+    void testInvalidateAll_zeroesEveryKey() {
+        // Given
+        PrivateKeyCacheService privateKeyCache = new PrivateKeyCacheService(10, TTL, nanos::get);
+        privateKeyCache.put(ADDRESS_ALPHA, KEY_PAIR.getPrivate());
+        privateKeyCache.put(ADDRESS_BETA, KEY_PAIR.getPrivate());
+
+        PrivateKeyCacheService.CachedPrivateKey alpha = privateKeyCache.getCached(ADDRESS_ALPHA);
+        PrivateKeyCacheService.CachedPrivateKey beta = privateKeyCache.getCached(ADDRESS_BETA);
+
+        // When
+        privateKeyCache.invalidateAll();
+
+        // Then
+        assertZeroed(alpha);
+        assertZeroed(beta);
+    }
+
+    @Test
+    void testGet_keyRebuiltBeforeRemoval_remainsUsable() {
+        // Given
+        PrivateKeyCacheService privateKeyCache = new PrivateKeyCacheService(10, TTL, nanos::get);
+        privateKeyCache.put(ADDRESS_ALPHA, KEY_PAIR.getPrivate());
+
+        PrivateKey privateKey = privateKeyCache.get(ADDRESS_ALPHA);
+
+        // When
+        privateKeyCache.invalidateAll();
+
+        // Then
+        byte[] message = "message".getBytes();
+        byte[] signature = KeyPairUtility.sign(privateKey, message);
+
+        Assertions.assertTrue(KeyPairUtility.verifySignature(SignatureAlgorithm.DEFAULT, KEY_PAIR.getPublic(), message, signature));
+    }
+
+    private void assertZeroed(PrivateKeyCacheService.CachedPrivateKey cached) {
+        for (byte b : cached.getEncoded()) {
+            Assertions.assertEquals(0, b);
+        }
+    }
+}
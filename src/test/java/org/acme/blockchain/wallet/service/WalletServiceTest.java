@@ -10,15 +10,16 @@ import org.acme.blockchain.test_common.factory.TransactionSignatureTestFactory;
 import org.acme.blockchain.test_common.factory.WalletTestFactory;
 import org.acme.blockchain.transaction.model.TransactionSignature;
 import org.acme.blockchain.wallet.model.WalletModel;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.acme.blockchain.wallet.repository.WalletRepository;
 import org.acme.blockchain.wallet.utility.KeyPairUtility;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.NoDataFoundException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -38,7 +39,15 @@ public class WalletServiceTest {
     @Mock
     KeystoreService keyStoreService;
 
-    @InjectMocks
+    @Mock
+    PublicKeyCacheService publicKeyCache;
+
+    @Mock
+    PrivateKeyCacheService privateKeyCache;
+
+    @Mock
+    KeyPairPoolService keyPairPool;
+
     WalletService walletService;
 
     private static KeyPair VALID_KEY_PAIR;
@@ -49,6 +58,11 @@ public class WalletServiceTest {
         Assertions.assertNotNull(VALID_KEY_PAIR, "Key pair must be generated.");
     }
 
+    @BeforeEach
+    void setUp() {
+        walletService = new WalletService(walletRepository, keyStoreService, publicKeyCache, privateKeyCache, keyPairPool, "ML-DSA-87");
+    }
+
     @Test
     void testCreate_returnsWalletModelAndPersistsKey() throws Exception {
         // Given
@@ -63,7 +77,7 @@ public class WalletServiceTest {
             String address = "COPO_" + hex;
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(blake2b);
@@ -71,7 +85,7 @@ public class WalletServiceTest {
 
             Mockito.when(walletRepository.exists(address)).thenReturn(false);
 
-            WalletModel result = walletService.create();
+            WalletModel result = walletService.create(SignatureAlgorithm.ML_DSA_87);
 
             // Then
             Mockito.verify(walletRepository, Mockito.times(1)).exists(address);
@@ -85,14 +99,33 @@ public class WalletServiceTest {
         }
     }
 
+    @Test
+    void testCreate_noSignatureAlgorithm_usesConfiguredDefault() {
+        // Given
+        walletService = new WalletService(walletRepository, keyStoreService, publicKeyCache, privateKeyCache, keyPairPool, "ML-DSA-44");
+
+        KeyPair keyPair = KeyPairUtility.generateKeyPair(SignatureAlgorithm.ML_DSA_44);
+
+        // When
+        Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_44)).thenReturn(keyPair);
+
+        WalletModel result = walletService.create();
+
+        // Then
+        Assertions.assertEquals(SignatureAlgorithm.ML_DSA_44, result.signatureAlgorithm());
+
+        Mockito.verify(keyPairPool, Mockito.times(1)).take(SignatureAlgorithm.ML_DSA_44);
+        Mockito.verify(keyStoreService, Mockito.times(1)).writePrivateKeyToKeystore(keyPair, result.address().value());
+    }
+
     @Test
     void testCreate_keyPairGenerationFailure_throwsCryptographicException() {
         // When
         try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenThrow(CryptographicException.class);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenThrow(CryptographicException.class);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(), "Exception should be thrown in the event of a keypair generation failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a keypair generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -107,10 +140,10 @@ public class WalletServiceTest {
              MockedStatic<HashUtility> hashUtilityMock = Mockito.mockStatic(HashUtility.class)) {
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             // Then
-            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(), "Exception should be thrown in the event of a address generation failure.");
+            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a address generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -127,12 +160,12 @@ public class WalletServiceTest {
             byte[] publicKeyEncoded = VALID_KEY_PAIR.getPublic().getEncoded();
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenThrow(CryptographicException.class);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(), "Exception should be thrown in the event of a address generation failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a address generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -149,12 +182,12 @@ public class WalletServiceTest {
             byte[] publicKeyEncoded = VALID_KEY_PAIR.getPublic().getEncoded();
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(null);
 
             // Then
-            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(), "Exception should be thrown in the event of a address generation failure.");
+            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a address generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -172,13 +205,13 @@ public class WalletServiceTest {
             byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(publicKeyEncoded);
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenThrow(CryptographicException.class);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(), "Exception should be thrown in the event of a address generation failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a address generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -196,13 +229,13 @@ public class WalletServiceTest {
             byte[] sha256 = MessageDigest.getInstance("SHA-256").digest(publicKeyEncoded);
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(null);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(null);
 
             // Then
-            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(), "Exception should be thrown in the event of a address generation failure.");
+            Assertions.assertThrows(IllegalArgumentException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of a address generation failure.");
 
             Mockito.verify(walletRepository, Mockito.never()).exists(Mockito.any());
             Mockito.verify(keyStoreService, Mockito.never()).writePrivateKeyToKeystore(Mockito.any(), Mockito.any());
@@ -224,7 +257,7 @@ public class WalletServiceTest {
             String address = "COPO_" + hex;
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(blake2b);
@@ -233,7 +266,7 @@ public class WalletServiceTest {
             Mockito.when(walletRepository.exists(address)).thenReturn(true);
 
             // Then
-            Exception thrown = Assertions.assertThrows(IllegalStateException.class, () -> walletService.create(), "Exception should be thrown in the event of an address collision.");
+            Exception thrown = Assertions.assertThrows(IllegalStateException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of an address collision.");
             Assertions.assertEquals("A wallet with this address already exists.", thrown.getMessage());
 
             Mockito.verify(walletRepository, Mockito.times(1)).exists(address);
@@ -256,7 +289,7 @@ public class WalletServiceTest {
             String address = "COPO_" + hex;
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(blake2b);
@@ -266,7 +299,7 @@ public class WalletServiceTest {
             Mockito.doThrow(KeystoreException.class).when(keyStoreService).writePrivateKeyToKeystore(VALID_KEY_PAIR, address);
 
             // Then
-            Assertions.assertThrows(KeystoreException.class, () -> walletService.create(), "Exception should be thrown in the event of keystore failure.");
+            Assertions.assertThrows(KeystoreException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of keystore failure.");
 
             Mockito.verify(walletRepository, Mockito.times(1)).exists(address);
             Mockito.verify(keyStoreService, Mockito.times(1)).writePrivateKeyToKeystore(VALID_KEY_PAIR, address);
@@ -288,7 +321,7 @@ public class WalletServiceTest {
             String address = "COPO_" + hex;
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(blake2b);
@@ -298,7 +331,7 @@ public class WalletServiceTest {
             Mockito.doThrow(CryptographicException.class).when(keyStoreService).writePrivateKeyToKeystore(VALID_KEY_PAIR, address);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(), "Exception should be thrown in the event of keystore failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of keystore failure.");
 
             Mockito.verify(walletRepository, Mockito.times(1)).exists(address);
             Mockito.verify(keyStoreService, Mockito.times(1)).writePrivateKeyToKeystore(VALID_KEY_PAIR, address);
@@ -320,7 +353,7 @@ public class WalletServiceTest {
             String address = "COPO_" + hex;
 
             // When
-            keyPairUtilityMock.when(KeyPairUtility::generateKeyPair).thenReturn(VALID_KEY_PAIR);
+            Mockito.when(keyPairPool.take(SignatureAlgorithm.ML_DSA_87)).thenReturn(VALID_KEY_PAIR);
 
             hashUtilityMock.when(() -> HashUtility.calculateSHA256(publicKeyEncoded)).thenReturn(sha256);
             hashUtilityMock.when(() -> HashUtility.calculateBLAKE2b256(sha256)).thenReturn(blake2b);
@@ -330,7 +363,7 @@ public class WalletServiceTest {
             Mockito.doThrow(DataAccessException.class).when(walletRepository).insert(Mockito.any(WalletModel.class));
 
             // Then
-            Assertions.assertThrows(DataAccessException.class, () -> walletService.create(), "Exception should be thrown in the event of public key persistence failure.");
+            Assertions.assertThrows(DataAccessException.class, () -> walletService.create(SignatureAlgorithm.ML_DSA_87), "Exception should be thrown in the event of public key persistence failure.");
 
             Mockito.verify(walletRepository, Mockito.times(1)).exists(address);
             Mockito.verify(keyStoreService, Mockito.times(1)).writePrivateKeyToKeystore(VALID_KEY_PAIR, address);
@@ -405,6 +438,32 @@ public class WalletServiceTest {
             Assertions.assertNotNull(signature);
 
             Mockito.verify(keyStoreService, Mockito.times(1)).readPrivateKeyFromKeystore(address.value());
+            Mockito.verify(privateKeyCache, Mockito.times(1)).put(address, VALID_KEY_PAIR.getPrivate());
+        }
+    }
+
+    @Test
+    void testSign_cachedPrivateKey_skipsKeystore() {
+        // Given
+        Address address = AddressTestFactory.getAddress();
+
+        String message = "message";
+
+        byte[] signatureAsBytes = TransactionSignatureTestFactory.getTransactionSignatureBytes();
+
+        // When
+        try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
+
+            Mockito.when(privateKeyCache.get(address)).thenReturn(VALID_KEY_PAIR.getPrivate());
+
+            keyPairUtilityMock.when(() -> KeyPairUtility.sign(Mockito.eq(VALID_KEY_PAIR.getPrivate()), Mockito.any())).thenReturn(signatureAsBytes);
+
+            TransactionSignature signature = walletService.sign(address, message);
+
+            // Then
+            Assertions.assertNotNull(signature);
+
+            Mockito.verify(keyStoreService, Mockito.never()).readPrivateKeyFromKeystore(address.value());
         }
     }
 
@@ -474,6 +533,8 @@ public class WalletServiceTest {
     @Test
     void testVerifySignature_returnsTrue() {
         // Given
+        Address address = AddressTestFactory.getAddress();
+
         String message = "message";
 
         TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
@@ -482,9 +543,9 @@ public class WalletServiceTest {
         try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
             
             keyPairUtilityMock.when(() -> KeyPairUtility.loadPublicKey(VALID_KEY_PAIR.getPublic().getEncoded())).thenReturn(VALID_KEY_PAIR.getPublic());
-            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenReturn(true);
+            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenReturn(true);
 
-            boolean isValid = walletService.verifySignature(VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
+            boolean isValid = walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
 
             // Then
             Assertions.assertTrue(isValid);
@@ -494,6 +555,8 @@ public class WalletServiceTest {
     @Test
     void testVerifySignature_returnsFalse() {
         // Given
+        Address address = AddressTestFactory.getAddress();
+
         String message = "message";
 
         TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
@@ -502,9 +565,9 @@ public class WalletServiceTest {
         try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
 
             keyPairUtilityMock.when(() -> KeyPairUtility.loadPublicKey(VALID_KEY_PAIR.getPublic().getEncoded())).thenReturn(VALID_KEY_PAIR.getPublic());
-            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenReturn(false);
+            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenReturn(false);
 
-            boolean isValid = walletService.verifySignature(VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
+            boolean isValid = walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
 
             // Then
             Assertions.assertFalse(isValid);
@@ -514,6 +577,8 @@ public class WalletServiceTest {
     @Test
     void testVerifySignature_loadPublicKeyFailure_throwsCryptographicException() {
         // Given
+        Address address = AddressTestFactory.getAddress();
+
         String message = "message";
 
         TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
@@ -524,13 +589,15 @@ public class WalletServiceTest {
             keyPairUtilityMock.when(() -> KeyPairUtility.loadPublicKey(VALID_KEY_PAIR.getPublic().getEncoded())).thenThrow(CryptographicException.class);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.verifySignature(VALID_KEY_PAIR.getPublic().getEncoded(), message, signature), "Exception should be thrown in the event of public key loading failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature), "Exception should be thrown in the event of public key loading failure.");
         }
     }
 
     @Test
     void testVerifySignature_verificationFailure_throwsCryptographicException() {
         // Given
+        Address address = AddressTestFactory.getAddress();
+
         String message = "message";
 
         TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
@@ -539,10 +606,10 @@ public class WalletServiceTest {
         try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
 
             keyPairUtilityMock.when(() -> KeyPairUtility.loadPublicKey(VALID_KEY_PAIR.getPublic().getEncoded())).thenReturn(VALID_KEY_PAIR.getPublic());
-            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenThrow(CryptographicException.class);
+            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenThrow(CryptographicException.class);
 
             // Then
-            Assertions.assertThrows(CryptographicException.class, () -> walletService.verifySignature(VALID_KEY_PAIR.getPublic().getEncoded(), message, signature), "Exception should be thrown in the event of verification failure.");
+            Assertions.assertThrows(CryptographicException.class, () -> walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature), "Exception should be thrown in the event of verification failure.");
         }
     }
 
@@ -562,6 +629,66 @@ public class WalletServiceTest {
         Assertions.assertArrayEquals(keyBytes, publicKeyEncoded);
     }
 
+    @Test
+    void testGetPublicKeyEncoded_cachedPublicKey_skipsRepository() {
+        // Given
+        Address address = AddressTestFactory.getAddress();
+
+        byte[] keyBytes = VALID_KEY_PAIR.getPublic().getEncoded();
+
+        // When
+        Mockito.when(publicKeyCache.get(address)).thenReturn(new PublicKeyCacheService.CachedPublicKey(keyBytes, VALID_KEY_PAIR.getPublic()));
+
+        byte[] publicKeyEncoded = walletService.getPublicKeyEncoded(address);
+
+        // Then
+        Assertions.assertArrayEquals(keyBytes, publicKeyEncoded);
+
+        Mockito.verify(walletRepository, Mockito.never()).retrievePublicKeyByAddress(address.value());
+    }
+
+    @Test
+    void testVerifySignature_withSenderAddress_foreignPublicKey_doesNotCachePublicKey() {
+        // Given
+        Address address = AddressTestFactory.getAddress();
+
+        String message = "message";
+
+        TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
+
+        // When
+        try (MockedStatic<KeyPairUtility> keyPairUtilityMock = Mockito.mockStatic(KeyPairUtility.class)) {
+
+            keyPairUtilityMock.when(() -> KeyPairUtility.loadPublicKey(VALID_KEY_PAIR.getPublic().getEncoded())).thenReturn(VALID_KEY_PAIR.getPublic());
+            keyPairUtilityMock.when(() -> KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), message.getBytes(StandardCharsets.UTF_8), signature.toBytes())).thenReturn(true);
+
+            boolean isValid = walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
+
+            // Then
+            Assertions.assertTrue(isValid);
+
+            Mockito.verify(publicKeyCache, Mockito.never()).put(Mockito.any(), Mockito.any(), Mockito.any());
+        }
+    }
+
+    @Test
+    void testVerifySignature_withSenderAddress_signatureAlgorithmMismatch_returnsFalse() {
+        // Given
+        Address address = AddressTestFactory.getAddress();
+
+        String message = "message";
+
+        TransactionSignature signature = TransactionSignatureTestFactory.getTransactionSignature();
+
+        // When
+        boolean isValid = walletService.verifySignature(address, SignatureAlgorithm.ML_DSA_44, VALID_KEY_PAIR.getPublic().getEncoded(), message, signature);
+
+        // Then
+        Assertions.assertFalse(isValid);
+
+        Mockito.verifyNoInteractions(publicKeyCache);
+    }
+
     @Test
     void testGetPublicKeyEncoded_addressNotFound_throwsNotFoundException() {
         // Given
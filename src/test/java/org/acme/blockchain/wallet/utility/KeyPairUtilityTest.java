@@ -2,6 +2,7 @@ package org.acme.blockchain.wallet.utility;
 
 import org.acme.blockchain.common.exception.CryptographicException;
 import org.acme.blockchain.common.utility.HashUtility;
+import org.acme.blockchain.wallet.model.enumeration.SignatureAlgorithm;
 import org.bouncycastle.jcajce.spec.MLDSAParameterSpec;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -11,8 +12,14 @@ import java.math.BigInteger;
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class KeyPairUtilityTest {
 
@@ -68,7 +75,7 @@ public class KeyPairUtilityTest {
         String signatureHex = HashUtility.bytesToHex(signatureBytes);
 
         // Then
-        Assertions.assertTrue(KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), unsignedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must succeed with the correct key and message.");
+        Assertions.assertTrue(KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), unsignedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must succeed with the correct key and message.");
     }
 
     @Test
@@ -82,7 +89,7 @@ public class KeyPairUtilityTest {
         String signatureHex = HashUtility.bytesToHex(signatureBytes);
 
         // Then
-        Assertions.assertFalse(KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), tamperedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must fail when the message is modified.");
+        Assertions.assertFalse(KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), tamperedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must fail when the message is modified.");
     }
 
     @Test
@@ -97,7 +104,7 @@ public class KeyPairUtilityTest {
         String signatureHex = HashUtility.bytesToHex(signatureBytes);
 
         // Then
-        Assertions.assertFalse(KeyPairUtility.verifySignature(wrongKeyPair.getPublic(), unsignedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must fail when using a different public key.");
+        Assertions.assertFalse(KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, wrongKeyPair.getPublic(), unsignedMessage, HashUtility.hexToBytes(signatureHex)), "Verification must fail when using a different public key.");
     }
 
     @Test
@@ -108,7 +115,82 @@ public class KeyPairUtilityTest {
         byte[] unsignedMessage = new byte[]{};
 
         // When & Then
-        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyPairUtility.verifySignature(VALID_KEY_PAIR.getPublic(), unsignedMessage, HashUtility.hexToBytes(badHexSignature)), "Exception should be thrown in the event of malformed hex signature.");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), unsignedMessage, HashUtility.hexToBytes(badHexSignature)), "Exception should be thrown in the event of malformed hex signature.");
+    }
+
+    @Test
+    void testVerifySignature_repeated_reusesPooledSignature() {
+        // Given
+        byte[] unsignedMessage = new byte[]{1, 2, 3};
+        byte[] signature = KeyPairUtility.sign(VALID_KEY_PAIR.getPrivate(), unsignedMessage);
+
+        KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), unsignedMessage, signature);
+        int idle = KeyPairUtility.getIdleSignatureCount(SignatureAlgorithm.ML_DSA_87);
+
+        // When
+        boolean isValid = KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), unsignedMessage, signature);
+
+        // Then
+        Assertions.assertTrue(isValid);
+        Assertions.assertTrue(idle >= 1, "A successful verification must return its signature to the pool.");
+        Assertions.assertEquals(idle, KeyPairUtility.getIdleSignatureCount(SignatureAlgorithm.ML_DSA_87));
+    }
+
+    @Test
+    void testVerifySignature_failedInitialisation_doesNotReturnSignatureToPool() {
+        // Given
+        byte[] unsignedMessage = new byte[]{1, 2, 3};
+        byte[] signature = KeyPairUtility.sign(VALID_KEY_PAIR.getPrivate(), unsignedMessage);
+
+        KeyPair otherKeyPair = KeyPairUtility.generateKeyPair(SignatureAlgorithm.ML_DSA_44);
+        byte[] otherSignature = KeyPairUtility.sign(otherKeyPair.getPrivate(), unsignedMessage);
+        KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_44, otherKeyPair.getPublic(), unsignedMessage, otherSignature);
+
+        int idle = KeyPairUtility.getIdleSignatureCount(SignatureAlgorithm.ML_DSA_44);
+
+        // When
+        Assertions.assertThrows(CryptographicException.class, () -> KeyPairUtility.verifySignature(
+                SignatureAlgorithm.ML_DSA_44, VALID_KEY_PAIR.getPublic(), unsignedMessage, signature));
+
+        // Then
+        Assertions.assertEquals(idle - 1, KeyPairUtility.getIdleSignatureCount(SignatureAlgorithm.ML_DSA_44),
+                "A signature involved in a failed operation must not be returned to the pool.");
+        Assertions.assertTrue(KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_44, otherKeyPair.getPublic(), unsignedMessage, otherSignature),
+                "Signatures left in the pool must still be usable.");
+    }
+
+    @Test
+    void testSignAndVerifySignature_concurrent_allSucceed() throws Exception {
+        // Given
+        int threads = 8;
+        int iterations = 20;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                byte[] unsignedMessage = new byte[]{(byte) t};
+
+                results.add(executor.submit(() -> {
+                    start.await();
+                    boolean isValid = true;
+
+                    for (int i = 0; i < iterations; i++) {
+                        byte[] signature = KeyPairUtility.sign(VALID_KEY_PAIR.getPrivate(), unsignedMessage);
+                        isValid &= KeyPairUtility.verifySignature(SignatureAlgorithm.ML_DSA_87, VALID_KEY_PAIR.getPublic(), unsignedMessage, signature);
+                    }
+                    return isValid;
+                }));
+            }
+
+            start.countDown();
+
+            // Then
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(), "Every signature must verify when signing and verifying concurrently.");
+            }
+        }
     }
 
     @Test